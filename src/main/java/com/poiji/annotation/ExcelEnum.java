@@ -0,0 +1,33 @@
+package com.poiji.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies how cell values are read as constants of the annotated enum.
+ * <p>
+ * Example:
+ * <pre>
+ * {@literal @}ExcelEnum(ignoreCase = true)
+ * public enum Status {
+ *     ACTIVE,
+ *     {@literal @}ExcelEnumAlias({"Closed", "Done"})
+ *     INACTIVE
+ * }
+ * </pre>
+ *
+ * @see ExcelEnumAlias
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface ExcelEnum {
+
+    /**
+     * Set true to read names and aliases of the constants regardless of case, otherwise false
+     */
+    boolean ignoreCase() default false;
+}
@@ -0,0 +1,24 @@
+package com.poiji.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies cell values, besides the name of the annotated enum constant, which are read as the constant.
+ * The constant is still saved by its name.
+ *
+ * @see ExcelEnum
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Documented
+public @interface ExcelEnumAlias {
+
+    /**
+     * @return cell values read as the constant
+     */
+    String[] value();
+}
@@ -1,5 +1,6 @@
 package com.poiji.bind;
 
+import com.poiji.bind.mapping.ReadContext;
 import com.poiji.bind.mapping.UnmarshallerHelper;
 import com.poiji.exception.InvalidExcelFileExtension;
 import com.poiji.exception.PoijiExcelType;
@@ -8,12 +9,19 @@ import com.poiji.option.PoijiOptions;
 import org.apache.poi.ss.usermodel.Sheet;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class FromExcel<T> {
@@ -22,36 +30,82 @@ public class FromExcel<T> {
     private PoijiOptions options;
     private Class<T> javaType;
     private Consumer<? super T> consumer;
+    private Predicate<String> sheetFilter;
+    private int sheetThreads = Runtime.getRuntime().availableProcessors();
+    private boolean parallelBinding;
+    private boolean orderedBinding = true;
+    private ForkJoinPool bindingPool;
+    private ReadContext readContext;
 
     public void toConsume() {
         validate();
         if (consumer == null) {
             throw new PoijiException("Consumer must be set");
         }
-        source.getDeserializer(options).unmarshal(javaType, consumer);
+        if (parallelBinding) {
+            inBindingPool(() -> {
+                try (Stream<T> stream = deserializer().bindingStream(javaType).parallel()) {
+                    if (orderedBinding) {
+                        stream.forEachOrdered(consumer);
+                    } else {
+                        stream.forEach(consumer);
+                    }
+                }
+                return null;
+            });
+            return;
+        }
+        deserializer().unmarshal(javaType, consumer);
     }
 
     public List<T> toList() {
         validate();
-        final List<T> result = new ArrayList<>();
+        if (parallelBinding) {
+            return inBindingPool(() -> {
+                try (Stream<T> stream = toStream()) {
+                    return stream.collect(Collectors.toList());
+                }
+            });
+        }
+        final ArrayList<T> result = new ArrayList<>();
         if (consumer == null) {
             consumer = result::add;
         } else {
             consumer = consumer.andThen(o -> result.add((T) o));
         }
-        toConsume();
+        deserializer().unmarshal(javaType, consumer, result::ensureCapacity);
         return result;
     }
 
     public List<String> readSheetNames() {
         validateSource();
         validateOptions();
-        return source.getDeserializer(options).readSheetNames();
+        return deserializer().readSheetNames();
     }
 
+    /**
+     * Describes the sheets without reading their rows. Of an excel file ending with xlsx only the workbook part and
+     * the head of each sheet part are read, the rows of a sheet are counted only if its dimension is not stated.
+     */
+    public List<SheetInfo> readSheetInfos() {
+        validateSource();
+        validateOptions();
+        return deserializer().readSheetInfos();
+    }
+
+    /**
+     * With {@link #withParallelBinding()} the stream is parallel, and its terminal operation binds the rows in
+     * the pool it is called from.
+     */
     public Stream<T> toStream() {
         validate();
-        final Stream<T> stream = source.getDeserializer(options).stream(javaType);
+        final Stream<T> stream;
+        if (parallelBinding) {
+            final Stream<T> parallel = deserializer().bindingStream(javaType).parallel();
+            stream = orderedBinding ? parallel : parallel.unordered();
+        } else {
+            stream = deserializer().stream(javaType);
+        }
         if (consumer != null) {
             return stream.peek(consumer);
         } else {
@@ -59,6 +113,58 @@ public class FromExcel<T> {
         }
     }
 
+    /**
+     * Reads the sheets chosen with {@link #withSheets(Predicate)}. Only xlsx sources are supported. With an executor
+     * in the options the sheets are read concurrently on it, see {@link #withSheetThreads(int)}, otherwise one after
+     * another by the thread consuming the stream. The stream must be closed after use.
+     */
+    public Stream<SheetItem<T>> toSheetStream() {
+        validate();
+        if (sheetFilter == null) {
+            throw new PoijiException("Sheets must be set");
+        }
+        final Stream<SheetItem<T>> stream =
+            deserializer().streamSheets(javaType, sheetFilter, sheetThreads);
+        if (consumer != null) {
+            return stream.peek(sheetItem -> consumer.accept(sheetItem.getItem()));
+        } else {
+            return stream;
+        }
+    }
+
+    /**
+     * Reads the sheets chosen with {@link #withSheets(Predicate)}, same as {@link #toSheetStream()}. Only xlsx sources
+     * are supported.
+     *
+     * @return instances of each sheet by sheet name, in the order of the workbook. Sheets without instances are
+     * omitted.
+     */
+    public Map<String, List<T>> toSheetLists() {
+        final Map<Integer, String> names = new TreeMap<>();
+        final Map<String, List<T>> lists = new LinkedHashMap<>();
+        try (Stream<SheetItem<T>> stream = toSheetStream()) {
+            stream.forEachOrdered(sheetItem -> {
+                names.put(sheetItem.getSheetIndex(), sheetItem.getSheetName());
+                lists.computeIfAbsent(sheetItem.getSheetName(), name -> new ArrayList<>()).add(sheetItem.getItem());
+            });
+        }
+        final Map<String, List<T>> result = new LinkedHashMap<>();
+        names.values().forEach(name -> result.put(name, lists.get(name)));
+        return result;
+    }
+
+    private Unmarshaller deserializer() {
+        final Unmarshaller unmarshaller = source.getDeserializer(options);
+        return readContext == null ? unmarshaller : unmarshaller.withReadContext(readContext);
+    }
+
+    private <R> R inBindingPool(final Supplier<R> task) {
+        if (bindingPool == null) {
+            return task.get();
+        }
+        return bindingPool.submit(task::get).join();
+    }
+
     private void validate() {
         validateSource();
         validateJavaType();
@@ -98,6 +204,77 @@ public class FromExcel<T> {
         return this;
     }
 
+    /**
+     * Chooses the visible sheets read by {@link #toSheetStream()} and {@link #toSheetLists()} by name.
+     */
+    public FromExcel<T> withSheets(final Predicate<String> sheetFilter) {
+        this.sheetFilter = sheetFilter;
+        return this;
+    }
+
+    public FromExcel<T> withSheets(final Pattern sheetNamePattern) {
+        return withSheets(name -> sheetNamePattern.matcher(name).matches());
+    }
+
+    public FromExcel<T> withAllSheets() {
+        return withSheets(name -> true);
+    }
+
+    /**
+     * Sets the maximum count of sheets read at once on the executor of the options. Default is the count of available
+     * processors. Without an executor the sheets are read one at a time.
+     */
+    public FromExcel<T> withSheetThreads(final int sheetThreads) {
+        if (sheetThreads < 1) {
+            throw new PoijiException("Sheet threads must be positive");
+        }
+        this.sheetThreads = sheetThreads;
+        return this;
+    }
+
+    /**
+     * Casts the cells and creates the instances on the threads of a fork/join pool, while the rows are read on one
+     * thread. The consumer may then be called from several threads at once, except by {@link #toConsume()} with
+     * ordered output.
+     * <p>
+     * The instances come in the order of the rows: {@link #toList()} lists them in that order, {@link #toConsume()}
+     * passes them to the consumer one at a time in that order and {@link #toStream()} returns an ordered stream. The
+     * bound rows which are ahead of the next row in order are buffered, see {@link #withUnorderedBinding()}.
+     */
+    public FromExcel<T> withParallelBinding() {
+        this.parallelBinding = true;
+        return this;
+    }
+
+    /**
+     * Lets the instances of {@link #withParallelBinding() parallel binding} come in any order. The rows are not
+     * buffered then: {@link #toList()} lists the instances as they are bound, {@link #toConsume()} calls the consumer
+     * from the binding threads at once and {@link #toStream()} returns an unordered stream. Without parallel binding
+     * the rows are read one by one, so they come in order anyway.
+     */
+    public FromExcel<T> withUnorderedBinding() {
+        this.orderedBinding = false;
+        return this;
+    }
+
+    /**
+     * Sets the pool which binds the rows of {@link #toList()} and {@link #toConsume()} with parallel binding.
+     * Default is the common pool.
+     */
+    public FromExcel<T> withBindingPool(final ForkJoinPool bindingPool) {
+        this.bindingPool = Objects.requireNonNull(bindingPool);
+        return this;
+    }
+
+    /**
+     * Sets the context which gets the cast errors and the cell formats of the read, instead of the casting and the
+     * format log of the options. Then the options can be shared by any count of reads, also at once.
+     */
+    public FromExcel<T> withReadContext(final ReadContext readContext) {
+        this.readContext = Objects.requireNonNull(readContext);
+        return this;
+    }
+
     public FromExcel<T> withSource(final File file) {
         this.source = new FileSource(file);
         return this;
@@ -113,6 +290,17 @@ public class FromExcel<T> {
         return this;
     }
 
+    /**
+     * Reads the opened workbook, with its options unless other options are set.
+     */
+    public FromExcel<T> withSource(final PoijiWorkbook workbook) {
+        this.source = new WorkbookSource(workbook);
+        if (options == null) {
+            options = workbook.getOptions();
+        }
+        return this;
+    }
+
     private interface Source {
         Unmarshaller getDeserializer(final PoijiOptions options);
     }
@@ -131,6 +319,20 @@ public class FromExcel<T> {
         }
     }
 
+    private static class WorkbookSource implements Source {
+
+        private final PoijiWorkbook workbook;
+
+        public WorkbookSource(final PoijiWorkbook workbook) {
+            this.workbook = workbook;
+        }
+
+        @Override
+        public Unmarshaller getDeserializer(final PoijiOptions options) {
+            return workbook.getDeserializer(options);
+        }
+    }
+
     private static class InputStreamSource implements Source {
 
         private final InputStream inputStream;
@@ -173,21 +375,16 @@ public class FromExcel<T> {
         @Override
         public Unmarshaller getDeserializer(final PoijiOptions options) {
             final PoijiFile<?> poijiFile = new PoijiFile<>(file);
-            try {
-                switch (excelType) {
-                    case XLS:
-                        return UnmarshallerHelper.HSSFInstance(poijiFile, options);
-                    case XLSX:
-                        return UnmarshallerHelper.XSSFInstance(poijiFile, options);
-                    case CSV:
-                        return UnmarshallerHelper.csvInstance(
-                            new PoijiInputStream<>(new FileInputStream(poijiFile.file())), options);
-                    default:
-                        throw new InvalidExcelFileExtension(
-                            "Invalid file extension (" + excelType + "), excepted .xls or .xlsx or .csv");
-                }
-            } catch (FileNotFoundException e) {
-                throw new PoijiException(e.getMessage(), e);
+            switch (excelType) {
+                case XLS:
+                    return UnmarshallerHelper.HSSFInstance(poijiFile, options);
+                case XLSX:
+                    return UnmarshallerHelper.XSSFInstance(poijiFile, options);
+                case CSV:
+                    return UnmarshallerHelper.csvInstance(poijiFile, options);
+                default:
+                    throw new InvalidExcelFileExtension(
+                        "Invalid file extension (" + excelType + "), excepted .xls or .xlsx or .csv");
             }
         }
 
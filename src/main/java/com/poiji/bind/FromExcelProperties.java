@@ -51,6 +51,11 @@ public class FromExcelProperties<T> {
         return this;
     }
 
+    public FromExcelProperties<T> withSource(final PoijiWorkbook workbook) {
+        this.source = new WorkbookSource(workbook);
+        return this;
+    }
+
     public T get() {
         validate();
         return source.getPropertyUnmarshaller(options).unmarshal(javaType);
@@ -83,6 +88,26 @@ public class FromExcelProperties<T> {
 
     }
 
+    private static class WorkbookSource implements Source{
+
+        private final PoijiWorkbook workbook;
+
+        public WorkbookSource(final PoijiWorkbook workbook) {
+            this.workbook = workbook;
+        }
+
+        @Override
+        public PropertyUnmarshaller getPropertyUnmarshaller(final PoijiOptions options){
+            return workbook.getPropertyUnmarshaller();
+        }
+
+        @Override
+        public boolean hasProperties() {
+            return true;
+        }
+
+    }
+
     private static class InputStreamSource implements Source{
 
         private final InputStream inputStream;
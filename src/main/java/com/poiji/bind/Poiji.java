@@ -1,5 +1,6 @@
 package com.poiji.bind;
 
+import com.poiji.bind.mapping.UnmarshallerHelper;
 import com.poiji.exception.IllegalCastException;
 import com.poiji.exception.InvalidExcelFileExtension;
 import com.poiji.exception.PoijiExcelType;
@@ -456,6 +457,63 @@ public final class Poiji {
         Poiji.<T>toExcel().withJavaType(clazz).withSource(data).withDestination(outputStream, excelType).withOptions(options).save();
     }
 
+    /**
+     * opens an excel file to be read any count of times
+     *
+     * @param file excel file ending with .xlsx.
+     * @return the opened workbook, which must be closed after use
+     * @throws PoijiException            if an internal exception occurs while the file is opened.
+     * @throws InvalidExcelFileExtension if the specified excel file extension is invalid.
+     * @see Poiji#openWorkbook(File, PoijiOptions)
+     */
+    public static PoijiWorkbook openWorkbook(final File file) {
+        return openWorkbook(file, PoijiOptions.PoijiOptionsBuilder.settings().build());
+    }
+
+    /**
+     * opens an excel file to be read any count of times
+     *
+     * @param file    excel file ending with .xlsx.
+     * @param options specifies to change the default behaviour of the poiji. The password, the shared strings and the
+     *                number formats are used by all reads of the workbook, the other options only by the reads which do
+     *                not set their own options.
+     * @return the opened workbook, which must be closed after use
+     * @throws PoijiException            if an internal exception occurs while the file is opened.
+     * @throws InvalidExcelFileExtension if the specified excel file extension is invalid.
+     * @see PoijiWorkbook
+     */
+    public static PoijiWorkbook openWorkbook(final File file, final PoijiOptions options) {
+        validateWorkbookType(PoijiExcelType.fromFileName(file.toString()));
+        return new PoijiWorkbook(UnmarshallerHelper.XSSFSession(new PoijiFile<>(file), options), options);
+    }
+
+    /**
+     * opens an excel file stream to be read any count of times
+     *
+     * @param inputStream excel file stream, read at once
+     * @param excelType   type of the excel file, xlsx only!
+     * @param options     specifies to change the default behaviour of the poiji. The password, the shared strings and
+     *                    the number formats are used by all reads of the workbook, the other options only by the reads
+     *                    which do not set their own options.
+     * @return the opened workbook, which must be closed after use
+     * @throws PoijiException            if an internal exception occurs while the stream is read.
+     * @throws InvalidExcelFileExtension if the specified excel file extension is invalid.
+     * @see PoijiWorkbook
+     */
+    public static PoijiWorkbook openWorkbook(
+        final InputStream inputStream, final PoijiExcelType excelType, final PoijiOptions options
+    ) {
+        validateWorkbookType(excelType);
+        return new PoijiWorkbook(UnmarshallerHelper.XSSFSession(new PoijiInputStream<>(inputStream), options), options);
+    }
+
+    private static void validateWorkbookType(final PoijiExcelType excelType) {
+        if (excelType != PoijiExcelType.XLSX) {
+            throw new InvalidExcelFileExtension(
+                "Invalid file extension (" + excelType + "), excepted .xlsx");
+        }
+    }
+
     public static <T> ToExcel<T> toExcel(){
         return new ToExcel<>();
     }
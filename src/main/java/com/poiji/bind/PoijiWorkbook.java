@@ -0,0 +1,55 @@
+package com.poiji.bind;
+
+import com.poiji.bind.mapping.XSSFWorkbookSession;
+import com.poiji.option.PoijiOptions;
+
+import java.io.Closeable;
+
+/**
+ * Excel file ending with xlsx, opened once to be read any count of times with {@link FromExcel#withSource(PoijiWorkbook)}
+ * and {@link FromExcelProperties#withSource(PoijiWorkbook)}.
+ * <p>
+ * The file is decrypted, and its shared strings, styles and sheets are read only when it is opened, with the password,
+ * the shared strings and the number formats of the options it is opened with. The reads may run at once on several
+ * threads. The workbook must be closed once its reads are done and its streams are closed.
+ * <p>
+ * Example:
+ * <pre>
+ * try (PoijiWorkbook workbook = Poiji.openWorkbook(new File("intake.xlsx"))) {
+ *     {@literal List<Employee>} employees = Poiji.{@literal <Employee>}fromExcel().withSource(workbook)
+ *         .withJavaType(Employee.class).toList();
+ *     {@literal List<Order>} orders = Poiji.{@literal <Order>}fromExcel().withSource(workbook)
+ *         .withJavaType(Order.class).toList();
+ * }
+ * </pre>
+ */
+public final class PoijiWorkbook implements Closeable {
+
+    private final XSSFWorkbookSession session;
+    private final PoijiOptions options;
+
+    PoijiWorkbook(final XSSFWorkbookSession session, final PoijiOptions options) {
+        this.session = session;
+        this.options = options;
+    }
+
+    /**
+     * @return options the workbook is opened with, which are the options of its reads unless they set their own
+     */
+    public PoijiOptions getOptions() {
+        return options;
+    }
+
+    Unmarshaller getDeserializer(final PoijiOptions options) {
+        return session.unmarshaller(options);
+    }
+
+    PropertyUnmarshaller getPropertyUnmarshaller() {
+        return session.propertyUnmarshaller();
+    }
+
+    @Override
+    public void close() {
+        session.close();
+    }
+}
@@ -0,0 +1,122 @@
+package com.poiji.bind;
+
+import java.util.Objects;
+
+/**
+ * Sheet of a workbook described without reading its rows.
+ */
+public final class SheetInfo {
+
+    /**
+     * Count of rows or columns which is not known without reading the rows.
+     */
+    public static final int UNKNOWN = -1;
+
+    private final String sheetName;
+    private final int sheetIndex;
+    private final String state;
+    private final String partName;
+    private final String dimension;
+    private final int rowCount;
+    private final int columnCount;
+
+    public SheetInfo(
+        final String sheetName, final int sheetIndex, final String state, final String partName,
+        final String dimension, final int rowCount, final int columnCount
+    ) {
+        this.sheetName = sheetName;
+        this.sheetIndex = sheetIndex;
+        this.state = state;
+        this.partName = partName;
+        this.dimension = dimension;
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * @return index of the sheet in the workbook, hidden sheets included
+     */
+    public int getSheetIndex() {
+        return sheetIndex;
+    }
+
+    /**
+     * @return visible, hidden or veryHidden
+     */
+    public String getState() {
+        return state;
+    }
+
+    public boolean isVisible() {
+        return "visible".equals(state);
+    }
+
+    /**
+     * @return name of the part of the package the sheet is kept in, or null if the file is not an excel file ending
+     * with xlsx
+     */
+    public String getPartName() {
+        return partName;
+    }
+
+    /**
+     * @return range of the used cells as the file states it, like A1:D10, or null if the file does not state it
+     */
+    public String getDimension() {
+        return dimension;
+    }
+
+    /**
+     * @return estimated count of rows, or {@link #UNKNOWN}
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return estimated count of columns, or {@link #UNKNOWN}
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SheetInfo sheetInfo = (SheetInfo) o;
+        return sheetIndex == sheetInfo.sheetIndex
+            && rowCount == sheetInfo.rowCount
+            && columnCount == sheetInfo.columnCount
+            && Objects.equals(sheetName, sheetInfo.sheetName)
+            && Objects.equals(state, sheetInfo.state)
+            && Objects.equals(partName, sheetInfo.partName)
+            && Objects.equals(dimension, sheetInfo.dimension);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sheetName, sheetIndex, state, partName, dimension, rowCount, columnCount);
+    }
+
+    @Override
+    public String toString() {
+        return "SheetInfo{" +
+            "sheetName='" + sheetName + '\'' +
+            ", sheetIndex=" + sheetIndex +
+            ", state='" + state + '\'' +
+            ", partName='" + partName + '\'' +
+            ", dimension='" + dimension + '\'' +
+            ", rowCount=" + rowCount +
+            ", columnCount=" + columnCount +
+            '}';
+    }
+}
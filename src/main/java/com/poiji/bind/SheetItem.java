@@ -0,0 +1,62 @@
+package com.poiji.bind;
+
+import java.util.Objects;
+
+/**
+ * Instance read from one of several sheets, tagged with its sheet.
+ */
+public final class SheetItem<T> {
+
+    private final String sheetName;
+    private final int sheetIndex;
+    private final T item;
+
+    public SheetItem(final String sheetName, final int sheetIndex, final T item) {
+        this.sheetName = sheetName;
+        this.sheetIndex = sheetIndex;
+        this.item = item;
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * @return index of the sheet in the workbook, hidden sheets included
+     */
+    public int getSheetIndex() {
+        return sheetIndex;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SheetItem<?> sheetItem = (SheetItem<?>) o;
+        return sheetIndex == sheetItem.sheetIndex
+            && Objects.equals(sheetName, sheetItem.sheetName)
+            && Objects.equals(item, sheetItem.item);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sheetName, sheetIndex, item);
+    }
+
+    @Override
+    public String toString() {
+        return "SheetItem{" +
+            "sheetName='" + sheetName + '\'' +
+            ", sheetIndex=" + sheetIndex +
+            ", item=" + item +
+            '}';
+    }
+}
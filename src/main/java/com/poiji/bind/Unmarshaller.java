@@ -1,7 +1,13 @@
 package com.poiji.bind;
 
+import com.poiji.bind.mapping.ReadContext;
+import com.poiji.exception.PoijiException;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -13,5 +19,58 @@ public interface Unmarshaller {
 
     <T> Stream<T> stream(Class<T> type);
 
+    /**
+     * Makes the reads log their cast errors and cell formats into the context instead of the casting and the format
+     * log of the options.
+     *
+     * @return this unmarshaller
+     */
+    default Unmarshaller withReadContext(ReadContext context) {
+        throw new PoijiException("Read contexts are not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Same as {@link #unmarshal(Class, Consumer)}, but the estimated count of the instances is passed to the size hint
+     * before the first instance, if it can be known without reading the rows.
+     */
+    default <T> void unmarshal(Class<T> type, Consumer<? super T> consumer, IntConsumer sizeHint) {
+        unmarshal(type, consumer);
+    }
+
     List<String> readSheetNames();
+
+    /**
+     * Describes the sheets of the workbook without reading their rows. The counts of rows and columns are
+     * {@link SheetInfo#UNKNOWN} unless the file states them.
+     */
+    default List<SheetInfo> readSheetInfos() {
+        final List<String> sheetNames = readSheetNames();
+        if (sheetNames == null) {
+            return null;
+        }
+        final List<SheetInfo> result = new ArrayList<>(sheetNames.size());
+        for (final String sheetName : sheetNames) {
+            result.add(new SheetInfo(
+                sheetName, result.size(), "visible", null, null, SheetInfo.UNKNOWN, SheetInfo.UNKNOWN
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #stream(Class)}, but the cells are cast and the instances are created by the stream operations
+     * rather than by the reader. The rows are split off in batches, so a parallel stream binds them on many threads
+     * while the sheet is read on one.
+     */
+    default <T> Stream<T> bindingStream(Class<T> type) {
+        return stream(type);
+    }
+
+    /**
+     * Reads the visible sheets whose names are accepted by the filter concurrently, on at most the given number of
+     * threads. The order of the instances of each sheet is kept, while the instances of different sheets are mixed.
+     */
+    default <T> Stream<SheetItem<T>> streamSheets(Class<T> type, Predicate<String> sheetFilter, int threads) {
+        throw new PoijiException("Reading several sheets at once is supported only for excel files ending with xlsx");
+    }
 }
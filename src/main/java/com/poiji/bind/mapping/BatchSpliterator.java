@@ -0,0 +1,55 @@
+package com.poiji.bind.mapping;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator of a sequential source which splits off fixed size batches, so the elements read on one thread are
+ * processed by the following stream operations on many.
+ */
+final class BatchSpliterator<T> implements Spliterator<T> {
+
+    static final int BATCH_SIZE = 256;
+
+    private final Spliterator<T> source;
+    private final int characteristics;
+
+    BatchSpliterator(final Spliterator<T> source) {
+        this.source = source;
+        this.characteristics = source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        return source.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        source.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final Object[] batch = new Object[BATCH_SIZE];
+        final int[] size = new int[1];
+        while (size[0] < BATCH_SIZE && source.tryAdvance(t -> batch[size[0]++] = t)) {
+            // the batch is filled by the action
+        }
+        if (size[0] == 0) {
+            return null;
+        }
+        return Spliterators.spliterator(batch, 0, size[0], characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
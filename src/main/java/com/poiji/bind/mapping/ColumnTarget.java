@@ -0,0 +1,251 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.config.CastResult;
+import com.poiji.config.CellDecoder;
+import com.poiji.config.RawCellDecoder;
+import com.poiji.exception.ExcelParseException;
+import com.poiji.util.ReflectUtil;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Header resolved destination of a column value.
+ * <p>
+ * Targets of a column are compiled once by {@link ReadMappedFields} and linked with {@link #next}, so every cell is
+ * written straight into its field without looking through the mapping of the entity again.
+ */
+abstract class ColumnTarget {
+
+    /**
+     * Marks a compiled column without targets.
+     */
+    static final ColumnTarget UNMAPPED = new ColumnTarget(null) {
+        @Override
+        void set(final int row, final String content, final Data root) {
+        }
+    };
+
+    final Path path;
+    ColumnTarget next;
+
+    ColumnTarget(final Path path) {
+        this.path = path;
+    }
+
+    abstract void set(int row, String content, Data root);
+
+    /**
+     * @return true if the chain starting with the target has only fields with raw value decoders
+     */
+    static boolean acceptsRaw(final ColumnTarget first) {
+        for (ColumnTarget target = first; target != null; target = target.next) {
+            if (!(target instanceof Cell) || ((Cell) target).rawDecoder == null) {
+                return false;
+            }
+        }
+        return first != null;
+    }
+
+    /**
+     * Writes a raw value through the chain, which must {@link #acceptsRaw accept raw values}.
+     */
+    static void setRaw(
+        final ColumnTarget first, final int row, final char type, final String value, final boolean date1904,
+        final Data root
+    ) {
+        for (ColumnTarget target = first; target != null; target = target.next) {
+            ((Cell) target).setRaw(row, type, value, date1904, root);
+        }
+    }
+
+    static ColumnTarget chain(final List<ColumnTarget> targets) {
+        for (int i = targets.size() - 1; i > 0; i--) {
+            targets.get(i - 1).next = targets.get(i);
+        }
+        return targets.isEmpty() ? null : targets.get(0);
+    }
+
+    /**
+     * Column mapped to a field.
+     */
+    static final class Cell extends ColumnTarget {
+
+        private final FieldSlot slot;
+        private final CellDecoder decoder;
+        private final RawCellDecoder rawDecoder;
+        /**
+         * The decoders which decode the values of a primitive number field unboxed, otherwise null.
+         */
+        private final CellDecoder.OfLong longDecoder;
+        private final CellDecoder.OfDouble doubleDecoder;
+        private final RawCellDecoder.OfLong rawLongDecoder;
+        private final RawCellDecoder.OfDouble rawDoubleDecoder;
+        private final int column;
+        private final List<FieldSlot> excelParseException;
+        private final String errorKey;
+
+        Cell(
+            final Path path, final FieldSlot slot, final CellDecoder decoder, final RawCellDecoder rawDecoder,
+            final int column, final List<FieldSlot> excelParseException, final String errorKey
+        ) {
+            super(path);
+            this.slot = slot;
+            this.decoder = decoder;
+            this.rawDecoder = rawDecoder;
+            final boolean integral = slot.kind == FieldSlot.LONG && Number.class.isAssignableFrom(slot.boxed);
+            final boolean floating = slot.kind == FieldSlot.DOUBLE;
+            this.longDecoder = integral && decoder instanceof CellDecoder.OfLong ? (CellDecoder.OfLong) decoder : null;
+            this.doubleDecoder =
+                floating && decoder instanceof CellDecoder.OfDouble ? (CellDecoder.OfDouble) decoder : null;
+            this.rawLongDecoder =
+                integral && rawDecoder instanceof RawCellDecoder.OfLong ? (RawCellDecoder.OfLong) rawDecoder : null;
+            this.rawDoubleDecoder =
+                floating && rawDecoder instanceof RawCellDecoder.OfDouble ? (RawCellDecoder.OfDouble) rawDecoder : null;
+            this.column = column;
+            this.excelParseException = excelParseException;
+            this.errorKey = errorKey;
+        }
+
+        @Override
+        void set(final int row, final String content, final Data root) {
+            final Data data = path.resolve(row, root);
+            final CastResult result = root.castResult;
+            if (longDecoder != null) {
+                final long value = longDecoder.decodeLong(content, row, column, result);
+                checkError(data, content, result);
+                data.putLong(slot.index, value);
+            } else if (doubleDecoder != null) {
+                final double value = doubleDecoder.decodeDouble(content, row, column, result);
+                checkError(data, content, result);
+                data.putDouble(slot.index, value);
+            } else {
+                put(data, content, decoder.decode(content, row, column, result), result);
+            }
+        }
+
+        private void setRaw(final int row, final char type, final String value, final boolean date1904, final Data root) {
+            final Data data = path.resolve(row, root);
+            final CastResult result = root.castResult;
+            if (rawLongDecoder != null) {
+                final long decoded = rawLongDecoder.decodeLong(type, value, date1904, row, column, result);
+                checkError(data, value, result);
+                data.putLong(slot.index, decoded);
+            } else if (rawDoubleDecoder != null) {
+                final double decoded = rawDoubleDecoder.decodeDouble(type, value, date1904, row, column, result);
+                checkError(data, value, result);
+                data.putDouble(slot.index, decoded);
+            } else {
+                put(data, value, rawDecoder.decode(type, value, date1904, row, column, result), result);
+            }
+        }
+
+        private void put(final Data data, final String content, final Object o, final CastResult result) {
+            checkError(data, content, result);
+            data.put(slot, o);
+        }
+
+        private void checkError(final Data data, final String content, final CastResult result) {
+            if (!excelParseException.isEmpty()) {
+                final Exception exception = result.getException();
+                if (exception != null) {
+                    setExcelError(content, data, exception);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setExcelError(final String content, final Data data, final Exception exception) {
+            for (final FieldSlot errorField : excelParseException) {
+                Map<String, ExcelParseException> map = (Map<String, ExcelParseException>) data.get(errorField.index);
+                if (map == null) {
+                    map = new HashMap<>();
+                    data.put(errorField, map);
+                }
+                map.put(errorKey, new ExcelParseException(exception, content, slot.field.getName()));
+            }
+        }
+    }
+
+    /**
+     * Column which is collected into {@link com.poiji.annotation.ExcelUnknownCells} maps.
+     * Empty values go to the targets of the nested entities instead.
+     */
+    static final class Unknown extends ColumnTarget {
+
+        private final List<FieldSlot> unknownFields;
+        private final String columnName;
+        private final ColumnTarget empty;
+
+        Unknown(final Path path, final List<FieldSlot> unknownFields, final String columnName, final ColumnTarget empty) {
+            super(path);
+            this.unknownFields = unknownFields;
+            this.columnName = columnName;
+            this.empty = empty;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void set(final int row, final String content, final Data root) {
+            if (content.isEmpty()) {
+                for (ColumnTarget target = empty; target != null; target = target.next) {
+                    target.set(row, content, root);
+                }
+                return;
+            }
+            final Data data = path.resolve(row, root);
+            for (final FieldSlot unknownField : unknownFields) {
+                Map<String, String> map = (Map<String, String>) data.get(unknownField.index);
+                if (map == null) {
+                    map = ReflectUtil.newMap(unknownField.field);
+                    data.put(unknownField, map);
+                }
+                map.put(columnName, content);
+            }
+        }
+    }
+
+    /**
+     * Location of an entity buffer inside the row buffer: the row itself, a range field or a list element.
+     */
+    static final class Path {
+
+        static final Path ROOT = new Path(null, null, 0, null);
+
+        private final Path parent;
+        private final FieldSlot slot;
+        private final int element;
+        private final ReadMappedFields elementFields;
+
+        private Path(final Path parent, final FieldSlot slot, final int element, final ReadMappedFields elementFields) {
+            this.parent = parent;
+            this.slot = slot;
+            this.element = element;
+            this.elementFields = elementFields;
+        }
+
+        Path range(final FieldSlot slot) {
+            return new Path(this, slot, 0, null);
+        }
+
+        Path element(final FieldSlot slot, final int element, final ReadMappedFields elementFields) {
+            return new Path(this, slot, element, elementFields);
+        }
+
+        Data resolve(final int row, final Data root) {
+            if (parent == null) {
+                return root;
+            }
+            final Data data = parent.resolve(row, root);
+            if (elementFields == null) {
+                return data.range(slot);
+            }
+            final Data elementData = data.element(slot, element);
+            if (elementData.isEmpty()) {
+                elementFields.startData(row, elementData);
+            }
+            return elementData;
+        }
+    }
+}
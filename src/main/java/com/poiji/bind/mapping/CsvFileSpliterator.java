@@ -0,0 +1,475 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.exception.PoijiException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator of the rows of a CSV file, which splits the file into byte ranges aligned to the starts of the records.
+ * <p>
+ * Every range is read and bound on its own. If the row numbers are used, the first row number of a range is found by
+ * counting the records of the ranges before it once the range is read, so row numbers are exact. Line breaks are
+ * {@code \n}, {@code \r\n} and {@code \r}, and a line break in a quoted value doesn't end the record, same as for
+ * {@link CsvTokenizer}. A split point is found by following the quote states from the middle of the range, see
+ * {@link #recordStartAfter(long)}. The records are read from memory mapped windows of the file and tokenized as bytes,
+ * so the charset must encode ASCII characters as single bytes.
+ */
+final class CsvFileSpliterator<T> implements Spliterator<T> {
+
+    static final int MIN_SPLIT_BYTES = 1 << 16;
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * Bytes after a split target without any quote, which are taken as records of unquoted values.
+     */
+    private static final int UNQUOTED_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final CsvLineReader<T> header;
+    private final byte delimiter;
+    private final long end;
+    private long position;
+    private Rows rows;
+    private MappedRecords records;
+    private CsvLineReader<T> lineReader;
+
+    /**
+     * @param header reader which has read the records before the position
+     * @param position start of the first record of the rows
+     */
+    CsvFileSpliterator(
+        final FileChannel channel, final Charset charset, final CsvLineReader<T> header, final byte delimiter,
+        final long position, final long end, final Rows rows
+    ) {
+        this.channel = channel;
+        this.charset = charset;
+        this.header = header;
+        this.delimiter = delimiter;
+        this.position = position;
+        this.end = end;
+        this.rows = rows;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        try {
+            if (records == null) {
+                records = new MappedRecords(channel, delimiter, position, end);
+                lineReader = header.withRow(rows.row());
+            }
+            while (records.next()) {
+                final T item = lineReader.readLine(records.record(), records.length(), charset);
+                if (item != null) {
+                    action.accept(item);
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new PoijiException("Problem occurred while reading CSV data", e);
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (records != null || end - position < 2 * MIN_SPLIT_BYTES) {
+            return null;
+        }
+        try {
+            return splitAt(position + (end - position) / 2);
+        } catch (IOException e) {
+            throw new PoijiException("Problem occurred while reading CSV data", e);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    }
+
+    /**
+     * Splits off the records before the first record found after the target.
+     *
+     * @return spliterator of the prefix, or null if no record is found between the target and the end
+     */
+    private CsvFileSpliterator<T> splitAt(final long target) throws IOException {
+        final long start = recordStartAfter(target);
+        if (start < 0 || start >= end) {
+            return null;
+        }
+        final CsvFileSpliterator<T> prefix =
+            new CsvFileSpliterator<>(channel, charset, header, delimiter, position, start, rows);
+        rows = rows.after(position, start);
+        position = start;
+        return prefix;
+    }
+
+    /**
+     * Finds the start of a record after the target without reading the bytes before it. The quote state at the target
+     * is not known, so the bytes are followed in every state a record may be in, until all of them agree. The record
+     * breaks from there on are the same whatever the bytes before the target are.
+     * <p>
+     * Only a quote tells whether the target is in a quoted value, so the states never agree if there is no quote. If
+     * no quote follows the target up to the end of the range, the target can't be in a quoted value, since the range
+     * ends at the start of a record. If no quote follows in {@link #UNQUOTED_BYTES}, the target is taken as out of a
+     * quoted value too, so a quoted value with line breaks longer than that may be split wrong.
+     *
+     * @return start of the record, or -1 if no record starts after the target up to the end
+     */
+    private long recordStartAfter(final long target) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        final QuoteState[] states = QuoteState.all(delimiter);
+        boolean agreed = false;
+        boolean carriageReturn = false;
+        boolean quoted = false;
+        long unquotedStart = -1;
+        byte previous = 0;
+        long offset = target;
+        while (offset < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(BUFFER_SIZE, end - offset));
+            final int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                final byte b = buffer.get(i);
+                final long at = offset + i;
+                if (carriageReturn) {
+                    return b == '\n' ? at + 1 : at;
+                }
+                if (!quoted) {
+                    if (b == '"') {
+                        quoted = true;
+                    } else if (unquotedStart < 0 ? b == '\n' || b == '\r'
+                        : unquotedStart == at && previous == '\r' && b == '\n') {
+                        unquotedStart = at + 1;
+                    } else if (unquotedStart >= 0 && at - target >= UNQUOTED_BYTES) {
+                        return unquotedStart;
+                    }
+                    previous = b;
+                }
+                final boolean recordBreak;
+                if (agreed) {
+                    recordBreak = states[0].isRecordBreak(b);
+                } else {
+                    recordBreak = QuoteState.isRecordBreak(states, b);
+                    agreed = QuoteState.agree(states);
+                }
+                if (recordBreak) {
+                    if (b != '\r') {
+                        return at + 1;
+                    }
+                    carriageReturn = true;
+                }
+            }
+            offset += read;
+        }
+        if (carriageReturn) {
+            return end;
+        }
+        return quoted ? -1 : unquotedStart;
+    }
+
+    /**
+     * Counts the records of a range which ends at the start of a record.
+     */
+    private static int countRecords(
+        final FileChannel channel, final byte delimiter, final long start, final long end
+    ) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        final QuoteState quotes = new QuoteState(delimiter);
+        int count = 0;
+        boolean carriageReturn = false;
+        long offset = start;
+        while (offset < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(BUFFER_SIZE, end - offset));
+            final int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                final byte b = buffer.get(i);
+                if (carriageReturn) {
+                    carriageReturn = false;
+                    if (b == '\n') {
+                        continue;
+                    }
+                }
+                if (quotes.isRecordBreak(b)) {
+                    count++;
+                    carriageReturn = b == '\r';
+                }
+            }
+            offset += read;
+        }
+        return count;
+    }
+
+    /**
+     * Row number of the first record of a range. It is counted only when the rows are used, and only once the range
+     * is read, so the records before a split are counted by the thread which reads the split rather than by the one
+     * which splits the file.
+     */
+    static final class Rows {
+
+        private final Rows previous;
+        private final FileChannel channel;
+        private final byte delimiter;
+        private final long start;
+        private final long end;
+        private final boolean counted;
+        private volatile int row = -1;
+
+        private Rows(
+            final Rows previous, final FileChannel channel, final byte delimiter, final long start, final long end,
+            final boolean counted
+        ) {
+            this.previous = previous;
+            this.channel = channel;
+            this.delimiter = delimiter;
+            this.start = start;
+            this.end = end;
+            this.counted = counted;
+        }
+
+        /**
+         * @param counted false if the row numbers are not used, all the ranges start with the row then
+         */
+        static Rows first(final FileChannel channel, final byte delimiter, final int row, final boolean counted) {
+            final Rows rows = new Rows(null, channel, delimiter, 0, 0, counted);
+            rows.row = row;
+            return rows;
+        }
+
+        /**
+         * @return rows of the range which follows the records from the start of this range up to the end
+         */
+        Rows after(final long start, final long end) {
+            return counted ? new Rows(this, channel, delimiter, start, end, true) : this;
+        }
+
+        int row() throws IOException {
+            if (row < 0) {
+                final Deque<Rows> unknown = new ArrayDeque<>();
+                for (Rows rows = this; rows.row < 0; rows = rows.previous) {
+                    unknown.push(rows);
+                }
+                for (final Rows rows : unknown) {
+                    rows.count();
+                }
+            }
+            return row;
+        }
+
+        private synchronized void count() throws IOException {
+            if (row < 0) {
+                row = previous.row + countRecords(channel, delimiter, start, end);
+            }
+        }
+    }
+
+    /**
+     * Quote state of a record, which tells the line breaks which end the record from the ones in quoted values. It
+     * follows the same rules as {@link CsvTokenizer}.
+     */
+    static final class QuoteState {
+
+        private static final int BEGIN = 0;
+        private static final int MIDDLE = 1;
+        private static final int CLOSED = 2;
+        private static final int QUOTE = 3;
+
+        private final byte delimiter;
+        private int state;
+        private boolean word;
+
+        QuoteState(final byte delimiter) {
+            this.delimiter = delimiter;
+        }
+
+        private QuoteState(final byte delimiter, final int state, final boolean word) {
+            this.delimiter = delimiter;
+            this.state = state;
+            this.word = word;
+        }
+
+        /**
+         * @return states of every state a byte in the middle of a record may be read in
+         */
+        static QuoteState[] all(final byte delimiter) {
+            return new QuoteState[]{
+                new QuoteState(delimiter, BEGIN, false), new QuoteState(delimiter, BEGIN, true),
+                new QuoteState(delimiter, MIDDLE, true), new QuoteState(delimiter, CLOSED, true),
+                new QuoteState(delimiter, QUOTE, true)
+            };
+        }
+
+        /**
+         * @return true if the byte ends the record in all the states
+         */
+        static boolean isRecordBreak(final QuoteState[] states, final byte b) {
+            boolean recordBreak = true;
+            for (final QuoteState state : states) {
+                recordBreak &= state.isRecordBreak(b);
+            }
+            return recordBreak;
+        }
+
+        static boolean agree(final QuoteState[] states) {
+            for (final QuoteState state : states) {
+                if (state.state != states[0].state || state.word != states[0].word) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return true if the byte is a line break which ends the record, the state is reset for the next record then
+         */
+        boolean isRecordBreak(final byte b) {
+            if (b == '"') {
+                if (state == BEGIN && !word) {
+                    state = MIDDLE;
+                } else if (state == MIDDLE) {
+                    state = CLOSED;
+                } else if (state == CLOSED) {
+                    state = MIDDLE;
+                } else {
+                    state = state == BEGIN ? QUOTE : BEGIN;
+                }
+                word = true;
+            } else if (state == MIDDLE) {
+                word = true;
+            } else if (b == delimiter) {
+                state = BEGIN;
+                word = false;
+            } else if (b == '\n' || b == '\r') {
+                reset();
+                return true;
+            } else {
+                if (state == CLOSED) {
+                    state = QUOTE;
+                }
+                word = true;
+            }
+            return false;
+        }
+
+        void reset() {
+            state = BEGIN;
+            word = false;
+        }
+    }
+
+    /**
+     * Records of a byte range of the file, read from memory mapped windows into a reused buffer.
+     */
+    static final class MappedRecords {
+
+        private static final int WINDOW_BYTES = 1 << 24;
+
+        private final FileChannel channel;
+        private final QuoteState quotes;
+        private final long end;
+        private long position;
+        private long windowStart;
+        private MappedByteBuffer window;
+        private byte[] record = new byte[256];
+        private int length;
+
+        MappedRecords(final FileChannel channel, final byte delimiter, final long position, final long end) {
+            this.channel = channel;
+            this.quotes = new QuoteState(delimiter);
+            this.position = position;
+            this.end = end;
+        }
+
+        /**
+         * Reads the next record without its line break into {@link #record()}.
+         *
+         * @return false at the end of the range
+         */
+        boolean next() throws IOException {
+            if (position >= end) {
+                return false;
+            }
+            long windowBytes = WINDOW_BYTES;
+            if (window == null || position >= windowStart + window.limit()) {
+                map(windowBytes);
+            }
+            while (true) {
+                final int offset = (int) (position - windowStart);
+                final int limit = window.limit();
+                final boolean last = windowStart + limit >= end;
+                quotes.reset();
+                for (int i = offset; i < limit; i++) {
+                    final byte b = window.get(i);
+                    if (quotes.isRecordBreak(b)) {
+                        if (b == '\r' && i + 1 == limit && !last) {
+                            break;
+                        }
+                        copy(offset, i);
+                        final boolean crlf = b == '\r' && i + 1 < limit && window.get(i + 1) == '\n';
+                        position = windowStart + i + (crlf ? 2 : 1);
+                        return true;
+                    }
+                }
+                if (last) {
+                    copy(offset, limit);
+                    position = end;
+                    return true;
+                }
+                if (offset == 0) {
+                    windowBytes = Math.min(windowBytes * 2, Integer.MAX_VALUE);
+                }
+                map(windowBytes);
+            }
+        }
+
+        byte[] record() {
+            return record;
+        }
+
+        int length() {
+            return length;
+        }
+
+        /**
+         * @return start of the record which is read next
+         */
+        long position() {
+            return position;
+        }
+
+        private void map(final long windowBytes) throws IOException {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowBytes, end - position));
+        }
+
+        private void copy(final int from, final int to) {
+            length = to - from;
+            if (record.length < length) {
+                record = Arrays.copyOf(record, Math.max(length, record.length * 2));
+            }
+            window.position(from);
+            window.get(record, 0, length);
+        }
+    }
+}
@@ -2,7 +2,8 @@ package com.poiji.bind.mapping;
 
 import com.poiji.option.PoijiOptions;
 
-import java.util.ArrayList;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 
@@ -11,21 +12,115 @@ public final class CsvLineReader<T> {
     private final ReadMappedFields readMappedFields;
     private final PoijiOptions options;
     private final Collection<Integer> usedColumns;
+    private final CsvTokenizer tokenizer;
     private int row = 0;
-    private int internalCount = 1;
+    private int internalCount;
+    private Data data;
+    /**
+     * Columns with targets, indexed by column. Resolved once the header is read, so the values of the other columns
+     * are not decoded.
+     */
+    private boolean[] mappedColumns;
+    /**
+     * Fields of the last line read from bytes, as offsets and lengths in the line or, for the fields whose quotes are
+     * removed, in the unquoted buffer.
+     */
+    private int fieldCount;
+    private int[] fieldOffsets = new int[16];
+    private int[] fieldLengths = new int[16];
+    private boolean[] fieldUnquoted = new boolean[16];
+    private byte[] unquoted = new byte[256];
 
     public CsvLineReader(final Class<T> entity, final PoijiOptions options) {
-        this.readMappedFields = new ReadMappedFields(entity, options).parseEntity();
+        this(new ReadMappedFields(entity, options).parseEntity(), options);
+    }
+
+    /**
+     * @param readMappedFields parsed mapped fields which create the objects read from the lines
+     */
+    CsvLineReader(final ReadMappedFields readMappedFields, final PoijiOptions options) {
+        this.readMappedFields = readMappedFields;
         this.options = options;
         this.usedColumns = new HashSet<>();
+        this.tokenizer = new CsvTokenizer(options.getCsvDelimiter());
+    }
+
+    private CsvLineReader(final CsvLineReader<T> header, final int row, final boolean[] mappedColumns) {
+        this.readMappedFields = header.readMappedFields;
+        this.options = header.options;
+        this.usedColumns = header.usedColumns;
+        this.tokenizer = new CsvTokenizer(options.getCsvDelimiter());
+        this.row = row;
+        this.mappedColumns = mappedColumns;
+    }
+
+    /**
+     * Creates a reader of the lines from the row on, which shares the header read by this reader. The targets of the
+     * used columns are compiled first, so several readers can read their lines at once.
+     */
+    CsvLineReader<T> withRow(final int row) {
+        return new CsvLineReader<>(this, row, mappedColumns());
+    }
+
+    /**
+     * Compiles the targets of the used columns.
+     *
+     * @return columns with targets, indexed by column
+     */
+    private boolean[] mappedColumns() {
+        int size = 0;
+        for (final int column : usedColumns) {
+            size = Math.max(size, column + 1);
+        }
+        for (final int column : readMappedFields.orderedFields.keySet()) {
+            size = Math.max(size, column + 1);
+        }
+        final boolean[] mapped = new boolean[size];
+        for (final int column : usedColumns) {
+            mapped[column] = readMappedFields.isColumnMapped(column);
+        }
+        for (final int column : readMappedFields.orderedFields.keySet()) {
+            mapped[column] = readMappedFields.isColumnMapped(column);
+        }
+        return mapped;
+    }
+
+    private boolean isMapped(final int column) {
+        return column < mappedColumns.length && mappedColumns[column];
     }
 
     public T readLine(final String line) {
+        tokenizer.tokenize(line);
+        return readRecord(tokenizer);
+    }
+
+    /**
+     * Same as {@link #readLine(String)} for the record read by the tokenizer.
+     */
+    T readRecord(final CsvTokenizer tokenizer) {
+        final T result;
+        if (isHeaderRow()){
+            result = parseColumnNames(tokenizer);
+        } else if (isContentRow()){
+            result = parseContentRow(tokenizer);
+        } else {
+            result = null;
+        }
+        row++;
+        return result;
+    }
+
+    /**
+     * Same as {@link #readLine(String)} for a line of a charset which encodes ASCII as single bytes. The delimiter
+     * must be an ASCII character. Only the values of the mapped columns are decoded into strings.
+     */
+    T readLine(final byte[] line, final int length, final Charset charset) {
         final T result;
         if (isHeaderRow()){
-            result = parseColumnNames(line);
+            tokenizer.tokenize(new String(line, 0, length, charset));
+            result = parseColumnNames(tokenizer);
         } else if (isContentRow()){
-            result = parseContentRow(line);
+            result = parseContentRow(line, length, charset);
         } else {
             result = null;
         }
@@ -33,96 +128,179 @@ public final class CsvLineReader<T> {
         return result;
     }
 
+    /**
+     * @return true once the content rows up to the limit are read, so the rest of the records do not have to be read
+     */
+    boolean isDone() {
+        return options.getLimit() != 0 && internalCount >= options.getLimit();
+    }
+
     private boolean isContentRow() {
-        return row > options.skip() + options.getHeaderStart() + options.getHeaderCount() - 1 && (options.getLimit() == 0 || internalCount <= options.getLimit());
+        return row > options.skip() + options.getHeaderStart() + options.getHeaderCount() - 1 && !isDone();
     }
 
     private boolean isHeaderRow() {
         int headerStart = options.getHeaderStart();
         int headerCount = options.getHeaderCount();
-        this.internalCount = headerStart + headerCount;
         return row >= headerStart && row < headerStart + headerCount;
     }
 
-    private T parseContentRow(final String line) {
-        final String[] values = parseLine(line);
-        final int lastValuedColumn = lastValuedColumn(values);
-        if (lastValuedColumn >= 0) {
-            final Data data = readMappedFields.createInstanceData();
-            for (int column = 0; column <= lastValuedColumn; column++) {
-                if (usedColumns.contains(column) || readMappedFields.orderedFields.containsKey(column)) {
-                    readMappedFields.setCellInData(row, column, unwrap(values[column]), data);
-                }
-            }
-            internalCount++;
-            return (T) readMappedFields.createNewInstance(data);
-        } else {
-            internalCount++;
+    private T parseContentRow(final CsvTokenizer tokenizer) {
+        int lastValuedColumn = tokenizer.count() - 1;
+        while (lastValuedColumn >= 0 && tokenizer.isEmpty(lastValuedColumn)) {
+            lastValuedColumn--;
+        }
+        if (lastValuedColumn < 0) {
             return null;
         }
+        internalCount++;
+        if (data == null) {
+            data = readMappedFields.createInstanceData();
+        } else {
+            data.reset();
+        }
+        if (mappedColumns == null) {
+            mappedColumns = mappedColumns();
+        }
+        readMappedFields.setRowInData(row, data);
+        for (int column = 0; column <= lastValuedColumn; column++) {
+            if (isMapped(column)) {
+                readMappedFields.setCellInData(row, column, tokenizer.value(column), data);
+            }
+        }
+        return (T) readMappedFields.createNewInstance(data);
     }
 
-    private T parseColumnNames(final String line) {
-        final String[] columnNames = parseLine(line);
-        for (int i = 0; i < columnNames.length; i++) {
-            final String columnName = unwrap(columnNames[i]);
-            if (!columnName.isEmpty()){
-                readMappedFields.parseColumnName(i, columnName);
-                usedColumns.add(i);
+    private T parseContentRow(final byte[] line, final int length, final Charset charset) {
+        tokenize(line, length);
+        int lastValuedColumn = fieldCount - 1;
+        while (lastValuedColumn >= 0 && fieldLengths[lastValuedColumn] == 0) {
+            lastValuedColumn--;
+        }
+        if (lastValuedColumn < 0) {
+            return null;
+        }
+        internalCount++;
+        if (data == null) {
+            data = readMappedFields.createInstanceData();
+        } else {
+            data.reset();
+        }
+        if (mappedColumns == null) {
+            mappedColumns = mappedColumns();
+        }
+        readMappedFields.setRowInData(row, data);
+        for (int column = 0; column <= lastValuedColumn; column++) {
+            if (isMapped(column)) {
+                readMappedFields.setCellInData(row, column, field(line, column, charset), data);
             }
         }
-        readMappedFields.validateMandatoryNameColumns();
-        return null;
+        return (T) readMappedFields.createNewInstance(data);
     }
 
-    private String[] parseLine(final String line) {
-        final char[] chars = line.toCharArray();
+    /**
+     * Splits the line into fields in place, same as {@link CsvTokenizer}. Only the fields with quotes are copied.
+     */
+    private void tokenize(final byte[] line, final int length) {
+        final byte delimiter = (byte) options.getCsvDelimiter();
+        fieldCount = 0;
+        int unquotedLength = 0;
         State state = State.BEGIN;
-        final ArrayList<String> words = new ArrayList<>();
-        StringBuilder word = new StringBuilder();
-        final char delimiter = options.getCsvDelimiter();
-        for (char aChar : chars) {
-            if (state == State.BEGIN && word.length() == 0 && aChar == '\"') {
-                state = State.MIDDLE;
-            } else if ((state == State.MIDDLE || (state == State.BEGIN && word.length() > 0)) && aChar == '\"') {
-                state = State.QUOTE;
-            } else if (state == State.QUOTE && aChar == '\"') {
-                state = State.BEGIN;
-                word.append('\"');
-            } else if ((state == State.QUOTE || state == State.BEGIN) && aChar == delimiter) {
-                words.add(word.toString());
-                word = new StringBuilder();
+        int start = 0;
+        int wordLength = 0;
+        boolean copied = false;
+        for (int i = 0; i < length; i++) {
+            final byte b = line[i];
+            if (b == '"') {
+                if (!copied) {
+                    ensureUnquoted(unquotedLength + length);
+                    System.arraycopy(line, start, unquoted, unquotedLength, wordLength);
+                    start = unquotedLength;
+                    copied = true;
+                }
+                if (state == State.BEGIN && wordLength == 0) {
+                    state = State.MIDDLE;
+                } else if (state == State.MIDDLE) {
+                    state = State.CLOSED;
+                } else if (state == State.CLOSED) {
+                    state = State.MIDDLE;
+                    unquoted[start + wordLength++] = '"';
+                } else if (state == State.BEGIN) {
+                    state = State.QUOTE;
+                } else {
+                    state = State.BEGIN;
+                    unquoted[start + wordLength++] = '"';
+                }
+            } else if (b == delimiter && state != State.MIDDLE) {
+                addField(start, wordLength, copied);
+                if (copied) {
+                    unquotedLength = start + wordLength;
+                }
                 state = State.BEGIN;
+                start = i + 1;
+                wordLength = 0;
+                copied = false;
             } else {
-                word.append(aChar);
+                if (state == State.CLOSED) {
+                    state = State.QUOTE;
+                }
+                if (copied) {
+                    unquoted[start + wordLength++] = b;
+                } else {
+                    wordLength++;
+                }
             }
         }
-        if (word.length() > 0) {
-            words.add(word.toString());
+        if (wordLength > 0) {
+            addField(start, wordLength, copied);
         }
-        final String[] result = new String[words.size()];
-        words.toArray(result);
-        return result;
     }
 
-    private enum State {
-        BEGIN, MIDDLE, QUOTE
+    private void addField(final int offset, final int length, final boolean inUnquoted) {
+        if (fieldCount == fieldOffsets.length) {
+            fieldOffsets = Arrays.copyOf(fieldOffsets, fieldCount * 2);
+            fieldLengths = Arrays.copyOf(fieldLengths, fieldCount * 2);
+            fieldUnquoted = Arrays.copyOf(fieldUnquoted, fieldCount * 2);
+        }
+        fieldOffsets[fieldCount] = offset;
+        fieldLengths[fieldCount] = length;
+        fieldUnquoted[fieldCount] = inUnquoted;
+        fieldCount++;
     }
 
-    private int lastValuedColumn(final String[] values) {
-        for (int i = values.length - 1; i >= 0; i--) {
-            if (!values[i].isEmpty()) {
-                return i;
-            }
+    private void ensureUnquoted(final int capacity) {
+        if (unquoted.length < capacity) {
+            unquoted = Arrays.copyOf(unquoted, Math.max(capacity, unquoted.length * 2));
         }
-        return -1;
     }
 
-    private String unwrap(final String value) {
-        if (!value.isEmpty() && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"'){
-            return value.substring(1, value.length() - 1);
-        } else {
-            return value;
+    /**
+     * Decodes the field, same as {@link CsvTokenizer#value(int)}.
+     */
+    private String field(final byte[] line, final int column, final Charset charset) {
+        final byte[] bytes = fieldUnquoted[column] ? unquoted : line;
+        int offset = fieldOffsets[column];
+        int length = fieldLengths[column];
+        if (length > 1 && bytes[offset] == '"' && bytes[offset + length - 1] == '"') {
+            offset++;
+            length -= 2;
         }
+        return new String(bytes, offset, length, charset);
+    }
+
+    private T parseColumnNames(final CsvTokenizer tokenizer) {
+        for (int i = 0; i < tokenizer.count(); i++) {
+            final String columnName = tokenizer.value(i);
+            if (!columnName.isEmpty()){
+                readMappedFields.parseColumnName(i, columnName);
+                usedColumns.add(i);
+            }
+        }
+        readMappedFields.validateMandatoryNameColumns();
+        return null;
+    }
+
+    private enum State {
+        BEGIN, MIDDLE, CLOSED, QUOTE
     }
 }
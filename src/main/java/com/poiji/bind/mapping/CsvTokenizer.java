@@ -0,0 +1,164 @@
+package com.poiji.bind.mapping;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Tokenizer of CSV records read from a character stream.
+ * <p>
+ * A value which starts with a quote may contain delimiters and line breaks, and a doubled quote in it is a quote, as
+ * in RFC 4180. A line break outside quotes ends the record, so the quote state is carried across physical lines.
+ * Quotes inside a value which doesn't start with a quote are removed, and a doubled one is kept as a quote. The values are
+ * collected into reused buffers, which only grow to the size of the longest record.
+ */
+final class CsvTokenizer {
+
+    private static final int BEGIN = 0;
+    private static final int MIDDLE = 1;
+    private static final int CLOSED = 2;
+    private static final int QUOTE = 3;
+
+    private final char delimiter;
+    private final char[] input = new char[8192];
+    private int inputPosition;
+    private int inputLimit;
+    private boolean skipLineFeed;
+    private int state;
+    private char[] chars = new char[256];
+    private int length;
+    private int fieldStart;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int count;
+
+    CsvTokenizer(final char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Reads the next record of the reader.
+     *
+     * @return false if the reader has no more characters
+     */
+    boolean next(final Reader reader) throws IOException {
+        reset();
+        boolean read = false;
+        while (true) {
+            if (inputPosition == inputLimit) {
+                inputPosition = 0;
+                inputLimit = Math.max(reader.read(input, 0, input.length), 0);
+                if (inputLimit == 0) {
+                    endRecord();
+                    return read;
+                }
+            }
+            final char c = input[inputPosition++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            read = true;
+            if ((c == '\n' || c == '\r') && state != MIDDLE) {
+                skipLineFeed = c == '\r';
+                endRecord();
+                return true;
+            }
+            accept(c);
+        }
+    }
+
+    /**
+     * Reads the line as a whole record, line breaks in it are values.
+     */
+    void tokenize(final CharSequence line) {
+        reset();
+        for (int i = 0; i < line.length(); i++) {
+            accept(line.charAt(i));
+        }
+        endRecord();
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isEmpty(final int field) {
+        return starts[field] == ends[field];
+    }
+
+    /**
+     * @return value of the field without the quotes around it
+     */
+    String value(final int field) {
+        int start = starts[field];
+        int end = ends[field];
+        if (end - start > 1 && chars[start] == '"' && chars[end - 1] == '"') {
+            start++;
+            end--;
+        }
+        return new String(chars, start, end - start);
+    }
+
+    private void accept(final char c) {
+        if (c == '"') {
+            if (state == BEGIN && length == fieldStart) {
+                state = MIDDLE;
+            } else if (state == MIDDLE) {
+                state = CLOSED;
+            } else if (state == CLOSED) {
+                state = MIDDLE;
+                append(c);
+            } else if (state == BEGIN) {
+                state = QUOTE;
+            } else {
+                state = BEGIN;
+                append(c);
+            }
+        } else if (c == delimiter && state != MIDDLE) {
+            addField();
+            state = BEGIN;
+        } else {
+            if (state == CLOSED) {
+                state = QUOTE;
+            }
+            append(c);
+        }
+    }
+
+    private void append(final char c) {
+        if (length == chars.length) {
+            chars = Arrays.copyOf(chars, length * 2);
+        }
+        chars[length++] = c;
+    }
+
+    private void addField() {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = fieldStart;
+        ends[count] = length;
+        count++;
+        fieldStart = length;
+    }
+
+    /**
+     * Adds the last field, unless it is empty.
+     */
+    private void endRecord() {
+        if (length > fieldStart) {
+            addField();
+        }
+    }
+
+    private void reset() {
+        state = BEGIN;
+        length = 0;
+        fieldStart = 0;
+        count = 0;
+    }
+}
@@ -0,0 +1,167 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.bind.PoijiFile;
+import com.poiji.bind.Unmarshaller;
+import com.poiji.config.Casting;
+import com.poiji.config.DefaultCasting;
+import com.poiji.exception.PoijiException;
+import com.poiji.option.PoijiOptions;
+import org.apache.poi.util.IOUtils;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a CSV file. The header is read once, then the rest of the file is split into byte ranges which are read and
+ * bound on their own, so a parallel stream of the file uses many threads.
+ * <p>
+ * With a limit, or a charset which doesn't encode ASCII characters as single bytes, the file is read as a stream.
+ */
+final class CsvUnmarshallerFile implements Unmarshaller {
+
+    private final PoijiFile<?> poijiFile;
+    private final PoijiOptions options;
+    private ReadContext context;
+
+    CsvUnmarshallerFile(final PoijiFile<?> poijiFile, final PoijiOptions options) {
+        this.poijiFile = poijiFile;
+        this.options = options;
+        this.context = ReadContext.of(options);
+    }
+
+    @Override
+    public Unmarshaller withReadContext(final ReadContext context) {
+        this.context = context;
+        return this;
+    }
+
+    @Override
+    public <T> void unmarshal(final Class<T> type, final Consumer<? super T> consumer) {
+        try (Stream<T> stream = stream(type)) {
+            stream.forEach(consumer);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> stream(final Class<T> type) {
+        return stream(type, false);
+    }
+
+    @Override
+    public <T> Stream<T> bindingStream(final Class<T> type) {
+        return stream(type, true);
+    }
+
+    private <T> Stream<T> stream(final Class<T> type, final boolean deferred) {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(poijiFile.file().toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new PoijiException(e.getMessage(), e);
+        }
+        try {
+            final byte[] bom = new byte[4];
+            channel.read(ByteBuffer.wrap(bom), 0);
+            final CharsetDetector charsetDetector = new CharsetDetector();
+            final int bomLength = charsetDetector.detect(bom);
+            final Charset charset = Charset.forName(charsetDetector.getCharset().orElse(options.getCharset()));
+            if (options.getLimit() > 0 || !isSplittable(charset, options.getCsvDelimiter())) {
+                channel.close();
+                return streamSequentially(type, deferred);
+            }
+            final Spliterator<T> spliterator = spliterator(type, channel, charset, bomLength);
+            return StreamSupport.stream(spliterator, false).onClose(() -> IOUtils.closeQuietly(channel));
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeQuietly(channel);
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new PoijiException("Problem occurred while reading CSV data", e);
+        }
+    }
+
+    /**
+     * Reads the header records and creates the spliterator of the rest of the file.
+     */
+    private <T> CsvFileSpliterator<T> spliterator(
+        final Class<T> type, final FileChannel channel, final Charset charset, final int bomLength
+    ) throws IOException {
+        final long size = channel.size();
+        final byte delimiter = (byte) options.getCsvDelimiter();
+        final int headerRows = options.getHeaderStart() + options.getHeaderCount();
+        final ReadMappedFields mappedFields = new ReadMappedFields(type, options, context).parseEntity();
+        final CsvLineReader<T> header = new CsvLineReader<>(mappedFields, options);
+        final CsvFileSpliterator.MappedRecords records =
+            new CsvFileSpliterator.MappedRecords(channel, delimiter, bomLength, size);
+        int row = 0;
+        while (row < headerRows && records.next()) {
+            header.readLine(records.record(), records.length(), charset);
+            row++;
+        }
+        final CsvFileSpliterator.Rows rows =
+            CsvFileSpliterator.Rows.first(channel, delimiter, row, usesRowNumbers(mappedFields));
+        return new CsvFileSpliterator<>(channel, charset, header, delimiter, records.position(), size, rows);
+    }
+
+    /**
+     * @return true if the row numbers are seen: by the {@link com.poiji.annotation.ExcelRow} fields, by the skipped
+     * rows, or by a casting which gets them with the values or logs them with the errors
+     */
+    private boolean usesRowNumbers(final ReadMappedFields mappedFields) {
+        final Casting casting = options.getCasting();
+        return mappedFields.isRowMapped()
+            || options.skip() > 0
+            || casting.getClass() != DefaultCasting.class
+            || ((DefaultCasting) casting).isErrorLoggingEnabled();
+    }
+
+    private <T> Stream<T> streamSequentially(final Class<T> type, final boolean deferred) {
+        final FileInputStream inputStream;
+        try {
+            inputStream = new FileInputStream(poijiFile.file());
+        } catch (FileNotFoundException e) {
+            throw new PoijiException(e.getMessage(), e);
+        }
+        final Unmarshaller unmarshaller = new CsvUnmarshallerStream(inputStream, options, true).withReadContext(context);
+        final Stream<T> stream = deferred ? unmarshaller.bindingStream(type) : unmarshaller.stream(type);
+        return stream.onClose(() -> IOUtils.closeQuietly(inputStream));
+    }
+
+    /**
+     * @return true if ASCII characters are single bytes which are not a part of other characters, and the delimiter
+     * is one of them
+     */
+    private static boolean isSplittable(final Charset charset, final char delimiter) {
+        if (delimiter >= 0x80) {
+            return false;
+        }
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            return true;
+        }
+        final String ascii = "\n\r\"" + delimiter;
+        return charset.newEncoder().maxBytesPerChar() == 1
+            && Arrays.equals(ascii.getBytes(charset), ascii.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Excel uses file name as sheet name for CSV format.
+     */
+    @Override
+    public List<String> readSheetNames() {
+        final String fileName = poijiFile.file().getName();
+        return Collections.singletonList(fileName.substring(0, fileName.lastIndexOf(".")));
+    }
+}
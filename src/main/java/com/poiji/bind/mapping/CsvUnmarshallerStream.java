@@ -10,19 +10,38 @@ import java.io.*;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class CsvUnmarshallerStream implements Unmarshaller {
 
-    private final PoijiInputStream<?> poijiStream;
+    private final InputStream inputStream;
     private final PoijiOptions options;
+    private final boolean closeAtEnd;
+    private ReadContext context;
 
     public CsvUnmarshallerStream(final PoijiInputStream<?> poijiStream, final PoijiOptions options) {
-        this.poijiStream = poijiStream;
+        this(poijiStream.stream(), options, false);
+    }
+
+    /**
+     * @param closeAtEnd whether the input stream is closed as soon as the last record or the limit is read
+     */
+    CsvUnmarshallerStream(final InputStream inputStream, final PoijiOptions options, final boolean closeAtEnd) {
+        this.inputStream = inputStream;
         this.options = options;
+        this.closeAtEnd = closeAtEnd;
+        this.context = ReadContext.of(options);
+    }
+
+    @Override
+    public Unmarshaller withReadContext(final ReadContext context) {
+        this.context = context;
+        return this;
     }
 
     @Override
@@ -32,29 +51,77 @@ public final class CsvUnmarshallerStream implements Unmarshaller {
 
     @Override
     public <T> Stream<T> stream(final Class<T> type) {
-        final CsvLineReader<T> csvLineReader = new CsvLineReader<>(type,  options);
-        final BomInputStream bomInputStream = new BomInputStream(poijiStream.stream());
+        return stream(new CsvLineReader<>(new ReadMappedFields(type, options, context).parseEntity(), options));
+    }
+
+    @Override
+    public <T> Stream<T> bindingStream(final Class<T> type) {
+        final ReadMappedFields readMappedFields = new ReadMappedFields(type, options, context).parseEntity().deferBinding();
+        return readMappedFields.bind(stream(new CsvLineReader<RowCells>(readMappedFields, options)));
+    }
+
+    private <T> Stream<T> stream(final CsvLineReader<T> csvLineReader) {
+        final BomInputStream bomInputStream = new BomInputStream(inputStream);
         final String charsetName = bomInputStream.getCharset().orElse(options.getCharset());
         try {
-            final BufferedReader reader = new BufferedReader(new InputStreamReader(bomInputStream, charsetName));
-            Stream<String> stream = reader.lines();
-            if (options.getLimit() > 0) {
-                stream =
-                    stream.limit(
-                        options.getLimit() + options.getHeaderStart() + options.getHeaderCount() + options.skip());
-            }
-            return stream.map(csvLineReader::readLine).filter(Objects::nonNull);
+            final Reader reader = new InputStreamReader(bomInputStream, charsetName);
+            return StreamSupport.stream(new RecordSpliterator<>(reader, csvLineReader), false);
         } catch (IOException e) {
             throw new PoijiException("Problem occurred while reading CSV data", e);
         }
     }
 
+    /**
+     * Spliterator which reads the records of the reader one by one. A quoted value may contain line breaks, so a
+     * record may take several lines. The records after the limit of content rows are not read.
+     */
+    private final class RecordSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Reader reader;
+        private final CsvLineReader<T> csvLineReader;
+        private final CsvTokenizer tokenizer;
+        private boolean ended;
+
+        private RecordSpliterator(final Reader reader, final CsvLineReader<T> csvLineReader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.reader = reader;
+            this.csvLineReader = csvLineReader;
+            this.tokenizer = new CsvTokenizer(options.getCsvDelimiter());
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            try {
+                while (!ended && !csvLineReader.isDone() && tokenizer.next(reader)) {
+                    final T item = csvLineReader.readRecord(tokenizer);
+                    if (item != null) {
+                        action.accept(item);
+                        return true;
+                    }
+                }
+                end();
+                return false;
+            } catch (IOException e) {
+                throw new PoijiException("Problem occurred while reading CSV data", e);
+            }
+        }
+
+        private void end() throws IOException {
+            if (!ended) {
+                ended = true;
+                if (closeAtEnd) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
     /**
      * Excel uses file name as sheet name for CSV format.
      */
     @Override
     public List<String> readSheetNames() {
-        final InputStream stream = poijiStream.stream();
+        final InputStream stream = inputStream;
         if (stream instanceof FileInputStream) {
             final String path = ReflectUtil.getFieldData("path", stream);
             final String fileName = Paths.get(path).getFileName().toString();
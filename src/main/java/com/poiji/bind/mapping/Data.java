@@ -1,14 +1,228 @@
 package com.poiji.bind.mapping;
 
-import java.lang.reflect.Field;
-import java.util.HashMap;
+import com.poiji.config.CastResult;
 
-public class Data extends HashMap<Field, Object> {
+import java.util.ArrayList;
+import java.util.List;
 
-    public Class<?> getDeclaringClass() {
-        if (isEmpty()) {
+/**
+ * Reusable row buffer.
+ * <p>
+ * Every mapped field owns a fixed slot assigned by {@link EntityBinding}, so values of a row are collected into
+ * plain arrays which are reset, not reallocated, between rows. Primitive values are kept unboxed in the side arrays.
+ */
+public final class Data {
+
+    private static final Object NULL = new Object();
+    private static final Object PRIMITIVE = new Object();
+
+    private final EntityBinding binding;
+    private final Object[] values;
+    private final long[] longs;
+    private final double[] doubles;
+    private final int[] assigned;
+    private int assignedCount;
+    private Data[] ranges;
+    private List<Data>[] lists;
+    private List<Data>[] elementPools;
+    /**
+     * Captured cells of the row when the binding is deferred by {@link ReadMappedFields#deferBinding()}.
+     */
+    RowCells cells;
+    /**
+     * Result of the values cast into the row buffer, set only on the buffer of a row, not on its range and list
+     * element buffers.
+     */
+    CastResult castResult;
+
+    Data(final EntityBinding binding) {
+        this.binding = binding;
+        final int size = binding.slots.length;
+        this.values = new Object[size];
+        this.longs = new long[size];
+        this.doubles = new double[size];
+        this.assigned = new int[size];
+    }
+
+    boolean isEmpty() {
+        return assignedCount == 0;
+    }
+
+    /**
+     * Forgets all values, so the buffer can be filled with the next row.
+     */
+    void reset() {
+        for (int i = 0; i < assignedCount; i++) {
+            values[assigned[i]] = null;
+        }
+        assignedCount = 0;
+        if (cells != null) {
+            cells.clear();
+        }
+    }
+
+    int assignedCount() {
+        return assignedCount;
+    }
+
+    int assignedSlot(final int i) {
+        return assigned[i];
+    }
+
+    boolean isAssigned(final int slot) {
+        return values[slot] != null;
+    }
+
+    boolean isPrimitive(final int slot) {
+        return values[slot] == PRIMITIVE;
+    }
+
+    void put(final FieldSlot slot, final Object value) {
+        final int index = slot.index;
+        if (slot.kind == FieldSlot.LONG && isBoxed(slot, value)) {
+            putLong(index, unbox(value));
+        } else if (slot.kind == FieldSlot.DOUBLE && isBoxed(slot, value)) {
+            putDouble(index, ((Number) value).doubleValue());
+        } else {
+            assign(index, value == null ? NULL : value);
+        }
+    }
+
+    void putLong(final int slot, final long value) {
+        longs[slot] = value;
+        assign(slot, PRIMITIVE);
+    }
+
+    void putDouble(final int slot, final double value) {
+        doubles[slot] = value;
+        assign(slot, PRIMITIVE);
+    }
+
+    /**
+     * @return boxed value of the slot or null if the slot is not assigned
+     */
+    Object get(final int slot) {
+        final Object value = values[slot];
+        if (value == NULL) {
             return null;
+        } else if (value == PRIMITIVE) {
+            return box(binding.slots[slot]);
+        }
+        return value;
+    }
+
+    long getLong(final int slot) {
+        return longs[slot];
+    }
+
+    double getDouble(final int slot) {
+        return doubles[slot];
+    }
+
+    /**
+     * Buffer of an {@link com.poiji.annotation.ExcelCellRange} field. It is created once and reused between rows.
+     */
+    Data range(final FieldSlot slot) {
+        final int index = slot.index;
+        if (values[index] == null) {
+            if (ranges == null) {
+                ranges = new Data[values.length];
+            }
+            Data range = ranges[index];
+            if (range == null) {
+                range = new Data(slot.nested);
+                ranges[index] = range;
+            } else {
+                range.reset();
+            }
+            assign(index, range);
+        }
+        return (Data) values[index];
+    }
+
+    /**
+     * Buffers of {@link com.poiji.annotation.ExcelList} elements. They are created once and reused between rows.
+     */
+    @SuppressWarnings("unchecked")
+    List<Data> elements(final FieldSlot slot) {
+        final int index = slot.index;
+        if (values[index] == null) {
+            if (lists == null) {
+                lists = new List[values.length];
+                elementPools = new List[values.length];
+            }
+            List<Data> list = lists[index];
+            if (list == null) {
+                list = new ArrayList<>();
+                lists[index] = list;
+                elementPools[index] = new ArrayList<>();
+            } else {
+                list.clear();
+            }
+            assign(index, list);
+        }
+        return (List<Data>) values[index];
+    }
+
+    /**
+     * Buffer of the list element with the index. Missing elements before it are added as well.
+     */
+    Data element(final FieldSlot slot, final int elementIndex) {
+        final List<Data> elements = elements(slot);
+        final List<Data> pool = elementPools[slot.index];
+        while (elements.size() <= elementIndex) {
+            final int next = elements.size();
+            final Data element;
+            if (next < pool.size()) {
+                element = pool.get(next);
+                element.reset();
+            } else {
+                element = new Data(slot.nested);
+                pool.add(element);
+            }
+            elements.add(element);
+        }
+        return elements.get(elementIndex);
+    }
+
+    private void assign(final int slot, final Object value) {
+        if (values[slot] == null) {
+            assigned[assignedCount++] = slot;
+        }
+        values[slot] = value;
+    }
+
+    private static boolean isBoxed(final FieldSlot slot, final Object value) {
+        return value != null && value.getClass() == slot.boxed;
+    }
+
+    private Object box(final FieldSlot slot) {
+        final Class<?> boxed = slot.boxed;
+        final long value = longs[slot.index];
+        if (boxed == Double.class) {
+            return doubles[slot.index];
+        } else if (boxed == Float.class) {
+            return (float) doubles[slot.index];
+        } else if (boxed == Integer.class) {
+            return (int) value;
+        } else if (boxed == Long.class) {
+            return value;
+        } else if (boxed == Boolean.class) {
+            return value != 0;
+        } else if (boxed == Short.class) {
+            return (short) value;
+        } else if (boxed == Byte.class) {
+            return (byte) value;
+        }
+        return (char) value;
+    }
+
+    private static long unbox(final Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        } else if (value instanceof Character) {
+            return (Character) value;
         }
-        return super.entrySet().iterator().next().getKey().getDeclaringClass();
+        return ((Number) value).longValue();
     }
 }
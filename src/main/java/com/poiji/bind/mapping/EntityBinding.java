@@ -0,0 +1,549 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.annotation.DisableCellFormatXLS;
+import com.poiji.annotation.ExcelCell;
+import com.poiji.annotation.ExcelCellName;
+import com.poiji.annotation.ExcelCellRange;
+import com.poiji.annotation.ExcelList;
+import com.poiji.annotation.ExcelParseExceptions;
+import com.poiji.annotation.ExcelRow;
+import com.poiji.annotation.ExcelUnknownCells;
+import com.poiji.annotation.ExcelWriteOnly;
+import com.poiji.config.CastResult;
+import com.poiji.config.Casting;
+import com.poiji.config.CellDecoder;
+import com.poiji.config.DefaultCasting;
+import com.poiji.config.DefaultFormatting;
+import com.poiji.config.Formatting;
+import com.poiji.config.RawCellDecoder;
+import com.poiji.exception.PoijiInstantiationException;
+import com.poiji.option.PoijiOptions;
+import com.poiji.util.ConstructorSelector;
+import com.poiji.util.FieldAccessor;
+import com.poiji.util.Instantiator;
+import com.poiji.util.ReflectUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.poiji.annotation.ExcelCellName.ABSENT_ORDER;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Header independent binding plan of an entity class.
+ * <p>
+ * The plan is compiled once per entity class and then shared between all reads. It doesn't depend on the options,
+ * so it is kept with the class and is unloaded with it. Names of the columns depend on the {@link Formatting}, they
+ * are transformed in {@link HeaderNames}. The plan is immutable, so every read only copies the small header dependent
+ * state (see {@link ReadMappedFields}).
+ */
+final class EntityBinding {
+
+    private static final int CACHED_DECODERS = 4;
+    /**
+     * Castings the shared decoders are created with, by whether they log the errors. The decoders log into the
+     * {@link CastResult} of a read, so they don't need the casting of the options.
+     */
+    private static final DefaultCasting[] CASTINGS = {new DefaultCasting(false), new DefaultCasting(true)};
+
+    private static final ClassValue<EntityBinding> bindings = new ClassValue<EntityBinding>() {
+        @Override
+        protected EntityBinding computeValue(final Class<?> entity) {
+            return new EntityBinding(entity);
+        }
+    };
+
+    final Class<?> entity;
+    final EntityBinding superClass;
+    /**
+     * All mapped fields including the fields of super classes, indexed by {@link FieldSlot#index}.
+     */
+    final FieldSlot[] slots;
+    final Map<Integer, FieldSlot> orderedFields;
+    /**
+     * Named fields by the names of their annotations, the names are not transformed.
+     */
+    final Map<String, FieldSlot> namedFields;
+    final List<FieldSlot> unknownFields;
+    final List<FieldSlot> rangeFields;
+    final List<FieldSlot> listFields;
+    final List<FieldSlot> excelRow;
+    /**
+     * Whether the entity, its super classes or its nested entities have {@link ExcelRow} fields.
+     */
+    final boolean rowMapped;
+    final List<FieldSlot> excelParseException;
+    private final Collection<String> columnNames;
+    private final Collection<String> mandatoryColumnNames;
+    final Collection<Field> disabledCellFormatFields;
+    private final Map<Field, FieldSlot> slotsByField;
+    /**
+     * Names of the default formatting by the options it depends on, see {@link #headerNames(PoijiOptions)}.
+     */
+    private final AtomicReferenceArray<HeaderNames> defaultHeaderNames = new AtomicReferenceArray<>(8);
+    /**
+     * Decoders of the last option sets the entity is read with, the latest first.
+     */
+    private volatile Decoders[] decoders = new Decoders[0];
+    private volatile Instantiation instantiation;
+
+    static EntityBinding of(final Class<?> entity) {
+        return bindings.get(entity);
+    }
+
+    private EntityBinding(final Class<?> entity) {
+        this.entity = entity;
+        final Class<?> superclass = entity.getSuperclass();
+        this.superClass = !superclass.isInterface() && superclass != Object.class ? of(superclass) : null;
+        final List<FieldSlot> slots = new ArrayList<>();
+        final Map<Field, FieldSlot> slotsByField = new HashMap<>();
+        if (superClass != null) {
+            slots.addAll(asList(superClass.slots));
+            slotsByField.putAll(superClass.slotsByField);
+        }
+        final Map<Integer, FieldSlot> orderedFields = new HashMap<>();
+        final Map<String, FieldSlot> namedFields = new HashMap<>();
+        final List<FieldSlot> unknownFields = new ArrayList<>();
+        final List<FieldSlot> rangeFields = new ArrayList<>();
+        final List<FieldSlot> listFields = new ArrayList<>();
+        final List<FieldSlot> excelRow = new ArrayList<>();
+        final List<FieldSlot> excelParseException = new ArrayList<>();
+        final Collection<Field> disabledCellFormatFields = new HashSet<>();
+        for (final Field field : entity.getDeclaredFields()) {
+            final DisableCellFormatXLS disableCellFormat = field.getAnnotation(DisableCellFormatXLS.class);
+            if (disableCellFormat != null && disableCellFormat.value()) {
+                disabledCellFormatFields.add(field);
+            }
+            if (field.getAnnotation(ExcelWriteOnly.class) != null) {
+                continue;
+            }
+            final ExcelCellName excelCellName = field.getAnnotation(ExcelCellName.class);
+            final ExcelList excelList = field.getAnnotation(ExcelList.class);
+            final FieldSlot slot;
+            if (field.getAnnotation(ExcelCellRange.class) != null) {
+                slot = new FieldSlot(slots.size(), field, of(field.getType()), null);
+                rangeFields.add(slot);
+            } else if (field.getAnnotation(ExcelCell.class) != null) {
+                slot = new FieldSlot(slots.size(), field, null, null);
+                orderedFields.put(field.getAnnotation(ExcelCell.class).value(), slot);
+            } else if (field.isAnnotationPresent(ExcelUnknownCells.class) && Map.class.isAssignableFrom(field.getType())) {
+                slot = new FieldSlot(slots.size(), field, null, null);
+                unknownFields.add(slot);
+            } else if (excelCellName != null) {
+                slot = new FieldSlot(slots.size(), field, null, null);
+                for (final String possibleFieldName : getPossibleFieldNames(excelCellName)) {
+                    final int order = excelCellName.order();
+                    if (order != ABSENT_ORDER && !orderedFields.containsKey(order)) {
+                        orderedFields.put(order, slot);
+                    }
+                    namedFields.put(possibleFieldName, slot);
+                }
+            } else if (field.getAnnotation(ExcelRow.class) != null) {
+                slot = new FieldSlot(slots.size(), field, null, null);
+                excelRow.add(slot);
+            } else if (field.getType().isAssignableFrom(List.class) && excelList != null) {
+                final Class<?> element = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+                slot = new FieldSlot(slots.size(), field, of(element), excelList);
+                listFields.add(slot);
+            } else if (field.getAnnotation(ExcelParseExceptions.class) != null) {
+                slot = new FieldSlot(slots.size(), field, null, null);
+                excelParseException.add(slot);
+            } else {
+                continue;
+            }
+            slots.add(slot);
+            slotsByField.put(field, slot);
+        }
+        this.slots = slots.toArray(new FieldSlot[0]);
+        this.slotsByField = unmodifiableMap(slotsByField);
+        this.orderedFields = unmodifiableMap(orderedFields);
+        this.namedFields = unmodifiableMap(namedFields);
+        this.unknownFields = unmodifiableList(unknownFields);
+        this.rangeFields = unmodifiableList(rangeFields);
+        this.listFields = unmodifiableList(listFields);
+        this.excelRow = unmodifiableList(excelRow);
+        boolean rowMapped = !excelRow.isEmpty() || superClass != null && superClass.rowMapped;
+        for (final FieldSlot slot : slots) {
+            rowMapped |= slot.nested != null && slot.nested.rowMapped;
+        }
+        this.rowMapped = rowMapped;
+        this.excelParseException = unmodifiableList(excelParseException);
+        this.columnNames = unmodifiableCollection(columnNames(entity, false));
+        this.mandatoryColumnNames = unmodifiableCollection(columnNames(entity, true));
+        this.disabledCellFormatFields = unmodifiableCollection(disabledCellFormatFields);
+    }
+
+    /**
+     * Names of the columns transformed with the formatting of the options. They are kept for the default formatting,
+     * the custom formatting may have a state, so its names are transformed for every read.
+     */
+    HeaderNames headerNames(final PoijiOptions options) {
+        if (options.getFormatting().getClass() != DefaultFormatting.class) {
+            return new HeaderNames(options);
+        }
+        final int key = (options.getCaseInsensitive() ? 1 : 0)
+            | (options.getIgnoreWhitespaces() ? 2 : 0)
+            | (options.getNamedHeaderMandatory() ? 4 : 0);
+        HeaderNames names = defaultHeaderNames.get(key);
+        if (names == null) {
+            names = new HeaderNames(options);
+            defaultHeaderNames.set(key, names);
+        }
+        return names;
+    }
+
+    /**
+     * Decoders of the cell fields for the options. The decoders of {@link DefaultCasting} keep no state of a read, so
+     * they are created once for the options they depend on and shared by the reads. Another casting may depend on any
+     * option, so its decoders are created for every read.
+     */
+    Decoders decoders(final PoijiOptions options) {
+        final Casting casting = options.getCasting();
+        if (casting.getClass() != DefaultCasting.class) {
+            return new Decoders(null, casting, options);
+        }
+        final DecoderKey key = new DecoderKey(options, ((DefaultCasting) casting).isErrorLoggingEnabled());
+        for (final Decoders cached : decoders) {
+            if (key.equals(cached.key)) {
+                return cached;
+            }
+        }
+        final DefaultCasting shared = CASTINGS[key.errorLogging ? 1 : 0];
+        final Decoders created = new Decoders(key, shared, key.options(shared));
+        synchronized (this) {
+            final Decoders[] current = decoders;
+            final Decoders[] updated = new Decoders[Math.min(current.length + 1, CACHED_DECODERS)];
+            updated[0] = created;
+            System.arraycopy(current, 0, updated, 1, updated.length - 1);
+            decoders = updated;
+        }
+        return created;
+    }
+
+    Data createData() {
+        return new Data(this);
+    }
+
+    /**
+     * Creates a new entity from the values collected in the row buffer.
+     */
+    Object newInstance(final Data data) {
+        try {
+            final Instantiation instantiation = instantiation();
+            if (instantiation.parameters.length == 0) {
+                return createInstanceUsingDefaultConstructor(data, instantiation.instantiator);
+            } else {
+                return createInstanceUsingParameterizedConstructor(data, instantiation);
+            }
+        } catch (PoijiInstantiationException exception) {
+            throw exception;
+        } catch (Exception ex) {
+            throw new PoijiInstantiationException("Cannot create a new instance of " + entity.getName(), ex);
+        }
+    }
+
+    /**
+     * Constructor is defined lazily, so unsuitable classes fail on the first created instance like before.
+     */
+    private Instantiation instantiation() {
+        Instantiation result = instantiation;
+        if (result == null) {
+            result = new Instantiation(ConstructorSelector.selectConstructor(entity));
+            instantiation = result;
+        }
+        return result;
+    }
+
+    private Object createInstanceUsingDefaultConstructor(final Data data, final Instantiator instantiator)
+        throws Exception {
+        final Object instance = instantiator.newInstance();
+        for (int i = 0; i < data.assignedCount(); i++) {
+            final FieldSlot slot = slots[data.assignedSlot(i)];
+            if (data.isPrimitive(slot.index)) {
+                setPrimitive(data, slot, instance);
+            } else {
+                slot.accessor.set(instance, valueOf(data, slot));
+            }
+        }
+        return instance;
+    }
+
+    private Object createInstanceUsingParameterizedConstructor(final Data data, final Instantiation instantiation)
+        throws Exception {
+        final Object[] parameters = instantiation.parameters.clone();
+        for (int i = 0; i < parameters.length; i++) {
+            final Object parameter = parameters[i];
+            if (parameter instanceof FieldSlot) {
+                final FieldSlot slot = (FieldSlot) parameter;
+                parameters[i] = data.isAssigned(slot.index) ? valueOf(data, slot) : null;
+            }
+        }
+        final Object instance = instantiation.instantiator.newInstance(parameters);
+        fillPreCreatedProperties(data, instantiation, instance);
+        return instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fillPreCreatedProperties(final Data data, final Instantiation instantiation, final Object instance) {
+        for (int i = 0; i < data.assignedCount(); i++) {
+            final FieldSlot slot = slots[data.assignedSlot(i)];
+            if (instantiation.parameterSlots[slot.index]) {
+                continue;
+            }
+            final Class<?> fieldType = slot.field.getType();
+            if (fieldType.isAssignableFrom(Map.class)) {
+                final Map property = (Map) slot.accessor.get(instance);
+                property.putAll((Map) valueOf(data, slot));
+            } else if (fieldType.isAssignableFrom(Collection.class)) {
+                final Collection property = (Collection) slot.accessor.get(instance);
+                property.addAll((Collection) valueOf(data, slot));
+            }
+        }
+    }
+
+    private Object valueOf(final Data data, final FieldSlot slot) {
+        final Object value = data.get(slot.index);
+        if (slot.isRange()) {
+            return slot.nested.newInstance((Data) value);
+        } else if (slot.isList()) {
+            final List<?> elements = (List<?>) value;
+            final List<Object> result = new ArrayList<>(elements.size());
+            for (final Object element : elements) {
+                final Data elementData = (Data) element;
+                result.add(elementData.isEmpty() ? null : slot.nested.newInstance(elementData));
+            }
+            return result;
+        }
+        return value;
+    }
+
+    private static void setPrimitive(final Data data, final FieldSlot slot, final Object instance) {
+        final FieldAccessor accessor = slot.accessor;
+        final Class<?> type = slot.field.getType();
+        final long value = data.getLong(slot.index);
+        if (type == int.class) {
+            accessor.setInt(instance, (int) value);
+        } else if (type == long.class) {
+            accessor.setLong(instance, value);
+        } else if (type == double.class) {
+            accessor.setDouble(instance, data.getDouble(slot.index));
+        } else if (type == float.class) {
+            accessor.setFloat(instance, (float) data.getDouble(slot.index));
+        } else if (type == boolean.class) {
+            accessor.setBoolean(instance, value != 0);
+        } else if (type == short.class) {
+            accessor.setShort(instance, (short) value);
+        } else if (type == byte.class) {
+            accessor.setByte(instance, (byte) value);
+        } else {
+            accessor.setChar(instance, (char) value);
+        }
+    }
+
+    private static Collection<String> columnNames(final Class<?> entity, final boolean mandatoryOnly) {
+        final List<String> names = new ArrayList<>();
+        for (final ExcelCellName name : ReflectUtil.findRecursivePoijiAnnotations(entity, ExcelCellName.class)) {
+            if (!mandatoryOnly || name.mandatory()) {
+                names.addAll(getPossibleFieldNames(name));
+            }
+        }
+        return names;
+    }
+
+    private static List<String> getPossibleFieldNames(final ExcelCellName annotation) {
+        final String delimeter = annotation.columnNameDelimiter();
+        return delimeter.isEmpty() ? singletonList(annotation.value()) : asList(annotation.value().split(delimeter));
+    }
+
+    /**
+     * Selected constructor and its parameters mapped to slots.
+     */
+    private final class Instantiation {
+
+        private final Instantiator instantiator;
+        /**
+         * {@link FieldSlot} for the parameters mapped to fields of the entity, default values for others.
+         */
+        private final Object[] parameters;
+        private final boolean[] parameterSlots;
+
+        private Instantiation(final Constructor<?> constructor) {
+            this.instantiator = Instantiator.of(constructor);
+            this.parameterSlots = new boolean[slots.length];
+            if (constructor.getParameterCount() == 0) {
+                this.parameters = new Object[0];
+            } else {
+                final Object[] constructorFields = ReflectUtil.getConstructorFields(constructor);
+                this.parameters = new Object[constructorFields.length];
+                for (int i = 0; i < constructorFields.length; i++) {
+                    final Object parameter = constructorFields[i];
+                    if (parameter != null && parameter.getClass() == Field.class) {
+                        final FieldSlot slot = slotsByField.get(parameter);
+                        if (slot != null) {
+                            parameterSlots[slot.index] = true;
+                        }
+                        parameters[i] = slot;
+                    } else {
+                        parameters[i] = parameter;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Names of the columns transformed with the formatting of a read.
+     */
+    final class HeaderNames {
+
+        final Map<String, FieldSlot> namedFields;
+        final Collection<String> mandatoryColumnNames;
+
+        private HeaderNames(final PoijiOptions options) {
+            final Formatting formatting = options.getFormatting();
+            final Map<String, FieldSlot> namedFields = new HashMap<>();
+            EntityBinding.this.namedFields.forEach(
+                (name, slot) -> namedFields.put(formatting.transform(options, name), slot)
+            );
+            final Collection<String> names = options.getNamedHeaderMandatory()
+                ? columnNames
+                : EntityBinding.this.mandatoryColumnNames;
+            final List<String> mandatoryColumnNames = new ArrayList<>();
+            for (final String name : names) {
+                mandatoryColumnNames.add(formatting.transform(options, name));
+            }
+            this.namedFields = unmodifiableMap(namedFields);
+            this.mandatoryColumnNames = unmodifiableCollection(mandatoryColumnNames);
+        }
+    }
+
+    /**
+     * Decoders of the cell fields indexed by {@link FieldSlot#index}.
+     */
+    final class Decoders {
+
+        private final DecoderKey key;
+        final CellDecoder[] cell;
+        /**
+         * Raw value decoders, only if raw cell values are enabled.
+         */
+        final RawCellDecoder[] raw;
+
+        private Decoders(final DecoderKey key, final Casting casting, final PoijiOptions options) {
+            this.key = key;
+            this.cell = new CellDecoder[slots.length];
+            this.raw = new RawCellDecoder[slots.length];
+            final List<FieldSlot> cellFields = new ArrayList<>(orderedFields.values());
+            cellFields.addAll(namedFields.values());
+            for (final FieldSlot slot : cellFields) {
+                if (cell[slot.index] == null) {
+                    cell[slot.index] = casting.decoder(slot.field, options);
+                    if (options.isRawCellValues()) {
+                        raw[slot.index] = casting.rawDecoder(slot.field, options);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Options which the decoders of {@link DefaultCasting} depend on.
+     */
+    private static final class DecoderKey {
+
+        private final boolean errorLogging;
+        private final boolean rawCellValues;
+        private final String sheetName;
+        private final boolean trimCellValue;
+        private final boolean preferNullOverDefault;
+        private final Locale locale;
+        private final String datePattern;
+        private final DateTimeFormatter dateFormatter;
+        private final DateTimeFormatter dateTimeFormatter;
+        private final boolean dateLenient;
+        private final String dateRegex;
+        private final String dateTimeRegex;
+        private final String listDelimiter;
+
+        private DecoderKey(final PoijiOptions options, final boolean errorLogging) {
+            this.errorLogging = errorLogging;
+            this.rawCellValues = options.isRawCellValues();
+            this.sheetName = options.getSheetName();
+            this.trimCellValue = options.trimCellValue();
+            this.preferNullOverDefault = options.preferNullOverDefault();
+            this.locale = options.getLocale();
+            this.datePattern = options.datePattern();
+            this.dateFormatter = options.dateFormatter();
+            this.dateTimeFormatter = options.dateTimeFormatter();
+            this.dateLenient = options.getDateLenient();
+            this.dateRegex = options.getDateRegex();
+            this.dateTimeRegex = options.getDateTimeRegex();
+            this.listDelimiter = options.getListDelimiter();
+        }
+
+        /**
+         * @return options with only the values of the key, so the shared decoders keep no objects of a read
+         */
+        private PoijiOptions options(final Casting casting) {
+            return PoijiOptions.PoijiOptionsBuilder.settings()
+                .withCasting(casting)
+                .rawCellValues(rawCellValues)
+                .sheetName(sheetName)
+                .trimCellValue(trimCellValue)
+                .preferNullOverDefault(preferNullOverDefault)
+                .setLocale(locale)
+                .datePattern(datePattern)
+                .dateFormatter(dateFormatter)
+                .dateTimeFormatter(dateTimeFormatter)
+                .dateLenient(dateLenient)
+                .dateRegex(dateRegex)
+                .dateTimeRegex(dateTimeRegex)
+                .addListDelimiter(listDelimiter)
+                .build();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final DecoderKey key = (DecoderKey) o;
+            return errorLogging == key.errorLogging
+                && rawCellValues == key.rawCellValues
+                && trimCellValue == key.trimCellValue
+                && preferNullOverDefault == key.preferNullOverDefault
+                && dateLenient == key.dateLenient
+                && Objects.equals(sheetName, key.sheetName)
+                && Objects.equals(locale, key.locale)
+                && Objects.equals(datePattern, key.datePattern)
+                && Objects.equals(dateFormatter, key.dateFormatter)
+                && Objects.equals(dateTimeFormatter, key.dateTimeFormatter)
+                && Objects.equals(dateRegex, key.dateRegex)
+                && Objects.equals(dateTimeRegex, key.dateTimeRegex)
+                && Objects.equals(listDelimiter, key.listDelimiter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sheetName, locale, datePattern, dateFormatter, dateTimeFormatter, listDelimiter);
+        }
+    }
+}
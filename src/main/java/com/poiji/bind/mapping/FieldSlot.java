@@ -0,0 +1,82 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.annotation.ExcelList;
+import com.poiji.util.FieldAccessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * A mapped field of an entity with a fixed index in the {@link Data} row buffer.
+ */
+final class FieldSlot {
+
+    static final byte OBJECT = 0;
+    /**
+     * Primitive integral, boolean and char values are kept in {@link Data} unboxed as long.
+     */
+    static final byte LONG = 1;
+    /**
+     * Primitive floating point values are kept in {@link Data} unboxed as double.
+     */
+    static final byte DOUBLE = 2;
+
+    final int index;
+    final Field field;
+    final FieldAccessor accessor;
+    final byte kind;
+    /**
+     * Wrapper class of a primitive field type, otherwise the field type.
+     */
+    final Class<?> boxed;
+    /**
+     * Binding of an {@link com.poiji.annotation.ExcelCellRange} field or of an {@link ExcelList} element.
+     */
+    final EntityBinding nested;
+    final ExcelList excelList;
+
+    FieldSlot(final int index, final Field field, final EntityBinding nested, final ExcelList excelList) {
+        this.index = index;
+        this.field = field;
+        this.accessor = FieldAccessor.of(field);
+        this.kind = kindOf(field.getType());
+        this.boxed = boxedOf(field.getType());
+        this.nested = nested;
+        this.excelList = excelList;
+    }
+
+    private static byte kindOf(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return OBJECT;
+        }
+        return type == double.class || type == float.class ? DOUBLE : LONG;
+    }
+
+    private static Class<?> boxedOf(final Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        return type;
+    }
+
+    boolean isList() {
+        return excelList != null;
+    }
+
+    boolean isRange() {
+        return nested != null && excelList == null;
+    }
+}
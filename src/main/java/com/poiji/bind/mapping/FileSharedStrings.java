@@ -0,0 +1,271 @@
+package com.poiji.bind.mapping;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.TempFile;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.poi.xssf.usermodel.XSSFRelation.NS_SPREADSHEETML;
+
+/**
+ * Shared strings table which keeps the strings UTF-8 encoded in a memory mapped temp file.
+ * <p>
+ * Only the offsets of the strings and a small LRU cache of decoded strings stay on heap.
+ * Like {@link org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable}, phonetic runs are included.
+ */
+final class FileSharedStrings implements SharedStrings, Closeable {
+
+    /**
+     * Every string starting in a segment is mapped completely with the segment.
+     */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final File file;
+    private final long[] offsets;
+    private final int uniqueCount;
+    private final int count;
+    private final Map<Integer, String> cache;
+    private MappedByteBuffer[] segments;
+    private byte[] buffer = new byte[64];
+
+    private FileSharedStrings(
+        final File file, final long[] offsets, final int uniqueCount, final int count, final int maxLength,
+        final int cacheSize
+    ) throws IOException {
+        this.file = file;
+        this.offsets = offsets;
+        this.uniqueCount = uniqueCount;
+        this.count = count;
+        this.segments = map(file, offsets[uniqueCount], maxLength);
+        this.cache = cacheSize == 0 ? null : new LinkedHashMap<Integer, String>(cacheSize * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    static FileSharedStrings create(final OPCPackage open, final int cacheSize) throws IOException, SAXException {
+        final File file = TempFile.createTempFile("poiji-shared-strings", ".tmp");
+        final Writer writer = new Writer(file);
+        try {
+            final List<PackagePart> parts = open.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+            if (!parts.isEmpty()) {
+                try (InputStream stream = parts.get(0).getInputStream()) {
+                    final XMLReader reader = XMLHelper.newXMLReader();
+                    reader.setContentHandler(writer);
+                    reader.parse(new InputSource(stream));
+                }
+            }
+            writer.close();
+            return new FileSharedStrings(
+                file, Arrays.copyOf(writer.offsets, writer.uniqueCount + 1), writer.uniqueCount,
+                writer.count, writer.maxLength, cacheSize
+            );
+        } catch (ParserConfigurationException e) {
+            delete(writer, file);
+            throw new SAXException("SAX parser appears to be broken - " + e.getMessage(), e);
+        } catch (IOException | SAXException | RuntimeException e) {
+            delete(writer, file);
+            throw e;
+        }
+    }
+
+    private static void delete(final Writer writer, final File file) {
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // the file is deleted anyway
+        }
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    private static MappedByteBuffer[] map(final File file, final long size, final int maxLength) throws IOException {
+        final int count = (int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+        final MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            for (int i = 0; i < count; i++) {
+                final long position = i * SEGMENT_SIZE;
+                final long length = Math.min(size - position, SEGMENT_SIZE + maxLength);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            }
+        }
+        return segments;
+    }
+
+    @Override
+    public synchronized RichTextString getItemAt(final int idx) {
+        if (segments == null) {
+            throw new IllegalStateException("Shared strings are already closed");
+        }
+        if (idx < 0 || idx >= uniqueCount) {
+            throw new IndexOutOfBoundsException("Shared string index " + idx + " is out of range " + uniqueCount);
+        }
+        if (cache == null) {
+            return new XSSFRichTextString(decode(idx));
+        }
+        String string = cache.get(idx);
+        if (string == null) {
+            string = decode(idx);
+            cache.put(idx, string);
+        }
+        return new XSSFRichTextString(string);
+    }
+
+    /**
+     * Copies the encoded string into the reusable buffer with a single bulk get. Callers hold the lock.
+     */
+    private String decode(final int idx) {
+        final long offset = offsets[idx];
+        final int length = (int) (offsets[idx + 1] - offset);
+        if (length == 0) {
+            return "";
+        }
+        final MappedByteBuffer segment = segments[(int) (offset / SEGMENT_SIZE)];
+        final int position = (int) (offset % SEGMENT_SIZE);
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+        }
+        ((Buffer) segment).position(position);
+        segment.get(buffer, 0, length);
+        return new String(buffer, 0, length, UTF_8);
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    /**
+     * Drops the mapped segments before deleting the file, so they can be unmapped and the file is removed
+     * instead of being kept until exit on platforms which don't delete mapped files.
+     */
+    @Override
+    public synchronized void close() {
+        if (segments == null) {
+            return;
+        }
+        segments = null;
+        buffer = null;
+        if (cache != null) {
+            cache.clear();
+        }
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Parses sharedStrings.xml and appends every string to the file.
+     */
+    private static final class Writer extends DefaultHandler implements Closeable {
+
+        private final OutputStream out;
+        private final StringBuilder characters = new StringBuilder(64);
+        private long[] offsets = new long[1024];
+        private long size;
+        private int uniqueCount;
+        private int count;
+        private int maxLength;
+        private boolean tIsOpen;
+        private boolean closed;
+
+        private Writer(final File file) throws IOException {
+            this.out = new BufferedOutputStream(new FileOutputStream(file), 1 << 16);
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if (uri != null && !uri.equals(NS_SPREADSHEETML)) {
+                return;
+            }
+            if ("sst".equals(localName)) {
+                final String count = attributes.getValue("count");
+                if (count != null) {
+                    this.count = (int) Long.parseLong(count);
+                }
+            } else if ("si".equals(localName)) {
+                characters.setLength(0);
+            } else if ("t".equals(localName)) {
+                tIsOpen = true;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            if (uri != null && !uri.equals(NS_SPREADSHEETML)) {
+                return;
+            }
+            if ("si".equals(localName)) {
+                write(characters.toString().getBytes(UTF_8));
+            } else if ("t".equals(localName)) {
+                tIsOpen = false;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (tIsOpen) {
+                characters.append(ch, start, length);
+            }
+        }
+
+        private void write(final byte[] bytes) throws SAXException {
+            try {
+                out.write(bytes);
+            } catch (IOException e) {
+                throw new SAXException("Can't write shared strings to a temp file", e);
+            }
+            size += bytes.length;
+            maxLength = Math.max(maxLength, bytes.length);
+            uniqueCount++;
+            if (uniqueCount == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[uniqueCount] = size;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                out.close();
+            }
+        }
+    }
+}
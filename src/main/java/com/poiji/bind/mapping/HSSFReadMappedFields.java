@@ -1,6 +1,5 @@
 package com.poiji.bind.mapping;
 
-import com.poiji.annotation.DisableCellFormatXLS;
 import com.poiji.option.PoijiOptions;
 
 import java.lang.reflect.Field;
@@ -19,11 +18,19 @@ public final class HSSFReadMappedFields extends ReadMappedFields{
     private final DataFormatter dataFormatter;
     private final Collection<Short> disabledCellFormat;
     private final BaseFormulaEvaluator baseFormulaEvaluator;
+    private Data data;
 
     public HSSFReadMappedFields(
         final Class<?> entity, final BaseFormulaEvaluator baseFormulaEvaluator, final PoijiOptions options
     ) {
-        super(entity, options);
+        this(entity, baseFormulaEvaluator, options, ReadContext.of(options));
+    }
+
+    HSSFReadMappedFields(
+        final Class<?> entity, final BaseFormulaEvaluator baseFormulaEvaluator, final PoijiOptions options,
+        final ReadContext context
+    ) {
+        super(entity, options, context);
         this.baseFormulaEvaluator = baseFormulaEvaluator;
         dataFormatter = new DataFormatter();
         disabledCellFormat = new HashSet<>();
@@ -31,38 +38,26 @@ public final class HSSFReadMappedFields extends ReadMappedFields{
 
     @Override
     public HSSFReadMappedFields parseEntity(){
-        final Class<?> superclass = entity.getSuperclass();
-        if (!superclass.isInterface() && superclass != Object.class) {
-            superClassFields = new HSSFReadMappedFields(superclass, baseFormulaEvaluator, options).parseEntity();
-        }
         super.parseEntity();
         return this;
     }
 
     private void parseDisableCellFormatColumns(){
-        final Collection<Field> fields = parseDisableCellFormatFields();
-        for (final Map.Entry<Integer, Field> entry : orderedFields.entrySet()) {
-            if (fields.contains(entry.getValue())){
+        final Collection<Field> fields = binding.disabledCellFormatFields;
+        for (final Map.Entry<Integer, FieldSlot> entry : orderedFields.entrySet()) {
+            if (fields.contains(entry.getValue().field)){
                 disabledCellFormat.add(entry.getKey().shortValue());
             }
         }
         disabledCellFormat.addAll(unknownColumns.keySet().stream().map(Integer::shortValue).collect(toList()));
     }
 
-    private Collection<Field> parseDisableCellFormatFields() {
-        final Field[] fields = entity.getDeclaredFields();
-        final Collection<Field> result = new HashSet<>();
-        for (final Field field : fields) {
-            final DisableCellFormatXLS annotation = field.getAnnotation(DisableCellFormatXLS.class);
-            if (annotation != null && annotation.value()) {
-                result.add(field);
-            }
-        }
-        return result;
-    }
-
     public <T> T parseRow(final Row row) {
-        final Data data = createInstanceData();
+        if (data == null) {
+            data = createInstanceData();
+        } else {
+            data.reset();
+        }
         for (short columnOrder = row.getFirstCellNum(); columnOrder < row.getLastCellNum(); columnOrder++) {
             final Cell cell = row.getCell(columnOrder);
             if (disabledCellFormat.contains(columnOrder)){
@@ -74,6 +69,49 @@ public final class HSSFReadMappedFields extends ReadMappedFields{
         return (T) createNewInstance(data);
     }
 
+    /**
+     * Same as {@link #parseRow(Row)} for the values of a row read from the record stream.
+     *
+     * @param values formatted values of the row by column, null for the columns without cells
+     */
+    <T> T parseRow(final int rowNum, final String[] values, final int firstColumn, final int lastColumn) {
+        if (data == null) {
+            data = createInstanceData();
+        } else {
+            data.reset();
+        }
+        for (int columnOrder = firstColumn; columnOrder < lastColumn; columnOrder++) {
+            final String cellValue = values[columnOrder];
+            setCellInData(rowNum, columnOrder, cellValue == null ? "" : cellValue, data);
+        }
+        return (T) createNewInstance(data);
+    }
+
+    /**
+     * Formats the value of a number cell read from the record stream, same as {@link #parseRow(Row)} formats it.
+     */
+    String formatNumber(
+        final int column, final double value, final int formatIndex, final String formatString, final boolean date1904
+    ) {
+        if (disabledCellFormat.contains((short) column)) {
+            return dataFormatter.formatRawCellContents(value, 0, "General", date1904);
+        }
+        return dataFormatter.formatRawCellContents(value, formatIndex, formatString, date1904);
+    }
+
+    /**
+     * Same as {@link #parseColumnNames(Row)} for the values of a row read from the record stream.
+     */
+    void parseColumnNames(final String[] values, final int firstColumn, final int lastColumn) {
+        for (int columnOrder = firstColumn; columnOrder < lastColumn; columnOrder++) {
+            if (values[columnOrder] != null) {
+                parseColumnName(columnOrder, values[columnOrder]);
+            }
+        }
+        validateMandatoryNameColumns();
+        parseDisableCellFormatColumns();
+    }
+
     public void parseColumnNames(final Row row) {
         for (short columnOrder = row.getFirstCellNum(); columnOrder < row.getLastCellNum(); columnOrder++) {
             final Cell cell = row.getCell(columnOrder);
@@ -0,0 +1,323 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.option.PoijiOptions;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BlankRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.hssf.record.crypto.Biff8EncryptionKey;
+import org.apache.poi.ss.usermodel.FormulaError;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reader of a sheet of an excel file ending with xls, built on the event model of POI.
+ * <p>
+ * The records of the workbook stream are pulled one at a time, as {@code HSSFEventFactory} does, and passed to this
+ * listener whenever a row is requested. The cells of a row are collected until the cells of the next row start, then
+ * the row is bound same as {@link HSSFReadMappedFields#parseRow(org.apache.poi.ss.usermodel.Row)} does. Only the
+ * shared strings and the formats are kept, and the records after the sheet or the limit are not read.
+ */
+final class HSSFSheetEventReader<T> implements HSSFListener {
+
+    private final RecordFactoryInputStream records;
+    private final FormatTrackingHSSFListener formats;
+    private final HSSFReadMappedFields readMappedFields;
+    private final PoijiOptions options;
+    private final String sheetName;
+    private final Queue<T> buffer = new ArrayDeque<>();
+    private final List<BoundSheetRecord> boundSheets = new ArrayList<>();
+    private SSTRecord sst;
+    private boolean date1904;
+    private BoundSheetRecord[] sheetsByPosition;
+    private BoundSheetRecord target;
+    private int depth;
+    private int sheetCount;
+    private boolean inSheet;
+    private boolean done;
+    private int row = -1;
+    private String[] values = new String[16];
+    private int firstColumn;
+    private int lastColumn;
+    private boolean valued;
+    private int stringColumn = -1;
+    private boolean headerRead;
+    private int internalCount;
+
+    /**
+     * @param workbook stream of the workbook document
+     * @param sheetName name of the sheet, or null to read the sheet of the index of the options
+     */
+    HSSFSheetEventReader(
+        final InputStream workbook, final HSSFReadMappedFields readMappedFields, final PoijiOptions options,
+        final String sheetName
+    ) {
+        this.readMappedFields = readMappedFields;
+        this.options = options;
+        this.sheetName = sheetName;
+        this.formats = new FormatTrackingHSSFListener(this);
+        Biff8EncryptionKey.setCurrentUserPassword(options.getPassword());
+        try {
+            this.records = new RecordFactoryInputStream(workbook, false);
+        } finally {
+            Biff8EncryptionKey.setCurrentUserPassword(null);
+        }
+    }
+
+    /**
+     * @return stream which reads the records as far as its rows are consumed
+     */
+    Stream<T> stream() {
+        final Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL
+        ) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                if (buffer.isEmpty() && !read()) {
+                    return false;
+                }
+                action.accept(buffer.remove());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private boolean read() {
+        while (buffer.isEmpty()) {
+            if (done) {
+                return false;
+            }
+            final Record record = records.nextRecord();
+            if (record == null) {
+                endRow();
+                done = true;
+            } else {
+                formats.processRecord(record);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void processRecord(final Record record) {
+        switch (record.getSid()) {
+            case BOFRecord.sid:
+                if (depth++ == 0 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+                    startSheet();
+                }
+                break;
+            case EOFRecord.sid:
+                if (--depth == 0 && inSheet) {
+                    endRow();
+                    done = true;
+                }
+                break;
+            case BoundSheetRecord.sid:
+                boundSheets.add((BoundSheetRecord) record);
+                break;
+            case SSTRecord.sid:
+                sst = (SSTRecord) record;
+                break;
+            case DateWindow1904Record.sid:
+                date1904 = ((DateWindow1904Record) record).getWindowing() == 1;
+                break;
+            case StringRecord.sid:
+                if (stringColumn >= 0) {
+                    values[stringColumn] = ((StringRecord) record).getString();
+                    stringColumn = -1;
+                }
+                break;
+            case MulBlankRecord.sid:
+                if (isSheetCell()) {
+                    final MulBlankRecord blanks = (MulBlankRecord) record;
+                    for (int column = blanks.getFirstColumn(); column <= blanks.getLastColumn(); column++) {
+                        startCell(blanks.getRow(), column);
+                    }
+                }
+                break;
+            default:
+                if (record instanceof CellValueRecordInterface && isSheetCell()) {
+                    final CellValueRecordInterface cell = (CellValueRecordInterface) record;
+                    startCell(cell.getRow(), cell.getColumn());
+                    readCell(cell);
+                }
+        }
+    }
+
+    private boolean isSheetCell() {
+        return inSheet && depth == 1;
+    }
+
+    /**
+     * Finds the sheet of this substream by the positions of the sheets in the workbook stream.
+     */
+    private void startSheet() {
+        if (sheetsByPosition == null) {
+            sheetsByPosition = BoundSheetRecord.orderByBofPosition(boundSheets);
+            target = targetSheet();
+            if (target == null) {
+                done = true;
+            }
+        }
+        inSheet = sheetCount < sheetsByPosition.length && sheetsByPosition[sheetCount] == target;
+        sheetCount++;
+    }
+
+    /**
+     * Selects the sheet the same way as the reader of the loaded workbook does.
+     */
+    private BoundSheetRecord targetSheet() {
+        final int requestedIndex = options.sheetIndex();
+        if (options.ignoreHiddenSheets()) {
+            int nonHiddenSheetIndex = 0;
+            for (final BoundSheetRecord sheet : boundSheets) {
+                if (!sheet.isHidden() && !sheet.isVeryHidden()) {
+                    if (sheetName == null
+                        ? nonHiddenSheetIndex == requestedIndex : sheet.getSheetname().equalsIgnoreCase(sheetName)) {
+                        return sheet;
+                    }
+                    nonHiddenSheetIndex++;
+                }
+            }
+            return null;
+        }
+        if (sheetName == null) {
+            return requestedIndex < boundSheets.size() ? boundSheets.get(requestedIndex) : null;
+        }
+        for (final BoundSheetRecord sheet : boundSheets) {
+            if (sheet.getSheetname().equalsIgnoreCase(sheetName)) {
+                return sheet;
+            }
+        }
+        return null;
+    }
+
+    private void readCell(final CellValueRecordInterface cell) {
+        final int column = cell.getColumn();
+        switch (((Record) cell).getSid()) {
+            case NumberRecord.sid:
+                values[column] = number(cell, ((NumberRecord) cell).getValue());
+                break;
+            case LabelSSTRecord.sid:
+                values[column] = sst.getString(((LabelSSTRecord) cell).getSSTIndex()).getString();
+                break;
+            case LabelRecord.sid:
+                values[column] = ((LabelRecord) cell).getValue();
+                break;
+            case BoolErrRecord.sid:
+                final BoolErrRecord boolErr = (BoolErrRecord) cell;
+                values[column] = boolErr.isBoolean()
+                    ? bool(boolErr.getBooleanValue()) : FormulaError.forInt(boolErr.getErrorValue()).getString();
+                break;
+            case FormulaRecord.sid:
+                values[column] = formulaResult((FormulaRecord) cell);
+                break;
+            case BlankRecord.sid:
+                return;
+            default:
+                values[column] = "";
+        }
+        valued = true;
+    }
+
+    private String formulaResult(final FormulaRecord formula) {
+        switch (formula.getCachedResultTypeEnum()) {
+            case NUMERIC:
+                return number(formula, formula.getValue());
+            case BOOLEAN:
+                return bool(formula.getCachedBooleanValue());
+            case ERROR:
+                return FormulaError.forInt(formula.getCachedErrorValue()).getString();
+            default:
+                if (formula.hasCachedResultString()) {
+                    stringColumn = formula.getColumn();
+                }
+                return "";
+        }
+    }
+
+    private String number(final CellValueRecordInterface cell, final double value) {
+        final String formatString = formats.getFormatString(cell);
+        return readMappedFields.formatNumber(
+            cell.getColumn(), value, formats.getFormatIndex(cell), formatString == null ? "General" : formatString,
+            date1904
+        );
+    }
+
+    private static String bool(final boolean value) {
+        return value ? "TRUE" : "FALSE";
+    }
+
+    /**
+     * Adds a blank cell to its row. The row before it is bound if the cell starts the next row.
+     */
+    private void startCell(final int rowNum, final int column) {
+        if (rowNum != row) {
+            endRow();
+            row = rowNum;
+            firstColumn = column;
+            lastColumn = column + 1;
+        } else {
+            firstColumn = Math.min(firstColumn, column);
+            lastColumn = Math.max(lastColumn, column + 1);
+        }
+        if (values.length <= column) {
+            values = Arrays.copyOf(values, Math.max(column + 1, values.length * 2));
+        }
+        if (values[column] == null) {
+            values[column] = "";
+        }
+    }
+
+    private void endRow() {
+        if (row < 0) {
+            return;
+        }
+        final int headerStart = options.getHeaderStart();
+        final int headerCount = options.getHeaderCount();
+        if (headerCount > 0 && row == headerStart + headerCount - 1) {
+            readMappedFields.parseColumnNames(values, firstColumn, lastColumn);
+            headerRead = true;
+        } else if (row >= headerStart + headerCount + options.skip() && valued) {
+            if (headerCount > 0 && !headerRead) {
+                readMappedFields.parseColumnNames(values, 0, 0);
+                headerRead = true;
+            }
+            internalCount++;
+            if (options.getLimit() != 0 && internalCount > options.getLimit()) {
+                done = true;
+            } else {
+                buffer.add(readMappedFields.parseRow(row, values, firstColumn, lastColumn));
+            }
+        }
+        Arrays.fill(values, firstColumn, lastColumn, null);
+        row = -1;
+        valued = false;
+        stringColumn = -1;
+    }
+}
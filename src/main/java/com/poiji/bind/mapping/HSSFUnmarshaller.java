@@ -1,17 +1,30 @@
 package com.poiji.bind.mapping;
 
+import com.poiji.bind.SheetInfo;
 import com.poiji.bind.Unmarshaller;
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
 import com.poiji.save.TransposeUtil;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.DimensionsRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.crypto.Biff8EncryptionKey;
 import org.apache.poi.hssf.usermodel.HSSFFormulaEvaluator;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.formula.BaseFormulaEvaluator;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.IOUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -25,16 +38,39 @@ abstract class HSSFUnmarshaller implements Unmarshaller {
     private final int limit;
     private int internalCount;
     protected BaseFormulaEvaluator baseFormulaEvaluator;
+    protected ReadContext context;
 
     HSSFUnmarshaller(final PoijiOptions options) {
         this.options = options;
         this.limit = options.getLimit();
+        this.context = ReadContext.of(options);
+    }
+
+    @Override
+    public Unmarshaller withReadContext(final ReadContext context) {
+        this.context = context;
+        return this;
     }
 
     @Override
     public <T> void unmarshal(Class<T> type, Consumer<? super T> consumer) {
+        unmarshal(type, consumer, size -> {
+        });
+    }
+
+    @Override
+    public <T> void unmarshal(Class<T> type, Consumer<? super T> consumer, IntConsumer sizeHint) {
+        if (isEventRead()) {
+            try (Stream<T> stream = eventStream(type, false)) {
+                stream.forEach(consumer);
+            }
+            return;
+        }
         try (final HSSFWorkbook workbook = (HSSFWorkbook) workbook()) {
             final Sheet sheet = getSheet(type, workbook);
+            if (sheet != null) {
+                sizeHint.accept(UnmarshallerHelper.estimateSize(options, sheet.getLastRowNum()));
+            }
             processRowsToObjects(sheet, type, consumer);
         } catch (final IOException e) {
             throw new PoijiException("Problem occurred while closing HSSFWorkbook", e);
@@ -52,6 +88,76 @@ abstract class HSSFUnmarshaller implements Unmarshaller {
         }
     }
 
+    /**
+     * Reads the sheets from the record stream of the workbook, up to the dimensions of the last sheet.
+     */
+    @Override
+    public List<SheetInfo> readSheetInfos() {
+        final POIFSFileSystem fileSystem = fileSystem();
+        try (InputStream workbook =
+                 fileSystem.createDocumentInputStream(HSSFWorkbook.getWorkbookDirEntryName(fileSystem.getRoot()))) {
+            final RecordFactoryInputStream records;
+            Biff8EncryptionKey.setCurrentUserPassword(options.getPassword());
+            try {
+                records = new RecordFactoryInputStream(workbook, false);
+            } finally {
+                Biff8EncryptionKey.setCurrentUserPassword(null);
+            }
+            final List<BoundSheetRecord> boundSheets = new ArrayList<>();
+            final Map<BoundSheetRecord, DimensionsRecord> dimensions = new IdentityHashMap<>();
+            BoundSheetRecord[] sheetsByPosition = null;
+            BoundSheetRecord sheet = null;
+            int depth = 0;
+            int sheetCount = 0;
+            Record record;
+            while ((record = records.nextRecord()) != null) {
+                if (record instanceof BoundSheetRecord) {
+                    boundSheets.add((BoundSheetRecord) record);
+                } else if (record instanceof BOFRecord) {
+                    if (depth++ == 0 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+                        if (sheetsByPosition == null) {
+                            sheetsByPosition = BoundSheetRecord.orderByBofPosition(boundSheets);
+                        }
+                        sheet = sheetCount < sheetsByPosition.length ? sheetsByPosition[sheetCount] : null;
+                        sheetCount++;
+                    }
+                } else if (record instanceof EOFRecord) {
+                    if (--depth == 0 && sheetsByPosition != null && sheetCount >= sheetsByPosition.length) {
+                        break;
+                    }
+                } else if (record instanceof DimensionsRecord && depth == 1 && sheet != null) {
+                    dimensions.putIfAbsent(sheet, (DimensionsRecord) record);
+                }
+            }
+            final List<SheetInfo> result = new ArrayList<>(boundSheets.size());
+            for (final BoundSheetRecord boundSheet : boundSheets) {
+                result.add(sheetInfo(boundSheet, result.size(), dimensions.get(boundSheet)));
+            }
+            return result;
+        } catch (final IOException e) {
+            throw new PoijiException("Problem occurred while reading HSSFWorkbook", e);
+        } finally {
+            IOUtils.closeQuietly(fileSystem);
+        }
+    }
+
+    private static SheetInfo sheetInfo(
+        final BoundSheetRecord sheet, final int sheetIndex, final DimensionsRecord dimension
+    ) {
+        final String state = sheet.isVeryHidden() ? "veryHidden" : sheet.isHidden() ? "hidden" : "visible";
+        if (dimension == null) {
+            return new SheetInfo(
+                sheet.getSheetname(), sheetIndex, state, null, null, SheetInfo.UNKNOWN, SheetInfo.UNKNOWN
+            );
+        }
+        final int rowCount = Math.max(dimension.getLastRow() - dimension.getFirstRow(), 0);
+        final int columnCount = Math.max(dimension.getLastCol() - dimension.getFirstCol(), 0);
+        final String ref = rowCount == 0 || columnCount == 0 ? null : new CellRangeAddress(
+            dimension.getFirstRow(), dimension.getLastRow() - 1, dimension.getFirstCol(), dimension.getLastCol() - 1
+        ).formatAsString();
+        return new SheetInfo(sheet.getSheetname(), sheetIndex, state, null, ref, rowCount, columnCount);
+    }
+
     private <T> Sheet getSheet(final Class<T> type, final HSSFWorkbook workbook) {
         if (options.getTransposed()){
             TransposeUtil.transpose(workbook);
@@ -63,18 +169,70 @@ abstract class HSSFUnmarshaller implements Unmarshaller {
 
     @Override
     public <T> Stream<T> stream(Class<T> type){
+        return stream(type, false);
+    }
+
+    @Override
+    public <T> Stream<T> bindingStream(Class<T> type){
+        return stream(type, true);
+    }
+
+    private <T> Stream<T> stream(Class<T> type, boolean deferred){
+        if (isEventRead()) {
+            return eventStream(type, deferred);
+        }
         try (final HSSFWorkbook workbook = (HSSFWorkbook) workbook()) {
             final Sheet sheet = getSheet(type, workbook);
-            return processRowsToStream(sheet, type);
+            return processRowsToStream(sheet, type, deferred);
         } catch (final IOException e) {
             throw new PoijiException("Problem occurred while closing HSSFWorkbook", e);
         }
     }
 
-    protected  <T> Stream<T> processRowsToStream(final Sheet sheet, final Class<T> type) {
+    private boolean isEventRead() {
+        return options.isXlsEventReader() && !options.getTransposed();
+    }
+
+    /**
+     * Reads the sheet from the record stream of the workbook, see {@link HSSFSheetEventReader}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Stream<T> eventStream(final Class<T> type, final boolean deferred) {
+        final POIFSFileSystem fileSystem = fileSystem();
+        try {
+            final HSSFReadMappedFields readMappedFields = new HSSFReadMappedFields(type, null, options, context).parseEntity();
+            final InputStream workbook =
+                fileSystem.createDocumentInputStream(HSSFWorkbook.getWorkbookDirEntryName(fileSystem.getRoot()));
+            final String sheetName = SheetNameExtractor.getSheetName(type, options).orElse(null);
+            if (deferred) {
+                readMappedFields.deferBinding();
+                final Stream<RowCells> rows =
+                    new HSSFSheetEventReader<RowCells>(workbook, readMappedFields, options, sheetName).stream();
+                return readMappedFields.<T>bind(rows).onClose(() -> IOUtils.closeQuietly(fileSystem));
+            }
+            return new HSSFSheetEventReader<T>(workbook, readMappedFields, options, sheetName).stream()
+                .onClose(() -> IOUtils.closeQuietly(fileSystem));
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeQuietly(fileSystem);
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new PoijiException("Problem occurred while reading HSSFWorkbook", e);
+        }
+    }
+
+    protected  <T> Stream<T> processRowsToStream(final Sheet sheet, final Class<T> type, final boolean deferred) {
         final int skip = options.skip();
         final int maxPhysicalNumberOfRows = sheet.getPhysicalNumberOfRows() + 1 - skip;
         final HSSFReadMappedFields readMappedFields = loadColumnTitles(sheet, maxPhysicalNumberOfRows, type);
+        if (deferred) {
+            readMappedFields.deferBinding();
+            return readMappedFields.bind(rowStream(sheet, readMappedFields));
+        }
+        return rowStream(sheet, readMappedFields);
+    }
+
+    private <T> Stream<T> rowStream(final Sheet sheet, final HSSFReadMappedFields readMappedFields) {
         final Iterator<T> iterator = new HSSFStreamIterator<>(sheet.iterator(), readMappedFields, options);
         final Spliterator<T> spliterator =
             Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.IMMUTABLE);
@@ -130,7 +288,7 @@ abstract class HSSFUnmarshaller implements Unmarshaller {
     }
 
     private HSSFReadMappedFields loadColumnTitles(Sheet sheet, int maxPhysicalNumberOfRows, final Class<?> type) {
-        final HSSFReadMappedFields readMappedFields = new HSSFReadMappedFields(type, baseFormulaEvaluator,  options).parseEntity();
+        final HSSFReadMappedFields readMappedFields = new HSSFReadMappedFields(type, baseFormulaEvaluator, options, context).parseEntity();
         if (maxPhysicalNumberOfRows > 0 && options.getHeaderCount() > 0) {
             readMappedFields.parseColumnNames(sheet.getRow(options.getHeaderStart() + options.getHeaderCount() - 1));
         }
@@ -152,4 +310,9 @@ abstract class HSSFUnmarshaller implements Unmarshaller {
     }
 
     protected abstract Workbook workbook();
+
+    /**
+     * @return file system of the workbook, for the reader of the record stream
+     */
+    protected abstract POIFSFileSystem fileSystem();
 }
@@ -4,6 +4,7 @@ import com.poiji.bind.PoijiFile;
 import com.poiji.bind.Unmarshaller;
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 
@@ -30,4 +31,13 @@ final class HSSFUnmarshallerFile extends HSSFUnmarshaller implements Unmarshalle
             throw new PoijiException("Problem occurred while creating HSSFWorkbook", e);
         }
     }
+
+    @Override
+    protected POIFSFileSystem fileSystem() {
+        try {
+            return new POIFSFileSystem(poijiFile.file(), true);
+        } catch (IOException e) {
+            throw new PoijiException("Problem occurred while creating HSSFWorkbook", e);
+        }
+    }
 }
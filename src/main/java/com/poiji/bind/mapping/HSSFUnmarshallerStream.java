@@ -4,6 +4,7 @@ import com.poiji.bind.PoijiInputStream;
 import com.poiji.bind.Unmarshaller;
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 
@@ -34,4 +35,13 @@ final class HSSFUnmarshallerStream extends HSSFUnmarshaller implements Unmarshal
             throw new PoijiException("Problem occurred while creating HSSFWorkbook", e);
         }
     }
+
+    @Override
+    protected POIFSFileSystem fileSystem() {
+        try {
+            return new POIFSFileSystem(poijiInputStream.stream());
+        } catch (IOException e) {
+            throw new PoijiException("Problem occurred while creating HSSFWorkbook", e);
+        }
+    }
 }
@@ -2,6 +2,8 @@ package com.poiji.bind.mapping;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.poi.ss.util.CellAddress;
 
 /**
@@ -9,10 +11,16 @@ import org.apache.poi.ss.util.CellAddress;
  */
 public final class PoijiLogCellFormat {
 
-    private final List<InternalCellFormat> formats = new ArrayList<>();
+    private final Queue<InternalCellFormat> formats = new ConcurrentLinkedQueue<>();
 
+    /**
+     * Returns a copy of the log. Unlike before, the list is not a live view: formats logged after the call are not
+     * visible in it, and changing the list doesn't change the log, so call again to see later formats.
+     *
+     * @return formats logged so far, in the order they were logged
+     */
     public List<InternalCellFormat> formats() {
-        return formats;
+        return new ArrayList<>(formats);
     }
 
     void addFormat(CellAddress cellAddress, short formatIndex, String formatString, String cellType, String cellStyleStr) {
@@ -0,0 +1,38 @@
+package com.poiji.bind.mapping;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+
+/**
+ * Creates the shared strings table used while reading an excel file ending with xlsx.
+ * <p>
+ * A created table which implements {@link java.io.Closeable} is closed when the read is finished.
+ */
+@FunctionalInterface
+public interface PoijiSharedStrings {
+
+    SharedStrings create(OPCPackage open) throws IOException, SAXException;
+
+    /**
+     * Keeps all shared strings on heap. It is the default.
+     */
+    static PoijiSharedStrings inMemory() {
+        return ReadOnlySharedStringsTable::new;
+    }
+
+    /**
+     * Keeps shared strings UTF-8 encoded in a memory mapped temp file, so huge tables don't use heap.
+     *
+     * @param cacheSize number of recently used strings cached on heap, 0 disables the cache
+     */
+    static PoijiSharedStrings tempFile(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must be greater than or equal to 0");
+        }
+        return open -> FileSharedStrings.create(open, cacheSize);
+    }
+}
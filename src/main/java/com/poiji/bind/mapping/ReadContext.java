@@ -0,0 +1,96 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.config.CastResult;
+import com.poiji.config.Casting;
+import com.poiji.config.DefaultCastingError;
+import com.poiji.option.PoijiOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Mutable state of one read: the cast errors and the cell format log. The options only hold the configuration, so
+ * one options can serve any count of reads, also at once.
+ * <p>
+ * A read without a context of its own logs into the casting and the format log of its options, which are shared by
+ * all reads with the options. A read with its own context logs only into the context:
+ * <pre>
+ * ReadContext context = new ReadContext();
+ * {@literal List<Employee>} employees = Poiji.{@literal <Employee>}fromExcel().withSource(file).withOptions(options)
+ *     .withJavaType(Employee.class).withReadContext(context).toList();
+ * {@literal List<DefaultCastingError>} errors = context.getErrors();
+ * </pre>
+ * The errors are logged if the casting logs errors. The cell formats of xlsx files are logged if the options have a
+ * format log or the context is created to log them.
+ */
+public final class ReadContext {
+
+    private final Queue<DefaultCastingError> errors;
+    private final PoijiLogCellFormat cellFormat;
+    private final boolean logCellFormats;
+    /**
+     * Casting which logs the errors of a read without a context of its own.
+     */
+    private final Casting casting;
+
+    public ReadContext() {
+        this(false);
+    }
+
+    /**
+     * @param logCellFormats true to log the cell formats even if the options have no format log
+     */
+    public ReadContext(final boolean logCellFormats) {
+        this(new ConcurrentLinkedQueue<>(), new PoijiLogCellFormat(), logCellFormats, null);
+    }
+
+    private ReadContext(
+        final Queue<DefaultCastingError> errors, final PoijiLogCellFormat cellFormat, final boolean logCellFormats,
+        final Casting casting
+    ) {
+        this.errors = errors;
+        this.cellFormat = cellFormat;
+        this.logCellFormats = logCellFormats;
+        this.casting = casting;
+    }
+
+    /**
+     * Creates the context of a read without a context of its own, which logs into the casting and the format log of
+     * the options.
+     */
+    static ReadContext of(final PoijiOptions options) {
+        return new ReadContext(null, options.getPoijiCellFormat(), false, options.getCasting());
+    }
+
+    /**
+     * @return unmodifiable snapshot of the errors of the values cast by the read so far, in the order they were
+     * logged
+     */
+    public List<DefaultCastingError> getErrors() {
+        return errors == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(errors));
+    }
+
+    /**
+     * @return copy of the cell formats of the read so far, in the order they were logged
+     */
+    public List<PoijiLogCellFormat.InternalCellFormat> getCellFormats() {
+        return cellFormat == null ? Collections.emptyList() : cellFormat.formats();
+    }
+
+    /**
+     * @return format log of the read, or null if the cell formats are not logged
+     */
+    PoijiLogCellFormat cellFormat(final PoijiOptions options) {
+        return logCellFormats || options.getPoijiCellFormat() != null ? cellFormat : null;
+    }
+
+    /**
+     * Creates the cast result of one thread of the read.
+     */
+    CastResult castResult() {
+        return errors == null ? CastResult.of(casting) : new CastResult(errors);
+    }
+}
@@ -1,67 +1,80 @@
 package com.poiji.bind.mapping;
 
-import com.poiji.annotation.*;
-import com.poiji.config.Casting;
-import com.poiji.exception.ExcelParseException;
+import com.poiji.annotation.ExcelCellName;
 import com.poiji.option.PoijiOptions;
 import com.poiji.util.AnnotationUtil;
-import com.poiji.util.ReflectUtil;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.util.*;
-
-import static com.poiji.annotation.ExcelCellName.ABSENT_ORDER;
-import static java.util.Arrays.asList;
-import static java.util.Collections.singletonList;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ReadMappedFields {
 
+    protected final EntityBinding binding;
+    private final EntityBinding.HeaderNames headerNames;
     protected final Class<?> entity;
-    protected final Map<Integer, Field> orderedFields;
-    private final Map<String, Field> namedFields;
-    private final List<Field> unknownFields;
+    protected final Map<Integer, FieldSlot> orderedFields;
     protected final PoijiOptions options;
     protected final Map<Integer, String> unknownColumns;
-    private final Map<Field, ReadMappedFields> rangeFields;
-    private final Map<Field, ReadMappedList> listFields;
-    private final List<Field> excelRow;
-    private final List<Field> excelParseException;
+    private final Map<FieldSlot, ReadMappedFields> rangeFields;
+    private final Map<FieldSlot, ReadMappedList> listFields;
     protected ReadMappedFields superClassFields;
     private final Set<String> columnNames;
+    /**
+     * Decoders of the cell mapped fields, shared with the other reads with the same options.
+     */
+    private final EntityBinding.Decoders decoders;
+    /**
+     * Header resolved targets indexed by column, compiled on the first use of a column.
+     */
+    private ColumnTarget[] columns = new ColumnTarget[0];
+    private boolean deferred;
+    private final ReadContext context;
 
     public ReadMappedFields(final Class<?> entity, final PoijiOptions options) {
-        this.entity = entity;
+        this(entity, options, ReadContext.of(options));
+    }
+
+    /**
+     * @param context context of the read, which gets its cast errors and cell formats
+     */
+    public ReadMappedFields(final Class<?> entity, final PoijiOptions options, final ReadContext context) {
+        this(EntityBinding.of(entity), options, context);
+    }
+
+    ReadMappedFields(final EntityBinding binding, final PoijiOptions options, final ReadContext context) {
+        this.binding = binding;
+        this.headerNames = binding.headerNames(options);
+        this.context = context;
+        this.entity = binding.entity;
         orderedFields = new HashMap<>();
-        namedFields = new HashMap<>();
-        unknownFields = new ArrayList<>();
         this.options = options;
         unknownColumns = new HashMap<>();
         rangeFields = new HashMap<>();
-        this.excelRow = new ArrayList<>();
-        this.excelParseException = new ArrayList<>();
         columnNames = new HashSet<>();
         listFields = new HashMap<>();
+        decoders = binding.decoders(options);
     }
 
+    /**
+     * Copies the header dependent state from the cached {@link EntityBinding}.
+     */
     public ReadMappedFields parseEntity() {
-        final Class<?> superclass = entity.getSuperclass();
-        if (!superclass.isInterface() && superclass != Object.class) {
-            superClassFields = new ReadMappedFields(superclass, options).parseEntity();
+        if (binding.superClass != null) {
+            superClassFields = new ReadMappedFields(binding.superClass, options, context).parseEntity();
+        }
+        orderedFields.putAll(binding.orderedFields);
+        for (final FieldSlot rangeField : binding.rangeFields) {
+            rangeFields.put(rangeField, new ReadMappedFields(rangeField.nested, options, context).parseEntity());
+        }
+        for (final FieldSlot listField : binding.listFields) {
+            listFields.put(listField, new ReadMappedList(listField, options, context));
         }
-        final List<Field> declaredFields = asList(entity.getDeclaredFields());
-        final List<Field> withoutWriteOnly = parseExcelWriteOnly(declaredFields);
-        final List<Field> withoutExcelRange = parseExcelCellRange(withoutWriteOnly);
-        final List<Field> withoutExcelCell = parseExcelCell(withoutExcelRange);
-        final List<Field> withoutUnknownCells = parseUnknownCells(withoutExcelCell);
-        final List<Field> withoutExcelCellName = parseExcelCellName(withoutUnknownCells);
-        final List<Field> withoutExcelRow = parseExcelRow(withoutExcelCellName);
-        final List<Field> withoutExcelList = parseExcelList(withoutExcelRow);
-        parseExcelError(withoutExcelList);
         return this;
     }
 
     public void parseColumnName(final int columnOrder, final String columnName) {
+        columns = new ColumnTarget[0];
         if (superClassFields != null) {
             superClassFields.parseColumnName(columnOrder, columnName);
         }
@@ -70,8 +83,8 @@ public class ReadMappedFields {
         columnNames.add(uniqueColumnName);
 
         if (!orderedFields.containsKey(columnOrder)) {
-            if (namedFields.containsKey(uniqueColumnName)) {
-                orderedFields.put(columnOrder, namedFields.get(uniqueColumnName));
+            if (headerNames.namedFields.containsKey(uniqueColumnName)) {
+                orderedFields.put(columnOrder, headerNames.namedFields.get(uniqueColumnName));
             } else {
                 boolean inList = false;
                 if (!listFields.isEmpty()){
@@ -82,7 +95,7 @@ public class ReadMappedFields {
                     }
                 }
                 if (!inList){
-                    if (unknownFields.isEmpty()) {
+                    if (binding.unknownFields.isEmpty()) {
                         for (final ReadMappedFields rangeField : rangeFields.values()) {
                             rangeField.parseColumnName(columnOrder, uniqueColumnName);
                         }
@@ -95,185 +108,196 @@ public class ReadMappedFields {
     }
 
     public void validateMandatoryNameColumns(){
-        AnnotationUtil.validateMandatoryNameColumns(options, entity, columnNames);
+        AnnotationUtil.validateMandatoryNameColumns(options, headerNames.mandatoryColumnNames, columnNames);
         listFields.values().forEach(ReadMappedList::validateMandatoryNameColumns);
     }
 
+    /**
+     * @return the instance of the row, or the {@link RowCells} of the row if the binding is deferred
+     */
     public Object createNewInstance(Data data){
-        return ReflectUtil.newInstanceOf(entity, data);
+        if (data.cells != null) {
+            final RowCells cells = data.cells;
+            data.cells = new RowCells();
+            return cells;
+        }
+        return binding.newInstance(data);
     }
 
+    /**
+     * Creates a row buffer. It is meant to be reset and reused for the next rows.
+     */
     public Data createInstanceData() {
-        return new Data();
+        final Data data = binding.createData();
+        data.castResult = context.castResult();
+        if (deferred) {
+            data.cells = new RowCells();
+        }
+        return data;
     }
 
-    public void setCellInData(final int row, final int column, final String content, final Data data) {
-        setExcelRow(row, data);
-        if (superClassFields != null) {
-            superClassFields.setCellInData(row, column, content, data);
-        }
-        if (!unknownFields.isEmpty() && unknownColumns.containsKey(column) && !content.isEmpty()) {
-            for (final Field unknownField : unknownFields) {
-                final Object unknownData = data.get(unknownField);
-                if (unknownData == null) {
-                    final Map<String, String> map = ReflectUtil.newMap(unknownField);
-                    data.put(unknownField, map);
-                    map.put(unknownColumns.get(column), content);
-                } else {
-                    final Map map = (Map) unknownData;
-                    map.put(unknownColumns.get(column), content);
-                }
+    /**
+     * Makes the row buffers only capture the cells with their targets, so {@link #createNewInstance(Data)} returns
+     * the {@link RowCells} of the row. They are cast and bound later by {@link #bind(Stream)}.
+     */
+    ReadMappedFields deferBinding() {
+        deferred = true;
+        return this;
+    }
 
-            }
-        } else if (orderedFields.containsKey(column)) {
-            final Field field = orderedFields.get(column);
-            final Casting casting = options.getCasting();
-            final Object o = casting.castValue(field, content, row, column, options);
-            final Exception exception = casting.getException();
-            if (exception != null && !excelParseException.isEmpty()){
-                setExcelError(column, content, data, field, exception);
-            }
-            data.put(field, o);
-        } else {
-            for (final Map.Entry<Field, ReadMappedFields> entry : rangeFields.entrySet()) {
-                final Field rangeField = entry.getKey();
-                Data rangeFieldData = (Data) data.get(rangeField);
-                if (rangeFieldData == null) {
-                    rangeFieldData = createInstanceData();
-                    data.put(rangeField, rangeFieldData);
-                }
-                entry.getValue().setCellInData(row, column, content, rangeFieldData);
-            }
-            for (final Map.Entry<Field, ReadMappedList> entry : listFields.entrySet()) {
-                final Field listField = entry.getKey();
-                List<Data> listFieldData = (List<Data>) data.get(listField);
-                if (listFieldData == null) {
-                    listFieldData = new ArrayList<>();
-                    data.put(listField, listFieldData);
-                }
-                entry.getValue().setCellInList(row, column, content, listFieldData);
-            }
-        }
+    /**
+     * Binds the captured rows in the stream operations. The rows are split off in batches, so a parallel stream casts
+     * and instantiates them on many threads while the rows are read on one.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Stream<T> bind(final Stream<RowCells> rows) {
+        return StreamSupport.stream(new BatchSpliterator<>(rows.spliterator()), false)
+            .onClose(rows::close)
+            .map(cells -> (T) bind(cells));
     }
 
-    private List<Field> parseExcelWriteOnly(final List<Field> fields) {
-        final List<Field> rest = new ArrayList<>(fields.size());
-        for (final Field field : fields) {
-            if (field.getAnnotation(ExcelWriteOnly.class) == null){
-                rest.add(field);
-            }
+    /**
+     * Binds a captured row into a new buffer. The header must be read, then it can be called from several threads.
+     */
+    private Object bind(final RowCells cells) {
+        final Data data = binding.createData();
+        data.castResult = context.castResult();
+        if (cells.isStarted()) {
+            startData(cells.row(), data);
         }
-        return rest;
+        cells.writeTo(data);
+        return binding.newInstance(data);
     }
 
-    private List<Field> parseExcelRow(final List<Field> fields) {
-        final List<Field> rest = new ArrayList<>(fields.size());
-        for (final Field field : fields) {
-            final ExcelRow annotation = field.getAnnotation(ExcelRow.class);
-            if (annotation != null) {
-                this.excelRow.add(field);
-                ReflectUtil.setAccessible(field);
-            } else {
-                rest.add(field);
+    /**
+     * Writes the cell into the row buffer through the column dispatch table.
+     */
+    public void setCellInData(final int row, final int column, final String content, final Data data) {
+        if (data.cells != null) {
+            data.cells.start(row);
+            final ColumnTarget target = target(column);
+            if (target != null) {
+                data.cells.add(target, content);
             }
+            return;
+        }
+        setRowInData(row, data);
+        for (ColumnTarget target = target(column); target != null; target = target.next) {
+            target.set(row, content, data);
         }
-        return rest;
     }
 
-    private List<Field> parseExcelError(final List<Field> fields) {
-        final List<Field> rest = new ArrayList<>(fields.size());
-        for (final Field field : fields) {
-            final ExcelParseExceptions annotation = field.getAnnotation(ExcelParseExceptions.class);
-            if (annotation != null) {
-                this.excelParseException.add(field);
-                ReflectUtil.setAccessible(field);
-            } else {
-                rest.add(field);
-            }
-        }
-        return rest;
+    /**
+     * @return format log of the read, or null if the cell formats are not logged
+     */
+    PoijiLogCellFormat cellFormat() {
+        return context.cellFormat(options);
     }
 
-    private List<Field> parseExcelCellName(final List<Field> fields) {
-        final List<Field> rest = new ArrayList<>(fields.size());
-        for (final Field field : fields) {
-            final ExcelCellName annotation = field.getAnnotation(ExcelCellName.class);
-            if (annotation != null) {
-                final List<String> possibleFieldNames = getPossibleFieldNames(annotation);
-                for (final String possibleFieldName : possibleFieldNames) {
-                    final int order = annotation.order();
-                    if (order != ABSENT_ORDER && !orderedFields.containsKey(order)) {
-                        orderedFields.put(order, field);
-                    }
-                    final String name = options.getFormatting().transform(options, possibleFieldName);
-                    namedFields.put(name, field);
-                }
-                ReflectUtil.setAccessible(field);
-            } else {
-                rest.add(field);
-            }
+    /**
+     * @return true if the row numbers are set to {@link com.poiji.annotation.ExcelRow} fields
+     */
+    boolean isRowMapped() {
+        return binding.rowMapped;
+    }
+
+    public boolean isColumnMapped(final int column) {
+        return target(column) != null;
+    }
+
+    /**
+     * @return true if all targets of the column accept raw cell values
+     */
+    public boolean isRawColumn(final int column) {
+        return ColumnTarget.acceptsRaw(target(column));
+    }
+
+    /**
+     * Writes a raw numeric or boolean cell value, the column must be {@link #isRawColumn raw}.
+     */
+    public void setRawCellInData(
+        final int row, final int column, final char type, final String value, final boolean date1904, final Data data
+    ) {
+        if (data.cells != null) {
+            data.cells.start(row);
+            data.cells.addRaw(target(column), type, value, date1904);
+            return;
         }
-        return rest;
+        setRowInData(row, data);
+        ColumnTarget.setRaw(target(column), row, type, value, date1904, data);
     }
 
-    private List<String> getPossibleFieldNames(final ExcelCellName annotation) {
-        final String delimeter = annotation.columnNameDelimiter();
-        return delimeter.isEmpty() ? singletonList(annotation.value()) : asList(annotation.value().split(delimeter));
+    /**
+     * Starts the row in the buffer, if it is not started yet by an earlier cell.
+     */
+    public void setRowInData(final int row, final Data data) {
+        if (data.cells != null) {
+            data.cells.start(row);
+        } else if (data.isEmpty()) {
+            startData(row, data);
+        }
     }
 
-    private List<Field> parseUnknownCells(final List<Field> fields) {
-        final List<Field> rest = new ArrayList<>(fields.size());
-        for (final Field field : fields) {
-            if (field.isAnnotationPresent(ExcelUnknownCells.class) && Map.class.isAssignableFrom(field.getType())) {
-                unknownFields.add(field);
-                ReflectUtil.setAccessible(field);
-            } else {
-                rest.add(field);
-            }
+    /**
+     * Fills the row number and creates the range buffers of a new row or list element.
+     */
+    void startData(final int row, final Data data) {
+        if (superClassFields != null) {
+            superClassFields.startData(row, data);
+        }
+        setExcelRow(row, data);
+        for (final Map.Entry<FieldSlot, ReadMappedFields> entry : rangeFields.entrySet()) {
+            entry.getValue().startData(row, data.range(entry.getKey()));
         }
-        return rest;
     }
 
-    private List<Field> parseExcelCellRange(final List<Field> fields) {
-        final List<Field> rest = new ArrayList<>(fields.size());
-        for (final Field field : fields) {
-            if (field.getAnnotation(ExcelCellRange.class) != null) {
-                rangeFields.put(field, new ReadMappedFields(field.getType(), options).parseEntity());
-                ReflectUtil.setAccessible(field);
-            } else {
-                rest.add(field);
-            }
+    private ColumnTarget target(final int column) {
+        if (column >= columns.length) {
+            columns = Arrays.copyOf(columns, Math.max(column + 1, columns.length * 2));
+        }
+        ColumnTarget target = columns[column];
+        if (target == null) {
+            final List<ColumnTarget> targets = new ArrayList<>();
+            addTargets(column, ColumnTarget.Path.ROOT, targets);
+            target = targets.isEmpty() ? ColumnTarget.UNMAPPED : ColumnTarget.chain(targets);
+            columns[column] = target;
         }
-        return rest;
+        return target == ColumnTarget.UNMAPPED ? null : target;
     }
 
-    private List<Field> parseExcelList(final List<Field> fields) {
-        final List<Field> rest = new ArrayList<>(fields.size());
-        for (final Field field : fields) {
-            final ExcelList annotation = field.getAnnotation(ExcelList.class);
-            if (field.getType().isAssignableFrom(List.class) && annotation != null) {
-                final Class entity = (Class) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
-                listFields.put(field, new ReadMappedList(annotation, entity, options));
-                ReflectUtil.setAccessible(field);
-            } else {
-                rest.add(field);
-            }
+    /**
+     * Compiles the targets of the column in this entity, its super class, range fields and list elements.
+     */
+    void addTargets(final int column, final ColumnTarget.Path path, final List<ColumnTarget> targets) {
+        if (superClassFields != null) {
+            superClassFields.addTargets(column, path, targets);
+        }
+        if (!binding.unknownFields.isEmpty() && unknownColumns.containsKey(column)) {
+            final List<ColumnTarget> emptyTargets = new ArrayList<>();
+            addNestedTargets(column, path, emptyTargets);
+            targets.add(new ColumnTarget.Unknown(
+                path, binding.unknownFields, unknownColumns.get(column), ColumnTarget.chain(emptyTargets)
+            ));
+        } else if (orderedFields.containsKey(column)) {
+            final FieldSlot slot = orderedFields.get(column);
+            final ExcelCellName annotation = slot.field.getAnnotation(ExcelCellName.class);
+            final String errorKey = annotation != null ? annotation.value() : "[" + column + "]";
+            targets.add(new ColumnTarget.Cell(
+                path, slot, decoders.cell[slot.index], decoders.raw[slot.index], column, binding.excelParseException,
+                errorKey
+            ));
+        } else {
+            addNestedTargets(column, path, targets);
         }
-        return rest;
     }
 
-    private List<Field> parseExcelCell(final List<Field> fields) {
-        final List<Field> rest = new ArrayList<>(fields.size());
-        for (final Field field : fields) {
-            if (field.getAnnotation(ExcelCell.class) != null) {
-                final Integer excelOrder = field.getAnnotation(ExcelCell.class).value();
-                orderedFields.put(excelOrder, field);
-                ReflectUtil.setAccessible(field);
-            } else {
-                rest.add(field);
-            }
+    private void addNestedTargets(final int column, final ColumnTarget.Path path, final List<ColumnTarget> targets) {
+        for (final Map.Entry<FieldSlot, ReadMappedFields> entry : rangeFields.entrySet()) {
+            entry.getValue().addTargets(column, path.range(entry.getKey()), targets);
+        }
+        for (final ReadMappedList readMappedList : listFields.values()) {
+            readMappedList.addTargets(column, path, targets);
         }
-        return rest;
     }
 
     private String getUniqueColumnName(final int columnIndex, final String columnName) {
@@ -283,30 +307,12 @@ public class ReadMappedFields {
     }
 
     private void setExcelRow(final int column, final Data data) {
-        for (final Field field : excelRow) {
-            data.put(field, column);
-        }
-    }
-
-    private void setExcelError(
-        final int column, final String content, final Data data, final Field field, final Exception exception
-    ) {
-        final ExcelCellName annotation = field.getAnnotation(ExcelCellName.class);
-        final String key;
-        if (annotation != null){
-            key = annotation.value();
-        } else if (orderedFields.containsKey(column)){
-            key = "["+ column + "]";
-        } else {
-            return;
-        }
-        for (final Field errorField : excelParseException) {
-            Map<String, ExcelParseException> map = (Map<String, ExcelParseException>) data.get(errorField);
-            if (map == null){
-                map = new HashMap<>();
-                data.put(errorField, map);
+        for (final FieldSlot slot : binding.excelRow) {
+            if (slot.kind == FieldSlot.LONG) {
+                data.putLong(slot.index, column);
+            } else {
+                data.put(slot, column);
             }
-            map.put(key, new ExcelParseException(exception, content, field.getName()));
         }
     }
 
@@ -7,12 +7,14 @@ import java.util.List;
 
 public final class ReadMappedList {
 
+    private final FieldSlot slot;
     private final ExcelList excelList;
     private final ReadMappedFields readMappedFields;
 
-    public ReadMappedList(final ExcelList excelList, final Class<?> entity, final PoijiOptions options) {
-        this.excelList = excelList;
-        this.readMappedFields = new ReadMappedFields(entity, options).parseEntity();
+    ReadMappedList(final FieldSlot slot, final PoijiOptions options, final ReadContext context) {
+        this.slot = slot;
+        this.excelList = slot.excelList;
+        this.readMappedFields = new ReadMappedFields(slot.nested, options, context).parseEntity();
     }
 
     public boolean parseColumnName(final int columnOrder, final String columnName) {
@@ -28,17 +30,14 @@ public final class ReadMappedList {
         readMappedFields.validateMandatoryNameColumns();
     }
 
-    public void setCellInList(final int row, final int column, final String content, final List<Data> listFieldData) {
+    void addTargets(final int column, final ColumnTarget.Path path, final List<ColumnTarget> targets) {
         final int listStart = excelList.listStart();
         final int listEnd = excelList.listEnd();
         if (column >= listStart && column <= listEnd){
             final int elementSize = excelList.elementSize();
             final int index = (column - listStart) / elementSize;
-            while (listFieldData.size() <= index){
-                listFieldData.add(readMappedFields.createInstanceData());
-            }
             final int firstElementColumn = (column - listStart) % elementSize;
-            readMappedFields.setCellInData(row, firstElementColumn, content, listFieldData.get(index));
+            readMappedFields.addTargets(firstElementColumn, path.element(slot, index, readMappedFields), targets);
         }
     }
 }
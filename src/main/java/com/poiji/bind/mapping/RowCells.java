@@ -0,0 +1,81 @@
+package com.poiji.bind.mapping;
+
+import java.util.Arrays;
+
+/**
+ * Cells of a row captured by a reader with their header resolved {@link ColumnTarget targets}, so they are cast and
+ * bound into an instance later, possibly on another thread.
+ */
+final class RowCells {
+
+    private static final char FORMATTED = 0;
+
+    private int row;
+    private boolean started;
+    private boolean date1904;
+    private int size;
+    private ColumnTarget[] targets = new ColumnTarget[8];
+    private String[] values = new String[8];
+    private char[] types = new char[8];
+
+    /**
+     * Starts the row, if it is not started yet by an earlier cell.
+     */
+    void start(final int row) {
+        if (!started) {
+            started = true;
+            this.row = row;
+        }
+    }
+
+    boolean isStarted() {
+        return started;
+    }
+
+    int row() {
+        return row;
+    }
+
+    void add(final ColumnTarget target, final String value) {
+        add(target, FORMATTED, value);
+    }
+
+    void addRaw(final ColumnTarget target, final char type, final String value, final boolean date1904) {
+        this.date1904 = date1904;
+        add(target, type, value);
+    }
+
+    /**
+     * Writes the cells through their targets into the buffer of the started row.
+     */
+    void writeTo(final Data root) {
+        for (int i = 0; i < size; i++) {
+            if (types[i] != FORMATTED) {
+                ColumnTarget.setRaw(targets[i], row, types[i], values[i], date1904, root);
+                continue;
+            }
+            for (ColumnTarget target = targets[i]; target != null; target = target.next) {
+                target.set(row, values[i], root);
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(targets, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        started = false;
+    }
+
+    private void add(final ColumnTarget target, final char type, final String value) {
+        if (size == targets.length) {
+            targets = Arrays.copyOf(targets, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+        }
+        targets[size] = target;
+        values[size] = value;
+        types[size] = type;
+        size++;
+    }
+}
@@ -1,9 +1,11 @@
 package com.poiji.bind.mapping;
 
+import com.poiji.bind.SheetInfo;
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
 import org.apache.poi.hssf.usermodel.HSSFFormulaEvaluator;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFFormulaEvaluator;
@@ -12,6 +14,7 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.stream.Stream;
 
 /**
@@ -32,11 +35,30 @@ public final class SheetUnmarshaller extends HSSFUnmarshaller {
         processRowsToObjects(sheet, type, consumer);
     }
 
+    @Override
+    public <T> void unmarshal(Class<T> type, Consumer<? super T> consumer, IntConsumer sizeHint) {
+        sizeHint.accept(UnmarshallerHelper.estimateSize(options, sheet.getLastRowNum()));
+        unmarshal(type, consumer);
+    }
+
     @Override
     public List<String> readSheetNames() {
         return Collections.singletonList(sheet.getSheetName());
     }
 
+    @Override
+    public List<SheetInfo> readSheetInfos() {
+        final Workbook workbook = workbook();
+        final int sheetIndex = workbook.getSheetIndex(sheet);
+        final String state = workbook.isSheetVeryHidden(sheetIndex)
+            ? "veryHidden" : workbook.isSheetHidden(sheetIndex) ? "hidden" : "visible";
+        final int rowCount =
+            sheet.getPhysicalNumberOfRows() == 0 ? 0 : sheet.getLastRowNum() - sheet.getFirstRowNum() + 1;
+        return Collections.singletonList(new SheetInfo(
+            sheet.getSheetName(), sheetIndex, state, null, null, rowCount, SheetInfo.UNKNOWN
+        ));
+    }
+
     private void setBaseFormulaEvaluator() {
         Workbook workbook = workbook();
         if (workbook instanceof HSSFWorkbook) {
@@ -51,11 +73,25 @@ public final class SheetUnmarshaller extends HSSFUnmarshaller {
     @Override
     public <T> Stream<T> stream(final Class<T> type) {
         setBaseFormulaEvaluator();
-        return super.processRowsToStream(sheet, type);
+        return super.processRowsToStream(sheet, type, false);
+    }
+
+    @Override
+    public <T> Stream<T> bindingStream(final Class<T> type) {
+        setBaseFormulaEvaluator();
+        return super.processRowsToStream(sheet, type, true);
     }
 
     @Override
     protected Workbook workbook() {
         return sheet.getWorkbook();
     }
+
+    /**
+     * The sheet is always read from its loaded workbook, even with {@link PoijiOptions#isXlsEventReader()}.
+     */
+    @Override
+    protected POIFSFileSystem fileSystem() {
+        throw new PoijiException("Sheet is already loaded, it has no record stream to read");
+    }
 }
@@ -4,6 +4,7 @@ import com.poiji.bind.PoijiFile;
 import com.poiji.bind.PoijiInputStream;
 import com.poiji.bind.Unmarshaller;
 import com.poiji.option.PoijiOptions;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Sheet;
 
 /**
@@ -11,6 +12,11 @@ import org.apache.poi.ss.usermodel.Sheet;
  */
 public final class UnmarshallerHelper {
 
+    /**
+     * Most instances room is made for up front, a list grows on its own beyond it.
+     */
+    static final int MAX_SIZE_HINT = 1 << 16;
+
     public static Unmarshaller HSSFInstance(PoijiFile<?> poijiFile, PoijiOptions options) {
         return new HSSFUnmarshallerFile(poijiFile, options);
     }
@@ -31,7 +37,36 @@ public final class UnmarshallerHelper {
         return new CsvUnmarshallerStream(poijiInputStream, options);
     }
 
+    public static Unmarshaller csvInstance(PoijiFile<?> poijiFile, PoijiOptions options) {
+        return new CsvUnmarshallerFile(poijiFile, options);
+    }
+
+    public static XSSFWorkbookSession XSSFSession(PoijiFile<?> poijiFile, PoijiOptions options) {
+        return XSSFWorkbookSession.open(poijiFile.file(), options);
+    }
+
+    public static XSSFWorkbookSession XSSFSession(PoijiInputStream<?> poijiInputStream, PoijiOptions options) {
+        return XSSFWorkbookSession.open(poijiInputStream.stream(), options);
+    }
+
     public static Unmarshaller SheetInstance(Sheet sheet, PoijiOptions options) {
         return new SheetUnmarshaller(sheet, options);
     }
+
+    /**
+     * @param lastIndex index of the last row of the sheet, or of the last column if it is transposed
+     * @return count of the instances the sheet has room for, at most the limit and {@link #MAX_SIZE_HINT}, 0 if the
+     * index is beyond the sheets of any version
+     */
+    static int estimateSize(PoijiOptions options, int lastIndex) {
+        final SpreadsheetVersion version = SpreadsheetVersion.EXCEL2007;
+        if (lastIndex >= (options.getTransposed() ? version.getMaxColumns() : version.getMaxRows())) {
+            return 0;
+        }
+        int size = lastIndex + 1 - options.getHeaderStart() - options.getHeaderCount() - options.skip();
+        if (options.getLimit() != 0) {
+            size = Math.min(size, options.getLimit());
+        }
+        return Math.max(Math.min(size, MAX_SIZE_HINT), 0);
+    }
 }
@@ -15,6 +15,7 @@ final class WorkBookContentHandler implements ContentHandler {
     private WorkBookSheet individualSheet;
     private final List<WorkBookSheet> sheets = new ArrayList<>();
     private final PoijiOptions options;
+    private boolean date1904;
 
     WorkBookContentHandler(final PoijiOptions options) {
         this.options = options;
@@ -24,6 +25,10 @@ final class WorkBookContentHandler implements ContentHandler {
         return sheets;
     }
 
+    boolean isDate1904() {
+        return date1904;
+    }
+
     @Override
     public void setDocumentLocator(Locator locator) {
         //no-op
@@ -52,6 +57,10 @@ final class WorkBookContentHandler implements ContentHandler {
     @Override
     public void startElement(String uri, String localName, String qName, Attributes atts) {
 
+        if ("workbookPr".equals(localName) || "workbookPr".equals(qName)) {
+            final String value = atts.getValue("date1904");
+            date1904 = "1".equals(value) || "true".equalsIgnoreCase(value);
+        }
         //there are multiple elements to an excel xml layout
         //we only care about the sheet infor
         if ("x:sheet".equals(qName) || "sheet".equals(qName)) {
@@ -70,11 +79,11 @@ final class WorkBookContentHandler implements ContentHandler {
                     individualSheet.setSheetId(atts.getValue(i));
                 }
                 if (atts.getQName(i).equals("state")) {
-                    String state = atts.getValue(i);
-                    if (!options.ignoreHiddenSheets()){
-                        state = "visible";
-                    }
-                    individualSheet.setState(state);
+                    individualSheet.setState(atts.getValue(i));
+                }
+                //Attribute: r:id:rId3
+                if (atts.getLocalName(i).equals("id") && !atts.getURI(i).isEmpty()) {
+                    individualSheet.setRelationId(atts.getValue(i));
                 }
             }
         }
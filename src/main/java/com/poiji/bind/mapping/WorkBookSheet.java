@@ -8,6 +8,7 @@ final class WorkBookSheet {
     private String name;
     private String sheetId;
     private String state = "visible";
+    private String relationId;
 
     public String getName() {
         return name;
@@ -33,4 +34,12 @@ final class WorkBookSheet {
         this.state = state;
     }
 
+    public String getRelationId() {
+        return relationId;
+    }
+
+    public void setRelationId(String relationId) {
+        this.relationId = relationId;
+    }
+
 }
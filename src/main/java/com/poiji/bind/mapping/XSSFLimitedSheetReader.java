@@ -0,0 +1,41 @@
+package com.poiji.bind.mapping;
+
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+
+/**
+ * Reader which ends the sheet as soon as the handler has all the rows it takes, so the rest of the sheet part is
+ * neither decompressed nor parsed. The source is closed right then, so the part is released before the stream is.
+ */
+final class XSSFLimitedSheetReader implements XSSFSheetReader {
+
+    private final XSSFSheetReader source;
+    private final XSSFPoijiHandler<?> poijiHandler;
+    private boolean closed;
+
+    XSSFLimitedSheetReader(final XSSFSheetReader source, final XSSFPoijiHandler<?> poijiHandler) {
+        this.source = source;
+        this.poijiHandler = poijiHandler;
+    }
+
+    @Override
+    public boolean nextRow() throws IOException, SAXException {
+        if (closed) {
+            return false;
+        }
+        if (!poijiHandler.isDone() && source.nextRow()) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            source.close();
+        }
+    }
+}
@@ -39,11 +39,22 @@ class XSSFPoijiHandler<T> implements SheetContentsHandler {
         this.mappedFields = mappedFields;
     }
 
+    /**
+     * @return format log of the read, or null if the cell formats are not logged
+     */
+    PoijiLogCellFormat cellFormat() {
+        return mappedFields.cellFormat();
+    }
+
     @Override
     public void startRow(int rowNum) {
         if (isContentRow(rowNum)) {
             internalCount += 1;
-            data = mappedFields.createInstanceData();
+            if (data == null) {
+                data = mappedFields.createInstanceData();
+            } else {
+                data.reset();
+            }
         }
     }
 
@@ -65,9 +76,13 @@ class XSSFPoijiHandler<T> implements SheetContentsHandler {
     @Override
     public void cell(String cellReference, String formattedValue, XSSFComment comment) {
         CellAddress cellAddress = new CellAddress(cellReference);
-        int row = cellAddress.getRow();
+        cell(cellAddress.getRow(), cellAddress.getColumn(), formattedValue);
+    }
 
-        int column = cellAddress.getColumn();
+    /**
+     * Same as {@link #cell(String, String, XSSFComment)} for the readers which decode cell references themselves.
+     */
+    void cell(final int row, final int column, final String formattedValue) {
         if (isHeaderRow(row)) {
             mappedFields.parseColumnName(column, formattedValue);
             return;
@@ -80,6 +95,42 @@ class XSSFPoijiHandler<T> implements SheetContentsHandler {
 
     }
 
+    /**
+     * @return false for the content cells whose values are not used, so they are not read at all
+     */
+    boolean isCellWanted(final int row, final int column) {
+        return isHeaderRow(row) || isContentRow(row) && mappedFields.isColumnMapped(column);
+    }
+
+    /**
+     * Notes the row of a skipped content cell, the row is created even if all its values are skipped.
+     */
+    void cellSkipped(final int row, final int column) {
+        if (isContentRow(row)) {
+            internalRow = row;
+            mappedFields.setRowInData(row, data);
+        }
+    }
+
+    /**
+     * @return true if the raw value of the content cell can be used instead of the formatted one
+     */
+    boolean isRawWanted(final int row, final int column) {
+        return options.isRawCellValues() && isContentRow(row) && mappedFields.isRawColumn(column);
+    }
+
+    void rawCell(final int row, final int column, final char type, final String value, final boolean date1904) {
+        internalRow = row;
+        mappedFields.setRawCellInData(row, column, type, value, date1904, data);
+    }
+
+    /**
+     * @return true once the rows up to the limit are passed on, so the rest of the sheet does not have to be read
+     */
+    boolean isDone() {
+        return options.getLimit() != 0 && internalCount >= options.getLimit();
+    }
+
     private boolean isContentRow(final int rowNum) {
         return rowNum > options.skip() + options.getHeaderStart() + options.getHeaderCount() - 1 && (options.getLimit() == 0 || internalCount <= options.getLimit());
     }
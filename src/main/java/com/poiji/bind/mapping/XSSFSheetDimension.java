@@ -0,0 +1,206 @@
+package com.poiji.bind.mapping;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Range of the used cells of a sheet part, read straight from its UTF-8 bytes.
+ * <p>
+ * The dimension element comes before sheetData, so only the head of the part is read. If the part has no dimension,
+ * the row elements may be counted instead, which reads the whole part but still parses nothing else.
+ */
+final class XSSFSheetDimension {
+
+    private static final int BUFFER_SIZE = 1 << 13;
+    private static final int UNKNOWN = -1;
+
+    private static final int TEXT = 0;
+    private static final int NAME = 1;
+    private static final int ATTRIBUTES = 2;
+    private static final int DIMENSION = 3;
+
+    private static final byte[] DIMENSION_NAME = "dimension".getBytes(UTF_8);
+    private static final byte[] SHEET_DATA_NAME = "sheetData".getBytes(UTF_8);
+    private static final byte[] ROW_NAME = "row".getBytes(UTF_8);
+
+    private final String ref;
+    private final int lastRow;
+    private final int lastColumn;
+    private final int rowCount;
+    private final int columnCount;
+
+    private XSSFSheetDimension(final String ref, final int rowCount) {
+        CellRangeAddress range = null;
+        if (ref != null) {
+            try {
+                range = CellRangeAddress.valueOf(ref);
+            } catch (IllegalArgumentException e) {
+                // the range is unknown, same as if it were not stated
+            }
+        }
+        if (range == null || range.getFirstRow() < 0 || range.getFirstColumn() < 0) {
+            this.ref = null;
+            this.lastRow = UNKNOWN;
+            this.lastColumn = UNKNOWN;
+            this.rowCount = rowCount;
+            this.columnCount = UNKNOWN;
+        } else {
+            this.ref = ref;
+            this.lastRow = range.getLastRow();
+            this.lastColumn = range.getLastColumn();
+            this.rowCount = lastRow - range.getFirstRow() + 1;
+            this.columnCount = lastColumn - range.getFirstColumn() + 1;
+        }
+    }
+
+    /**
+     * @param countRows whether the row elements are counted if the part has no dimension
+     */
+    static XSSFSheetDimension read(final InputStream sheet, final boolean countRows) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        final byte[] name = new byte[16];
+        int nameLength = 0;
+        final byte[] tag = new byte[256];
+        int tagLength = 0;
+        int state = TEXT;
+        boolean inSheetData = false;
+        int rows = 0;
+        int read;
+        while ((read = sheet.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                final byte b = buffer[i];
+                switch (state) {
+                    case TEXT:
+                        if (b == '<') {
+                            state = NAME;
+                            nameLength = 0;
+                        }
+                        break;
+                    case NAME:
+                        if (b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '>' || b == '/') {
+                            final int localStart = localNameStart(name, nameLength);
+                            if (!inSheetData && isName(name, localStart, nameLength, DIMENSION_NAME)) {
+                                state = DIMENSION;
+                                tagLength = 0;
+                            } else if (!inSheetData && isName(name, localStart, nameLength, SHEET_DATA_NAME)) {
+                                if (!countRows) {
+                                    return new XSSFSheetDimension(null, UNKNOWN);
+                                }
+                                inSheetData = true;
+                                state = ATTRIBUTES;
+                            } else {
+                                if (inSheetData && isName(name, localStart, nameLength, ROW_NAME)) {
+                                    rows++;
+                                }
+                                state = ATTRIBUTES;
+                            }
+                            if (b == '>') {
+                                state = TEXT;
+                            }
+                        } else if (nameLength < name.length) {
+                            name[nameLength++] = b;
+                        } else {
+                            state = ATTRIBUTES;
+                        }
+                        break;
+                    case ATTRIBUTES:
+                        if (b == '>') {
+                            state = TEXT;
+                        }
+                        break;
+                    default:
+                        if (b == '>') {
+                            final String ref = attribute(tag, tagLength, "ref");
+                            if (ref != null) {
+                                return new XSSFSheetDimension(ref, UNKNOWN);
+                            }
+                            state = TEXT;
+                        }
+                        if (tagLength < tag.length) {
+                            tag[tagLength++] = b;
+                        }
+                }
+            }
+        }
+        return new XSSFSheetDimension(null, inSheetData ? rows : UNKNOWN);
+    }
+
+    private static int localNameStart(final byte[] name, final int nameLength) {
+        for (int i = nameLength - 1; i >= 0; i--) {
+            if (name[i] == ':') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isName(final byte[] name, final int from, final int to, final byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (name[from + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String attribute(final byte[] tag, final int tagLength, final String attributeName) {
+        final String attributes = new String(tag, 0, tagLength, UTF_8);
+        int index = 0;
+        while ((index = attributes.indexOf(attributeName + '=', index)) >= 0) {
+            if (index == 0 || Character.isWhitespace(attributes.charAt(index - 1))) {
+                final int quote = index + attributeName.length() + 1;
+                if (quote < attributes.length()) {
+                    final int end = attributes.indexOf(attributes.charAt(quote), quote + 1);
+                    if (end > quote) {
+                        return attributes.substring(quote + 1, end);
+                    }
+                }
+                return null;
+            }
+            index += attributeName.length();
+        }
+        return null;
+    }
+
+    /**
+     * @return range like A1:D10, or null if the part does not state it
+     */
+    String ref() {
+        return ref;
+    }
+
+    /**
+     * @return count of the rows of the range, or of the row elements, or -1 if unknown
+     */
+    int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return count of the columns of the range, or -1 if unknown
+     */
+    int columnCount() {
+        return columnCount;
+    }
+
+    /**
+     * @return index of the last row of the range, or -1 if unknown
+     */
+    int lastRow() {
+        return lastRow;
+    }
+
+    /**
+     * @return index of the last column of the range, or -1 if unknown
+     */
+    int lastColumn() {
+        return lastColumn;
+    }
+}
@@ -0,0 +1,186 @@
+package com.poiji.bind.mapping;
+
+import org.apache.poi.util.XMLHelper;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Pull based reader of a sheet part.
+ * <p>
+ * The sheet is read with a StAX parser on the calling thread, and its events are passed to the same content handler
+ * as in a SAX parse, one row at a time.
+ */
+final class XSSFSheetPullReader implements XSSFSheetReader {
+
+    private final InputStream sheetInputStream;
+    private final XMLStreamReader reader;
+    private final ContentHandler handler;
+    private final StaxAttributes attributes;
+    private boolean finished;
+
+    XSSFSheetPullReader(final InputStream sheetInputStream, final ContentHandler handler) throws XMLStreamException {
+        this.sheetInputStream = sheetInputStream;
+        this.reader = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetInputStream);
+        this.handler = handler;
+        this.attributes = new StaxAttributes(reader);
+    }
+
+    @Override
+    public boolean nextRow() throws SAXException {
+        if (finished) {
+            return false;
+        }
+        try {
+            if (reader.getEventType() == XMLStreamConstants.START_DOCUMENT) {
+                handler.startDocument();
+            }
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        handler.startElement(uri(), reader.getLocalName(), qName(), attributes);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        final String localName = reader.getLocalName();
+                        handler.endElement(uri(), localName, qName());
+                        if ("row".equals(localName)) {
+                            return true;
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        handler.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new SAXException(e);
+        }
+        finished = true;
+        handler.endDocument();
+        return false;
+    }
+
+    private String uri() {
+        final String uri = reader.getNamespaceURI();
+        return uri == null ? "" : uri;
+    }
+
+    private String qName() {
+        final String prefix = reader.getPrefix();
+        return prefix == null || prefix.isEmpty() ? reader.getLocalName() : prefix + ':' + reader.getLocalName();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            sheetInputStream.close();
+        }
+    }
+
+    /**
+     * SAX view of the attributes of the current start element.
+     */
+    private static final class StaxAttributes implements Attributes {
+
+        private final XMLStreamReader reader;
+
+        private StaxAttributes(final XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int getLength() {
+            return reader.getAttributeCount();
+        }
+
+        @Override
+        public String getURI(final int index) {
+            final String uri = reader.getAttributeNamespace(index);
+            return uri == null ? "" : uri;
+        }
+
+        @Override
+        public String getLocalName(final int index) {
+            return reader.getAttributeLocalName(index);
+        }
+
+        @Override
+        public String getQName(final int index) {
+            final String prefix = reader.getAttributePrefix(index);
+            final String localName = reader.getAttributeLocalName(index);
+            return prefix == null || prefix.isEmpty() ? localName : prefix + ':' + localName;
+        }
+
+        @Override
+        public String getType(final int index) {
+            return "CDATA";
+        }
+
+        @Override
+        public String getValue(final int index) {
+            return reader.getAttributeValue(index);
+        }
+
+        @Override
+        public int getIndex(final String uri, final String localName) {
+            final int length = getLength();
+            for (int i = 0; i < length; i++) {
+                if (getURI(i).equals(uri) && getLocalName(i).equals(localName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int getIndex(final String qName) {
+            final int length = getLength();
+            for (int i = 0; i < length; i++) {
+                final String prefix = reader.getAttributePrefix(i);
+                if (prefix == null || prefix.isEmpty()
+                    ? reader.getAttributeLocalName(i).equals(qName)
+                    : getQName(i).equals(qName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String getType(final String uri, final String localName) {
+            return getIndex(uri, localName) < 0 ? null : "CDATA";
+        }
+
+        @Override
+        public String getType(final String qName) {
+            return getIndex(qName) < 0 ? null : "CDATA";
+        }
+
+        @Override
+        public String getValue(final String uri, final String localName) {
+            final int index = getIndex(uri, localName);
+            return index < 0 ? null : getValue(index);
+        }
+
+        @Override
+        public String getValue(final String qName) {
+            final int index = getIndex(qName);
+            return index < 0 ? null : getValue(index);
+        }
+    }
+}
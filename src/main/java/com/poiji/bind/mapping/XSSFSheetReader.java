@@ -0,0 +1,28 @@
+package com.poiji.bind.mapping;
+
+import org.xml.sax.SAXException;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reader of a sheet part which passes the sheet to a handler one row at a time.
+ */
+interface XSSFSheetReader extends Closeable {
+
+    /**
+     * Passes the next row to the handler.
+     *
+     * @return false if the end of the sheet is reached
+     */
+    boolean nextRow() throws IOException, SAXException;
+
+    /**
+     * Reads the rest of the sheet.
+     */
+    default void readAll() throws IOException, SAXException {
+        while (nextRow()) {
+            // every row is passed to the handler
+        }
+    }
+}
@@ -0,0 +1,719 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.option.PoijiOptions;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.Styles;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads a sheet part straight from its UTF-8 bytes, without an XML parser.
+ * <p>
+ * Only the elements holding the cells (sheetData, row, c, v, is and t) are recognized. Cell references are decoded
+ * arithmetically, and cells are passed to {@link XSSFPoijiHandler} with their row and column numbers. Values are
+ * formatted like {@link org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler} does, while unmapped cells are
+ * skipped and raw values are passed on like {@link XSSFSheetXMLPoijiHandler} does.
+ */
+final class XSSFSheetScanner implements XSSFSheetReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int OTHER = 0;
+    private static final int SHEET_DATA = 1;
+    private static final int ROW = 2;
+    private static final int CELL = 3;
+    private static final int VALUE = 4;
+    private static final int INLINE_STRING = 5;
+    private static final int TEXT = 6;
+
+    private static final byte[] SHEET_DATA_NAME = "sheetData".getBytes(UTF_8);
+    private static final byte[] ROW_NAME = "row".getBytes(UTF_8);
+    private static final byte[] INLINE_STRING_NAME = "is".getBytes(UTF_8);
+    private static final byte[] INLINE_STRING_TYPE = "inlineStr".getBytes(UTF_8);
+    private static final byte[] FORMULA_STRING_TYPE = "str".getBytes(UTF_8);
+
+    private static final char NUMBER = 'n';
+    private static final char BOOLEAN = 'b';
+    private static final char ERROR = 'e';
+    private static final char SHARED_STRING = 's';
+    private static final char FORMULA_STRING = 'f';
+    private static final char INLINE = 'i';
+    private static final char OTHER_NUMBER = 'o';
+
+    private static final int FORMATTED = 0;
+    private static final int SKIPPED = 1;
+    private static final int RAW = 2;
+
+    private final InputStream in;
+    private final Styles styles;
+    private final SharedStrings sharedStrings;
+    private final DataFormatter formatter;
+    private final XSSFPoijiHandler<?> handler;
+    private final PoijiLogCellFormat cellFormat;
+    private final boolean rawCellValues;
+    private final boolean disableNumberCellFormat;
+    private final boolean date1904;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean finished;
+
+    private final byte[] name = new byte[16];
+    private int nameLength;
+    private byte[] value = new byte[64];
+    private int valueLength;
+    private byte[] text = new byte[256];
+    private int textLength;
+    private boolean collecting;
+
+    private boolean inSheetData;
+    private int rowNum = -1;
+    private int rowRef;
+    private boolean inCell;
+    private int cellRow;
+    private int cellColumn;
+    private int lastColumn;
+    private char cellType;
+    private int cellStyle;
+    private String cellTypeString;
+    private String cellStyleString;
+    private boolean inInlineString;
+    private boolean valueSeen;
+    private boolean textSeen;
+    private int mode;
+
+    private short[] formatIndexes = new short[0];
+    private String[] formatStrings = new String[0];
+    private boolean[] formatsResolved = new boolean[0];
+    private short formatIndex;
+    private String formatString;
+
+    XSSFSheetScanner(
+        final InputStream in, final Styles styles, final SharedStrings sharedStrings, final DataFormatter formatter,
+        final XSSFPoijiHandler<?> handler, final PoijiOptions options, final PoijiLogCellFormat cellFormat,
+        final boolean date1904
+    ) {
+        this.in = in;
+        this.styles = styles;
+        this.sharedStrings = sharedStrings;
+        this.formatter = formatter;
+        this.handler = handler;
+        this.cellFormat = cellFormat;
+        this.rawCellValues = options.isRawCellValues();
+        this.disableNumberCellFormat = options.isDisableXLSXNumberCellFormat();
+        this.date1904 = date1904;
+    }
+
+    @Override
+    public boolean nextRow() throws IOException {
+        if (finished) {
+            return false;
+        }
+        int b;
+        while ((b = read()) >= 0) {
+            if (b == '<') {
+                if (tag()) {
+                    return true;
+                }
+            } else if (collecting) {
+                if (b == '&') {
+                    entity();
+                } else {
+                    appendText((byte) b);
+                }
+            }
+        }
+        finished = true;
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        in.close();
+    }
+
+    /**
+     * Reads a tag after its opening bracket.
+     *
+     * @return true if a row is ended by the tag
+     */
+    private boolean tag() throws IOException {
+        int b = read();
+        if (b == '/') {
+            b = readName(read());
+            while (b >= 0 && b != '>') {
+                b = read();
+            }
+            return endElement(element());
+        } else if (b == '?') {
+            skipInstruction();
+            return false;
+        } else if (b == '!') {
+            declaration();
+            return false;
+        }
+        b = readName(b);
+        final int element = element();
+        startElement(element);
+        if (attributes(b, element)) {
+            elementStarted(element);
+            return endElement(element);
+        }
+        elementStarted(element);
+        return false;
+    }
+
+    private int element() {
+        if (nameLength == 1) {
+            switch (name[0]) {
+                case 'c':
+                    return inSheetData ? CELL : OTHER;
+                case 'v':
+                    return inCell ? VALUE : OTHER;
+                case 't':
+                    return inInlineString ? TEXT : OTHER;
+                default:
+                    return OTHER;
+            }
+        } else if (nameIs(INLINE_STRING_NAME)) {
+            return inCell ? INLINE_STRING : OTHER;
+        } else if (nameIs(ROW_NAME)) {
+            return inSheetData ? ROW : OTHER;
+        } else if (nameIs(SHEET_DATA_NAME)) {
+            return SHEET_DATA;
+        }
+        return OTHER;
+    }
+
+    private void startElement(final int element) {
+        if (element == ROW) {
+            rowRef = 0;
+        } else if (element == CELL) {
+            cellRow = -1;
+            cellColumn = -1;
+            cellType = NUMBER;
+            cellStyle = -1;
+            cellTypeString = null;
+            cellStyleString = null;
+            valueSeen = false;
+            textSeen = false;
+            textLength = 0;
+        }
+    }
+
+    private void elementStarted(final int element) {
+        switch (element) {
+            case SHEET_DATA:
+                inSheetData = true;
+                break;
+            case ROW:
+                rowNum = rowRef > 0 ? rowRef - 1 : rowNum + 1;
+                lastColumn = -1;
+                handler.startRow(rowNum);
+                break;
+            case CELL:
+                cellStarted();
+                break;
+            case VALUE:
+                valueSeen = true;
+                textSeen = true;
+                textLength = 0;
+                collecting = mode != SKIPPED;
+                break;
+            case INLINE_STRING:
+                inInlineString = true;
+                valueSeen = true;
+                break;
+            case TEXT:
+                textSeen = true;
+                collecting = mode == FORMATTED;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void cellStarted() {
+        inCell = true;
+        if (cellColumn < 0) {
+            cellColumn = lastColumn + 1;
+        }
+        if (cellRow < 0) {
+            cellRow = rowNum;
+        }
+        lastColumn = cellColumn;
+        if (cellFormat != null) {
+            logCellFormat();
+        }
+        final char rawType = rawCellValues && (cellType == NUMBER || cellType == BOOLEAN) ? cellType : 0;
+        if (!handler.isCellWanted(cellRow, cellColumn)) {
+            mode = SKIPPED;
+        } else if (rawType != 0 && handler.isRawWanted(cellRow, cellColumn)) {
+            mode = RAW;
+        } else {
+            mode = FORMATTED;
+        }
+    }
+
+    /**
+     * @return true if a row is ended
+     */
+    private boolean endElement(final int element) {
+        switch (element) {
+            case SHEET_DATA:
+                inSheetData = false;
+                handler.endSheet();
+                break;
+            case ROW:
+                handler.endRow(rowNum);
+                return true;
+            case CELL:
+                inCell = false;
+                collecting = false;
+                cellEnded();
+                break;
+            case VALUE:
+            case TEXT:
+                collecting = false;
+                break;
+            case INLINE_STRING:
+                inInlineString = false;
+                break;
+            default:
+                break;
+        }
+        return false;
+    }
+
+    private void cellEnded() {
+        if (mode == SKIPPED) {
+            if (valueSeen) {
+                handler.cellSkipped(cellRow, cellColumn);
+            }
+        } else if (mode == RAW) {
+            if (textLength > 0) {
+                handler.rawCell(cellRow, cellColumn, cellType, textString(), date1904);
+            } else if (valueSeen) {
+                handler.cellSkipped(cellRow, cellColumn);
+            }
+        } else if (textSeen) {
+            handler.cell(cellRow, cellColumn, formattedValue());
+        }
+    }
+
+    private String formattedValue() {
+        switch (cellType) {
+            case BOOLEAN:
+                return textLength > 0 && text[0] == '0' ? "FALSE" : "TRUE";
+            case ERROR:
+                return "ERROR:" + textString();
+            case INLINE:
+                return new XSSFRichTextString(textString()).toString();
+            case SHARED_STRING:
+                final int index = parseInt(text, textLength);
+                return index < 0 ? null : sharedStrings.getItemAt(index).toString();
+            case FORMULA_STRING:
+                return textString();
+            default:
+                final String number = textString();
+                resolveFormat(disableNumberCellFormat ? -1 : cellStyle);
+                if (formatString == null || number.isEmpty()) {
+                    return number;
+                }
+                try {
+                    return formatter.formatRawCellContents(Double.parseDouble(number), formatIndex, formatString);
+                } catch (NumberFormatException e) {
+                    return number;
+                }
+        }
+    }
+
+    /**
+     * Resolves the number format of a style, the default style is used for the cells without one.
+     * Formats are cached by style, as the styles table creates a new style object on every lookup.
+     */
+    private void resolveFormat(final int style) {
+        formatIndex = -1;
+        formatString = null;
+        if (styles == null) {
+            return;
+        }
+        final int styleIndex;
+        if (style >= 0) {
+            styleIndex = style;
+        } else if (styles.getNumCellStyles() > 0) {
+            styleIndex = 0;
+        } else {
+            return;
+        }
+        if (styleIndex >= formatsResolved.length) {
+            final int length = Math.max(styleIndex + 1, styles.getNumCellStyles());
+            formatIndexes = Arrays.copyOf(formatIndexes, length);
+            formatStrings = Arrays.copyOf(formatStrings, length);
+            formatsResolved = Arrays.copyOf(formatsResolved, length);
+        }
+        if (!formatsResolved[styleIndex]) {
+            final XSSFCellStyle cellStyle = styles.getStyleAt(styleIndex);
+            if (cellStyle != null) {
+                formatIndexes[styleIndex] = cellStyle.getDataFormat();
+                String format = cellStyle.getDataFormatString();
+                if (format == null) {
+                    format = BuiltinFormats.getBuiltinFormat(formatIndexes[styleIndex]);
+                }
+                formatStrings[styleIndex] = format;
+            } else {
+                formatIndexes[styleIndex] = -1;
+            }
+            formatsResolved[styleIndex] = true;
+        }
+        formatIndex = formatIndexes[styleIndex];
+        formatString = formatStrings[styleIndex];
+    }
+
+    private void logCellFormat() {
+        final CellAddress cellAddress = new CellAddress(cellRow, cellColumn);
+        if (cellType != NUMBER && cellType != OTHER_NUMBER) {
+            cellFormat.addFormat(cellAddress, (short) 0, null, cellTypeString, cellStyleString);
+            return;
+        }
+        resolveFormat(cellStyle);
+        if (formatIndex != -1 || formatString != null) {
+            cellFormat.addFormat(cellAddress, formatIndex, formatString, cellTypeString, cellStyleString);
+        }
+    }
+
+    /**
+     * Reads the attributes of a start tag up to its closing bracket.
+     *
+     * @return true if the element is empty
+     */
+    private boolean attributes(int b, final int element) throws IOException {
+        boolean empty = false;
+        while (true) {
+            b = skipSpaces(b);
+            if (b == '>') {
+                return empty;
+            } else if (b == '/') {
+                empty = true;
+                b = read();
+                continue;
+            } else if (b < 0) {
+                throw new IOException("Unexpected end of the sheet");
+            }
+            empty = false;
+            b = skipSpaces(readName(b));
+            if (b != '=') {
+                continue;
+            }
+            final char attribute = nameLength == 1 ? (char) name[0] : 0;
+            final int quote = skipSpaces(read());
+            if (quote != '"' && quote != '\'') {
+                throw new IOException("Malformed attribute in the sheet");
+            }
+            readValue(quote);
+            if (element == CELL) {
+                cellAttribute(attribute);
+            } else if (element == ROW && attribute == 'r') {
+                rowRef = parseInt(value, valueLength);
+            }
+            b = read();
+        }
+    }
+
+    private void cellAttribute(final char attribute) {
+        if (attribute == 'r') {
+            cellReference();
+        } else if (attribute == 't') {
+            cellType = cellType();
+            if (cellFormat != null) {
+                cellTypeString = new String(value, 0, valueLength, UTF_8);
+            }
+        } else if (attribute == 's') {
+            cellStyle = parseInt(value, valueLength);
+            if (cellFormat != null) {
+                cellStyleString = new String(value, 0, valueLength, UTF_8);
+            }
+        }
+    }
+
+    private void cellReference() {
+        int column = 0;
+        int i = 0;
+        for (; i < valueLength; i++) {
+            final byte c = value[i];
+            if (c >= 'A' && c <= 'Z') {
+                column = column * 26 + c - 'A' + 1;
+            } else if (c >= 'a' && c <= 'z') {
+                column = column * 26 + c - 'a' + 1;
+            } else {
+                break;
+            }
+        }
+        int row = 0;
+        for (; i < valueLength; i++) {
+            final byte c = value[i];
+            if (c < '0' || c > '9') {
+                return;
+            }
+            row = row * 10 + c - '0';
+        }
+        if (column > 0 && row > 0) {
+            cellColumn = column - 1;
+            cellRow = row - 1;
+        }
+    }
+
+    private char cellType() {
+        if (valueLength == 1) {
+            switch (value[0]) {
+                case 'n':
+                    return NUMBER;
+                case 'b':
+                    return BOOLEAN;
+                case 'e':
+                    return ERROR;
+                case 's':
+                    return SHARED_STRING;
+                default:
+                    return OTHER_NUMBER;
+            }
+        } else if (valueIs(FORMULA_STRING_TYPE)) {
+            return FORMULA_STRING;
+        } else if (valueIs(INLINE_STRING_TYPE)) {
+            return INLINE;
+        }
+        return OTHER_NUMBER;
+    }
+
+    /**
+     * Reads a name into {@link #name} without its namespace prefix.
+     *
+     * @return the byte after the name
+     */
+    private int readName(int b) throws IOException {
+        nameLength = 0;
+        while (b > ' ' && b != '=' && b != '>' && b != '/') {
+            if (b == ':') {
+                nameLength = 0;
+            } else {
+                if (nameLength < name.length) {
+                    name[nameLength] = (byte) b;
+                }
+                nameLength++;
+            }
+            b = read();
+        }
+        return b;
+    }
+
+    private void readValue(final int quote) throws IOException {
+        valueLength = 0;
+        int b;
+        while ((b = read()) != quote) {
+            if (b < 0) {
+                throw new IOException("Unexpected end of the sheet");
+            }
+            if (valueLength == value.length) {
+                value = Arrays.copyOf(value, value.length * 2);
+            }
+            value[valueLength++] = (byte) b;
+        }
+    }
+
+    private boolean nameIs(final byte[] expected) {
+        if (nameLength != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < nameLength; i++) {
+            if (name[i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean valueIs(final byte[] expected) {
+        if (valueLength != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < valueLength; i++) {
+            if (value[i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the decimal number, or -1 if the bytes are not a decimal number
+     */
+    private static int parseInt(final byte[] bytes, final int length) {
+        if (length == 0) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            final byte c = bytes[i];
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + c - '0';
+        }
+        return result;
+    }
+
+    private void skipInstruction() throws IOException {
+        int previous = 0;
+        int b;
+        while ((b = read()) >= 0) {
+            if (previous == '?' && b == '>') {
+                return;
+            }
+            previous = b;
+        }
+    }
+
+    /**
+     * Skips comments and document type declarations, and reads CDATA sections.
+     */
+    private void declaration() throws IOException {
+        int b = read();
+        if (b == '-') {
+            read();
+            int dashes = 0;
+            while ((b = read()) >= 0) {
+                if (b == '-') {
+                    dashes++;
+                } else if (b == '>' && dashes >= 2) {
+                    return;
+                } else {
+                    dashes = 0;
+                }
+            }
+        } else if (b == '[') {
+            for (int i = 0; i < 6; i++) {
+                read();
+            }
+            int brackets = 0;
+            while ((b = read()) >= 0) {
+                if (b == ']') {
+                    brackets++;
+                } else if (b == '>' && brackets >= 2) {
+                    appendBrackets(brackets - 2);
+                    return;
+                } else {
+                    appendBrackets(brackets);
+                    brackets = 0;
+                    if (collecting) {
+                        appendText((byte) b);
+                    }
+                }
+            }
+        } else {
+            while (b >= 0 && b != '>') {
+                b = read();
+            }
+        }
+    }
+
+    private void appendBrackets(final int brackets) {
+        if (collecting) {
+            for (int i = 0; i < brackets; i++) {
+                appendText((byte) ']');
+            }
+        }
+    }
+
+    /**
+     * Decodes a character reference or one of the predefined entities into {@link #text}.
+     */
+    private void entity() throws IOException {
+        valueLength = 0;
+        int b;
+        while ((b = read()) != ';') {
+            if (b < 0) {
+                throw new IOException("Unexpected end of the sheet");
+            }
+            if (valueLength == value.length) {
+                value = Arrays.copyOf(value, value.length * 2);
+            }
+            value[valueLength++] = (byte) b;
+        }
+        final String entity = new String(value, 0, valueLength, UTF_8);
+        final int codePoint;
+        switch (entity) {
+            case "amp":
+                codePoint = '&';
+                break;
+            case "lt":
+                codePoint = '<';
+                break;
+            case "gt":
+                codePoint = '>';
+                break;
+            case "quot":
+                codePoint = '"';
+                break;
+            case "apos":
+                codePoint = '\'';
+                break;
+            default:
+                if (entity.startsWith("#x") || entity.startsWith("#X")) {
+                    codePoint = Integer.parseInt(entity.substring(2), 16);
+                } else if (entity.startsWith("#")) {
+                    codePoint = Integer.parseInt(entity.substring(1));
+                } else {
+                    throw new IOException("Unknown entity in the sheet: " + entity);
+                }
+                break;
+        }
+        final byte[] bytes = new String(Character.toChars(codePoint)).getBytes(UTF_8);
+        for (final byte aByte : bytes) {
+            appendText(aByte);
+        }
+    }
+
+    private void appendText(final byte b) {
+        if (textLength == text.length) {
+            text = Arrays.copyOf(text, text.length * 2);
+        }
+        text[textLength++] = b;
+    }
+
+    private String textString() {
+        return new String(text, 0, textLength, UTF_8);
+    }
+
+    private int skipSpaces(int b) throws IOException {
+        while (b >= 0 && b <= ' ') {
+            b = read();
+        }
+        return b;
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            int read;
+            do {
+                read = in.read(buffer, 0, buffer.length);
+            } while (read == 0);
+            if (read < 0) {
+                return -1;
+            }
+            position = 0;
+            limit = read;
+        }
+        return buffer[position++] & 0xFF;
+    }
+}
@@ -0,0 +1,63 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.exception.PoijiException;
+import org.apache.poi.util.LocaleUtil;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator which reads the next row of a sheet on the calling thread whenever an instance is requested.
+ */
+final class XSSFSheetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final Queue<T> buffer;
+    private final XSSFSheetReader reader;
+    private final Locale locale;
+
+    XSSFSheetSpliterator(final Queue<T> buffer, final XSSFSheetReader reader, final Locale locale) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+        this.buffer = buffer;
+        this.reader = reader;
+        this.locale = locale;
+    }
+
+    /**
+     * @return buffer to be filled by the consumer of the sheet handler
+     */
+    static <T> Queue<T> buffer() {
+        return new ArrayDeque<>();
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (buffer.isEmpty() && !read()) {
+            return false;
+        }
+        action.accept(buffer.remove());
+        return true;
+    }
+
+    private boolean read() {
+        final Locale oldLocale = LocaleUtil.getUserLocale();
+        LocaleUtil.setUserLocale(locale);
+        try {
+            while (buffer.isEmpty()) {
+                if (!reader.nextRow()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException | SAXException e) {
+            throw new PoijiException("Problem occurred while reading data", e);
+        } finally {
+            LocaleUtil.setUserLocale(oldLocale);
+        }
+    }
+}
@@ -23,6 +23,15 @@ class XSSFSheetXMLPoijiHandler extends XSSFSheetXMLHandler {
     private final Styles stylesTable;
     private final PoijiOptions poijiOptions;
     private final PoijiLogCellFormat cellFormat;
+    private final XSSFPoijiHandler<?> projection;
+    private final boolean date1904;
+    private boolean skipping;
+    private boolean skippedValue;
+    private int skippedRow;
+    private int skippedColumn;
+    private char rawType;
+    private boolean rawValueOpen;
+    private final StringBuilder rawValue = new StringBuilder(64);
 
     XSSFSheetXMLPoijiHandler(Styles styles,
                              Comments comments,
@@ -30,16 +39,38 @@ class XSSFSheetXMLPoijiHandler extends XSSFSheetXMLHandler {
                              SheetContentsHandler sheetContentsHandler,
                              DataFormatter dataFormatter,
                              boolean formulasNotResults,
-                             PoijiOptions poijiOptions) {
+                             PoijiOptions poijiOptions,
+                             PoijiLogCellFormat cellFormat,
+                             boolean date1904) {
         super(styles, comments, strings, sheetContentsHandler, dataFormatter, formulasNotResults);
         this.stylesTable = styles;
         this.poijiOptions = poijiOptions;
-        this.cellFormat = this.poijiOptions.getPoijiCellFormat();
+        this.cellFormat = cellFormat;
+        this.date1904 = date1904;
+        this.projection = sheetContentsHandler instanceof XSSFPoijiHandler
+            ? (XSSFPoijiHandler<?>) sheetContentsHandler
+            : null;
     }
 
     @Override
     public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
 
+        if (skipping) {
+            if ("v".equals(localName) || "is".equals(localName)) {
+                skippedValue = true;
+                rawValueOpen = rawType != 0 && "v".equals(localName);
+            }
+            return;
+        }
+        if (projection != null && "c".equals(localName) && (uri == null || uri.equals(NS_SPREADSHEETML))) {
+            String cellRef = attributes.getValue("r");
+            rawType = rawType(attributes.getValue("t"));
+            if (cellRef != null && intercept(cellRef)) {
+                logCellFormat(uri, localName, attributes);
+                return;
+            }
+        }
+
         Attributes2Impl attributes2 = new Attributes2Impl(attributes);
 
         if (!"oddHeader".equals(localName) &&
@@ -68,7 +99,69 @@ class XSSFSheetXMLPoijiHandler extends XSSFSheetXMLHandler {
         }
 
         super.startElement(uri, localName, qName, attributes2);
+        logCellFormat(uri, localName, attributes);
+    }
+
+    /**
+     * Content cells of the columns which are not mapped are skipped with their values, so shared strings are not
+     * looked up and values are not formatted for them. When raw cell values are enabled, the v content of numeric
+     * and boolean cells is collected here and passed on without formatting.
+     *
+     * @return true if the cell is not passed to the XSSFSheetXMLHandler
+     */
+    private boolean intercept(String cellRef) {
+        int column = 0;
+        int i = 0;
+        final int length = cellRef.length();
+        for (; i < length; i++) {
+            final char c = cellRef.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                column = column * 26 + c - 'A' + 1;
+            } else if (c >= 'a' && c <= 'z') {
+                column = column * 26 + c - 'a' + 1;
+            } else {
+                break;
+            }
+        }
+        int row = 0;
+        for (; i < length; i++) {
+            final char c = cellRef.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            row = row * 10 + c - '0';
+        }
+        if (column == 0 || row == 0) {
+            return false;
+        } else if (!projection.isCellWanted(row - 1, column - 1)) {
+            rawType = 0;
+        } else if (rawType != 0 && projection.isRawWanted(row - 1, column - 1)) {
+            rawValue.setLength(0);
+        } else {
+            return false;
+        }
+        skipping = true;
+        skippedValue = false;
+        skippedRow = row - 1;
+        skippedColumn = column - 1;
+        return true;
+    }
 
+    /**
+     * Numeric and boolean cells are the only ones which have raw values usable without formatting.
+     */
+    private char rawType(String cellType) {
+        if (!poijiOptions.isRawCellValues()) {
+            return 0;
+        } else if (cellType == null || "n".equals(cellType)) {
+            return 'n';
+        } else if ("b".equals(cellType)) {
+            return 'b';
+        }
+        return 0;
+    }
+
+    private void logCellFormat(String uri, String localName, Attributes attributes) {
         if (this.cellFormat == null) {
             return;
         }
@@ -114,6 +207,32 @@ class XSSFSheetXMLPoijiHandler extends XSSFSheetXMLHandler {
 
     @Override
     public void endElement(String uri, String localName, String qName) throws SAXException {
+        if (skipping) {
+            if ("v".equals(localName)) {
+                rawValueOpen = false;
+            } else if ("c".equals(localName)) {
+                skipping = false;
+                if (rawType != 0) {
+                    if (rawValue.length() > 0) {
+                        projection.rawCell(skippedRow, skippedColumn, rawType, rawValue.toString(), date1904);
+                    } else if (skippedValue) {
+                        projection.cellSkipped(skippedRow, skippedColumn);
+                    }
+                } else if (skippedValue) {
+                    projection.cellSkipped(skippedRow, skippedColumn);
+                }
+            }
+            return;
+        }
         super.endElement(uri, localName, qName);
     }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        if (!skipping) {
+            super.characters(ch, start, length);
+        } else if (rawValueOpen) {
+            rawValue.append(ch, start, length);
+        }
+    }
 }
@@ -2,50 +2,246 @@ package com.poiji.bind.mapping;
 
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
+import java.io.Closeable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.poi.util.LocaleUtil;
 
-public final class XSSFStreamIterator<T> extends XSSFPoijiHandler<T> implements Iterator<T>{
+/**
+ * Iterates over the instances created by sheet parses running on other threads.
+ * <p>
+ * Instances are handed over in batches through a small bounded queue, the order of the instances of each sheet is
+ * kept. The parses stop when the iterator is closed or is not referenced anymore, and a parse failure is thrown from
+ * {@link #hasNext()}.
+ */
+public final class XSSFStreamIterator<T> implements Iterator<T>, Closeable {
 
-    private final Semaphore canTake = new Semaphore(0);
-    private final BlockingQueue<T> queue = new ArrayBlockingQueue<>(1000, true);
+    private static final int BATCH_SIZE = 256;
+    private static final int QUEUED_BATCHES = 4;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final Object END = new Object();
 
-    XSSFStreamIterator(
-        final PoijiOptions options,
-        final ReadMappedFields mappedFields
+    private final Channel channel = new Channel();
+    private final PoijiOptions options;
+    private List<T> batch = Collections.emptyList();
+    private int index;
+    private int producers;
+    private boolean finished;
+
+    XSSFStreamIterator(final PoijiOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Creates the task which parses a sheet. The task doesn't reference this iterator, so an abandoned stream
+     * can be collected and its parse stopped. All the producers have to be created before the iteration.
+     *
+     * @param mapper converts the instances of the sheet to the elements of this iterator
+     */
+    <S> Runnable producer(
+        final ReadMappedFields mappedFields, final Function<? super S, ? extends T> mapper, final SheetParser<S> parser
     ) {
-        super(options, mappedFields);
-        this.consumer = this::put;
+        final Producer<S, T> producer =
+            new Producer<>(options, mappedFields, mapper, channel, new WeakReference<>(this));
+        producers++;
+        return () -> producer.run(parser);
     }
 
-    private void put(T t){
-        try {
-            queue.put(t);
-            canTake.release();
-        } catch (InterruptedException e) {
-            throw new PoijiException(e.getMessage(), e);
+    /**
+     * Runs the producers on the executor, at most the given count of them at once. The tasks on the executor take the
+     * next producer only while the iteration goes on, so the producers of a closed iterator which have not started
+     * yet are never run.
+     */
+    void start(final List<Runnable> producers, final Executor executor, final int threads) {
+        final Queue<Runnable> pending = new ConcurrentLinkedQueue<>(producers);
+        final Channel channel = this.channel;
+        final WeakReference<XSSFStreamIterator<T>> owner = new WeakReference<>(this);
+        final Runnable worker = () -> {
+            Runnable producer;
+            while (!channel.closed && owner.get() != null && (producer = pending.poll()) != null) {
+                producer.run();
+            }
+        };
+        for (int i = Math.min(threads, producers.size()); i > 0; i--) {
+            executor.execute(worker);
         }
     }
 
     @Override
-    public void endSheet() {
-        canTake.release();
+    @SuppressWarnings("unchecked")
+    public boolean hasNext() {
+        while (index == batch.size()) {
+            if (finished || producers == 0) {
+                return false;
+            }
+            final Object next = take();
+            if (next == END) {
+                producers--;
+                continue;
+            }
+            if (next instanceof Failure) {
+                close();
+                throw ((Failure) next).exception();
+            }
+            batch = (List<T>) next;
+            index = 0;
+        }
+        return true;
     }
 
     @Override
-    public boolean hasNext() {
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return batch.get(index++);
+    }
+
+    /**
+     * Stops the parse and drops the instances which are not consumed yet.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        batch = Collections.emptyList();
+        channel.closed = true;
+        channel.queue.clear();
+    }
+
+    private Object take() {
         try {
-            canTake.acquire();
-            return !queue.isEmpty();
+            return channel.queue.take();
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new PoijiException(e.getMessage(), e);
         }
     }
 
-    @Override
-    public T next() {
-        return queue.remove();
+    /**
+     * Parses a sheet with the given handler on the producer thread.
+     */
+    @FunctionalInterface
+    interface SheetParser<T> {
+
+        void parse(XSSFPoijiHandler<T> handler) throws Exception;
+
+    }
+
+    private static final class Channel {
+
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUED_BATCHES);
+        private volatile boolean closed;
+
+    }
+
+    private static final class Producer<S, T> extends XSSFPoijiHandler<S> {
+
+        private final PoijiOptions options;
+        private final Function<? super S, ? extends T> mapper;
+        private final Channel channel;
+        private final WeakReference<XSSFStreamIterator<T>> owner;
+        private List<T> batch = new ArrayList<>(BATCH_SIZE);
+
+        private Producer(
+            final PoijiOptions options, final ReadMappedFields mappedFields,
+            final Function<? super S, ? extends T> mapper, final Channel channel,
+            final WeakReference<XSSFStreamIterator<T>> owner
+        ) {
+            super(options, mappedFields);
+            this.options = options;
+            this.mapper = mapper;
+            this.channel = channel;
+            this.owner = owner;
+            this.consumer = this::add;
+        }
+
+        private void run(final SheetParser<S> parser) {
+            final Locale oldLocale = LocaleUtil.getUserLocale();
+            LocaleUtil.setUserLocale(options.getLocale());
+            try {
+                parser.parse(this);
+                if (!batch.isEmpty()) {
+                    hand(batch);
+                }
+                hand(END);
+            } catch (Cancellation ignored) {
+                // the iterator is closed or collected
+            } catch (Throwable e) {
+                if (!channel.closed) {
+                    try {
+                        hand(new Failure(e));
+                    } catch (Cancellation ignored) {
+                        // the iterator is closed or collected
+                    }
+                }
+            } finally {
+                LocaleUtil.setUserLocale(oldLocale);
+            }
+        }
+
+        private void add(final S s) {
+            batch.add(mapper.apply(s));
+            if (batch.size() == BATCH_SIZE) {
+                hand(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+        private void hand(final Object item) {
+            try {
+                while (!channel.queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (channel.closed || owner.get() == null) {
+                        throw Cancellation.INSTANCE;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw Cancellation.INSTANCE;
+            }
+            if (channel.closed) {
+                channel.queue.clear();
+                throw Cancellation.INSTANCE;
+            }
+        }
+    }
+
+    private static final class Failure {
+
+        private final Throwable cause;
+
+        private Failure(final Throwable cause) {
+            this.cause = cause;
+        }
+
+        private RuntimeException exception() {
+            if (cause instanceof RuntimeException) {
+                return (RuntimeException) cause;
+            }
+            return new PoijiException("Problem occurred while reading data", cause);
+        }
+    }
+
+    /**
+     * Unwinds the parse of a closed or collected iterator.
+     */
+    private static final class Cancellation extends RuntimeException {
+
+        private static final Cancellation INSTANCE = new Cancellation();
+
+        private Cancellation() {
+            super(null, null, false, false);
+        }
     }
 }
@@ -0,0 +1,121 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.option.PoijiOptions;
+import com.poiji.util.TransposedCells;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Reader of a transposed sheet. The sheet is read once by the source reader into {@link TransposedCells}, then every
+ * column of the sheet is passed to the handler as a row, so the cells of the row are the cells of the column.
+ */
+final class XSSFTransposedReader implements XSSFSheetReader {
+
+    private final XSSFSheetReader source;
+    private final TransposedCells cells;
+    private final XSSFPoijiHandler<?> poijiHandler;
+    private boolean sourceRead;
+    private int column;
+
+    /**
+     * @param source reader of the sheet into the handler created by {@link #collector(PoijiOptions, TransposedCells)}
+     * @param poijiHandler handler of the transposed rows
+     */
+    XSSFTransposedReader(
+        final XSSFSheetReader source, final TransposedCells cells, final XSSFPoijiHandler<?> poijiHandler
+    ) {
+        this.source = source;
+        this.cells = cells;
+        this.poijiHandler = poijiHandler;
+    }
+
+    /**
+     * @return handler which adds every cell of the sheet to the cells
+     */
+    static XSSFPoijiHandler<Object> collector(final PoijiOptions options, final TransposedCells cells) {
+        return new Collector(options, cells);
+    }
+
+    @Override
+    public boolean nextRow() throws IOException, SAXException {
+        if (!sourceRead) {
+            try {
+                source.readAll();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                source.close();
+            }
+            sourceRead = true;
+        }
+        while (column < cells.columnCount()) {
+            final int row = column++;
+            poijiHandler.startRow(row);
+            final boolean found = cells.visit(row, (sourceRow, value) -> poijiHandler.cell(row, sourceRow, value));
+            if (found) {
+                poijiHandler.endRow(row);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            IOUtils.closeQuietly(source);
+        } finally {
+            cells.close();
+        }
+    }
+
+    private static final class Collector extends XSSFPoijiHandler<Object> {
+
+        private final TransposedCells cells;
+
+        private Collector(final PoijiOptions options, final TransposedCells cells) {
+            super(options, null);
+            this.cells = cells;
+        }
+
+        @Override
+        public void startRow(final int rowNum) {
+            // the rows are started when the columns are replayed
+        }
+
+        @Override
+        public void endRow(final int rowNum) {
+            // the rows are ended when the columns are replayed
+        }
+
+        @Override
+        public void cell(final String cellReference, final String formattedValue, final XSSFComment comment) {
+            final CellAddress cellAddress = new CellAddress(cellReference);
+            cell(cellAddress.getRow(), cellAddress.getColumn(), formattedValue);
+        }
+
+        @Override
+        void cell(final int row, final int column, final String formattedValue) {
+            try {
+                cells.add(row, column, formattedValue);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        boolean isCellWanted(final int row, final int column) {
+            return true;
+        }
+
+        @Override
+        boolean isRawWanted(final int row, final int column) {
+            return false;
+        }
+    }
+}
@@ -1,228 +1,444 @@
 package com.poiji.bind.mapping;
 
+import com.poiji.bind.SheetInfo;
+import com.poiji.bind.SheetItem;
 import com.poiji.bind.Unmarshaller;
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
-import com.poiji.save.TransposeUtil;
+import com.poiji.util.TransposedCells;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackageRelationship;
+import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
+import org.apache.poi.openxml4j.opc.PackageRelationshipTypes;
 import org.apache.poi.poifs.filesystem.DocumentFactoryHelper;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.util.IOUtils;
 import org.apache.poi.util.LocaleUtil;
 import org.apache.poi.util.XMLHelper;
-import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
-import org.apache.poi.xssf.eventusermodel.XSSFReader.SheetIterator;
+import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.model.StylesTable;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static org.apache.poi.openxml4j.opc.PackageAccess.READ_WRITE;
-
 /**
  * Created by hakan on 22/10/2017
  */
 abstract class XSSFUnmarshaller implements Unmarshaller {
 
     protected final PoijiOptions options;
+    protected ReadContext context;
 
     XSSFUnmarshaller(PoijiOptions options) {
         this.options = options;
+        this.context = ReadContext.of(options);
+    }
+
+    @Override
+    public Unmarshaller withReadContext(final ReadContext context) {
+        this.context = context;
+        return this;
     }
 
     @Override
     public <T> void unmarshal(Class<T> type, Consumer<? super T> consumer) {
-        openFileAndExecute(opcPackage -> unmarshal0(type, consumer, opcPackage));
+        unmarshal(type, consumer, size -> {
+        });
     }
 
-    protected <T> void unmarshal0(Class<T> type, Consumer<? super T> consumer, OPCPackage open) {
+    @Override
+    public <T> void unmarshal(Class<T> type, Consumer<? super T> consumer, IntConsumer sizeHint) {
+        openFileAndExecute(opcPackage -> unmarshal0(type, consumer, sizeHint, opcPackage));
+    }
+
+    protected <T> void unmarshal0(Class<T> type, Consumer<? super T> consumer, IntConsumer sizeHint, OPCPackage open) {
         try {
-            if (options.getTransposed()) {
-                if (open.getPackageAccess() == READ_WRITE) {
-                    final XSSFWorkbook workbook = new XSSFWorkbook(open);
-                    TransposeUtil.transpose(workbook);
-                    workbook.write(new OutputStream() {
-                        @Override
-                        public void write(final int b) {
-                        }
-                    });
-                } else {
-                    throw new UnsupportedOperationException("Can't apply transposition for streamed XLSX source");
-                }
+            final SharedStrings sharedStrings = sharedStrings(open);
+            try {
+                processRequestedSheet(type, consumer, sizeHint, open, sharedStrings);
+            } finally {
+                releaseSharedStrings(sharedStrings);
             }
-            ReadOnlySharedStringsTable readOnlySharedStringsTable = new ReadOnlySharedStringsTable(open);
-            XSSFReader workbookReader = new XSSFReader(open);
-            StylesTable styles = workbookReader.getStylesTable();
-            XMLReader reader = XMLHelper.newXMLReader();
+        } catch (IOException | OpenXML4JException | ParserConfigurationException | SAXException e) {
+            throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> void processRequestedSheet(
+        Class<T> type, Consumer<? super T> consumer, IntConsumer sizeHint, OPCPackage open, SharedStrings sharedStrings
+    ) throws IOException, OpenXML4JException, ParserConfigurationException, SAXException {
+        StylesTable styles = styles(open);
+        WorkBookContentHandler wbch = workbook(open);
+
+        WorkBookSheet sheet = requestedSheet(wbch, type);
+        if (sheet != null) {
+            PackagePart sheetPart = sheetPart(open, sheet);
+            sizeHint.accept(estimateSize(sheetPart));
+            processSheet(styles, sharedStrings, type, sheetPart.getInputStream(), consumer, wbch.isDate1904());
+        }
+    }
+
+    @Override
+    public <T> Stream<T> stream(final Class<T> type) {
+        return streamPackage(open -> stream0(type, open, false));
+    }
+
+    @Override
+    public <T> Stream<T> bindingStream(final Class<T> type) {
+        return streamPackage(open -> stream0(type, open, true));
+    }
+
+    @Override
+    public <T> Stream<SheetItem<T>> streamSheets(
+        final Class<T> type, final Predicate<String> sheetFilter, final int threads
+    ) {
+        return streamPackage(open -> streamSheets0(type, sheetFilter, threads, open));
+    }
+
+    protected <T> Stream<T> stream0(Class<T> type, OPCPackage open, boolean deferred)
+        throws ParserConfigurationException, IOException, SAXException, OpenXML4JException
+    {
+        final SharedStrings sharedStrings = sharedStrings(open);
+        try {
+            return streamRequestedSheet(type, open, sharedStrings, deferred).onClose(() -> releaseSharedStrings(sharedStrings));
+        } catch (IOException | OpenXML4JException | ParserConfigurationException | SAXException | RuntimeException e) {
+            releaseSharedStrings(sharedStrings);
+            throw e;
+        }
+    }
 
-            InputSource is = new InputSource(workbookReader.getWorkbookData());
+    private <T> Stream<T> streamRequestedSheet(
+        Class<T> type, OPCPackage open, SharedStrings sharedStrings, boolean deferred
+    )
+        throws IOException, OpenXML4JException, ParserConfigurationException, SAXException
+    {
+        StylesTable styles = styles(open);
+        WorkBookContentHandler wbch = workbook(open);
 
-            reader.setContentHandler(new WorkBookContentHandler(options));
-            reader.parse(is);
+        WorkBookSheet sheet = requestedSheet(wbch, type);
+        if (sheet == null) {
+            return Stream.empty();
+        }
+        InputStream stream = sheetPart(open, sheet).getInputStream();
+        return streamSheet(styles, sharedStrings, type, stream, open, wbch.isDate1904(), deferred);
+    }
+
+    private <T> Stream<SheetItem<T>> streamSheets0(
+        Class<T> type, Predicate<String> sheetFilter, int threads, OPCPackage open
+    ) throws IOException, OpenXML4JException, ParserConfigurationException, SAXException {
+        final SharedStrings sharedStrings = sharedStrings(open);
+        final List<SheetPart> parts = new ArrayList<>();
+        final StylesTable styles;
+        final boolean date1904;
+        try {
+            styles = styles(open);
+            WorkBookContentHandler wbch = workbook(open);
+            date1904 = wbch.isDate1904();
 
-            WorkBookContentHandler wbch = (WorkBookContentHandler) reader.getContentHandler();
             List<WorkBookSheet> sheets = wbch.getSheets();
-            if (sheets.isEmpty()) {
-                throw new PoijiException("no excel sheets found");
-            }
-            PoijiNumberFormat poijiNumberFormat = options.getPoijiNumberFormat();
-            if (poijiNumberFormat != null) {
-                poijiNumberFormat.overrideExcelNumberFormats(styles);
+            for (int sheetCounter = 0; sheetCounter < sheets.size(); sheetCounter++) {
+                final WorkBookSheet sheet = sheets.get(sheetCounter);
+                if (isReadable(sheet) && sheetFilter.test(sheet.getName())) {
+                    parts.add(new SheetPart(
+                        sheet.getName(), sheetCounter, sheetPart(open, sheet),
+                        new ReadMappedFields(type, options, context).parseEntity()
+                    ));
+                }
             }
+        } catch (IOException | OpenXML4JException | ParserConfigurationException | SAXException | RuntimeException e) {
+            releaseSharedStrings(sharedStrings);
+            throw e;
+        }
+        if (options.getExecutor() == null) {
+            final SheetPuller<T> puller = new SheetPuller<>(parts, styles, sharedStrings, date1904);
+            return StreamSupport.stream(puller, false).onClose(() -> {
+                puller.close();
+                releaseSharedStrings(sharedStrings);
+                releasePackage(open);
+            });
+        }
 
-            SheetIterator iter = (SheetIterator) workbookReader.getSheetsData();
-            int sheetCounter = 0;
-
-            Optional<String> maybeSheetName = SheetNameExtractor.getSheetName(type, options);
-
-            if (!maybeSheetName.isPresent()) {
-                int requestedIndex = options.sheetIndex();
-                int nonHiddenSheetIndex = 0;
-                while (iter.hasNext()) {
-                    try (InputStream stream = iter.next()) {
-                        WorkBookSheet wbs = sheets.get(sheetCounter);
-                        if (wbs.getState().equals("visible")) {
-                            if (nonHiddenSheetIndex == requestedIndex) {
-                                processSheet(styles, reader, readOnlySharedStringsTable, type, stream, consumer);
-                                return;
-                            }
-                            nonHiddenSheetIndex++;
-                        }
-                    }
-                    sheetCounter++;
-                }
-            } else {
-                String sheetName = maybeSheetName.get();
-                while (iter.hasNext()) {
-                    try (InputStream stream = iter.next()) {
-                        WorkBookSheet wbs = sheets.get(sheetCounter);
-                        if (wbs.getState().equals("visible")) {
-                            if (iter.getSheetName().equalsIgnoreCase(sheetName)) {
-                                processSheet(styles, reader, readOnlySharedStringsTable, type, stream, consumer);
-                                return;
-                            }
+        final List<Runnable> producers = new ArrayList<>();
+        final XSSFStreamIterator<SheetItem<T>> iterator = new XSSFStreamIterator<>(options);
+        try {
+            for (final SheetPart part : parts) {
+                producers.add(iterator.<T>producer(
+                    part.mappedFields,
+                    item -> new SheetItem<>(part.name, part.index, item),
+                    poijiHandler -> {
+                        final InputStream stream = part.part.getInputStream();
+                        try {
+                            sheetReader(styles, sharedStrings, poijiHandler, stream, date1904).readAll();
+                        } finally {
+                            IOUtils.closeQuietly(stream);
                         }
                     }
-                    sheetCounter++;
-                }
+                ));
             }
-        } catch (IOException | OpenXML4JException | ParserConfigurationException | SAXException e) {
-            throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
+            // the sheets are parsed at once, so the shared strings and the styles are read only once for all of them
+            iterator.start(producers, options.getExecutor(), threads);
+        } catch (RuntimeException e) {
+            iterator.close();
+            releaseSharedStrings(sharedStrings);
+            throw e;
         }
+
+        final Spliterator<SheetItem<T>> spliterator =
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.IMMUTABLE | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            iterator.close();
+            releaseSharedStrings(sharedStrings);
+            releasePackage(open);
+        });
     }
 
-    protected <T> Stream<T> stream0(Class<T> type, OPCPackage open)
-        throws ParserConfigurationException, IOException, SAXException, OpenXML4JException
-    {
-        if (options.getTransposed()) {
-            if (open.getPackageAccess() == READ_WRITE) {
-                final XSSFWorkbook workbook = new XSSFWorkbook(open);
-                TransposeUtil.transpose(workbook);
-                workbook.write(new OutputStream() {
-                    @Override
-                    public void write(final int b) {
-                    }
-                });
-            } else {
-                throw new UnsupportedOperationException("Can't apply transposition for streamed XLSX source");
+    /**
+     * Sheet chosen to be read by {@link #streamSheets}.
+     */
+    private static final class SheetPart {
+
+        private final String name;
+        private final int index;
+        private final PackagePart part;
+        private final ReadMappedFields mappedFields;
+
+        private SheetPart(
+            final String name, final int index, final PackagePart part, final ReadMappedFields mappedFields
+        ) {
+            this.name = name;
+            this.index = index;
+            this.part = part;
+            this.mappedFields = mappedFields;
+        }
+    }
+
+    /**
+     * Reads the sheets of {@link #streamSheets} one after another by the thread consuming the stream, same as a single
+     * sheet is read without an executor. A sheet is opened once the rows of the sheet before it are consumed.
+     */
+    private final class SheetPuller<T> extends Spliterators.AbstractSpliterator<SheetItem<T>> implements Closeable {
+
+        private final Iterator<SheetPart> pending;
+        private final StylesTable styles;
+        private final SharedStrings sharedStrings;
+        private final boolean date1904;
+        private final Queue<SheetItem<T>> buffer = XSSFSheetSpliterator.buffer();
+        private XSSFSheetReader reader;
+        private Spliterator<SheetItem<T>> rows;
+
+        private SheetPuller(
+            final List<SheetPart> parts, final StylesTable styles, final SharedStrings sharedStrings,
+            final boolean date1904
+        ) {
+            super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.NONNULL);
+            this.pending = parts.iterator();
+            this.styles = styles;
+            this.sharedStrings = sharedStrings;
+            this.date1904 = date1904;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super SheetItem<T>> action) {
+            while (rows == null || !rows.tryAdvance(action)) {
+                close();
+                if (!pending.hasNext()) {
+                    return false;
+                }
+                open(pending.next());
+            }
+            return true;
+        }
+
+        private void open(final SheetPart part) {
+            final XSSFPoijiHandler<T> poijiHandler = new XSSFPoijiHandler<>(
+                options, item -> buffer.add(new SheetItem<>(part.name, part.index, item)), part.mappedFields
+            );
+            InputStream stream = null;
+            try {
+                stream = part.part.getInputStream();
+                reader = sheetReader(styles, sharedStrings, poijiHandler, stream, date1904);
+            } catch (IOException | SAXException e) {
+                IOUtils.closeQuietly(stream);
+                throw new PoijiException("Problem occurred while reading data", e);
             }
+            rows = new XSSFSheetSpliterator<>(buffer, reader, options.getLocale());
         }
 
-        ReadOnlySharedStringsTable readOnlySharedStringsTable = new ReadOnlySharedStringsTable(open);
-        XSSFReader workbookReader = new XSSFReader(open);
-        StylesTable styles = workbookReader.getStylesTable();
-        XMLReader reader = XMLHelper.newXMLReader();
+        @Override
+        public void close() {
+            IOUtils.closeQuietly(reader);
+            reader = null;
+            rows = null;
+        }
+    }
+
+    /**
+     * @return shared strings of the package, released by {@link #releaseSharedStrings(SharedStrings)} once read
+     */
+    protected SharedStrings sharedStrings(OPCPackage open) throws IOException, SAXException {
+        return options.getSharedStrings().create(open);
+    }
+
+    protected void releaseSharedStrings(SharedStrings sharedStrings) {
+        closeSharedStrings(sharedStrings);
+    }
+
+    /**
+     * @return styles of the package, with the number formats of the options
+     */
+    protected StylesTable styles(OPCPackage open) throws IOException, OpenXML4JException {
+        StylesTable styles = new XSSFReader(open).getStylesTable();
+        overrideNumberFormats(styles, options);
+        return styles;
+    }
+
+    /**
+     * @return sheets listed in the workbook part of the package
+     */
+    protected WorkBookContentHandler workbook(OPCPackage open)
+        throws IOException, OpenXML4JException, ParserConfigurationException, SAXException
+    {
+        return readWorkbook(workbookPart(open).getInputStream(), options);
+    }
 
-        InputSource is = new InputSource(workbookReader.getWorkbookData());
+    /**
+     * @return part of the sheet, found by its relation, so the parts of the other sheets are not opened
+     */
+    protected PackagePart sheetPart(OPCPackage open, WorkBookSheet sheet) throws InvalidFormatException {
+        return sheetPart(workbookPart(open), sheet);
+    }
 
-        reader.setContentHandler(new WorkBookContentHandler(options));
-        reader.parse(is);
+    /**
+     * Closes the package once the stream read from it is closed.
+     */
+    protected void releasePackage(OPCPackage open) {
+        try {
+            open.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
 
-        WorkBookContentHandler wbch = (WorkBookContentHandler) reader.getContentHandler();
-        List<WorkBookSheet> sheets = wbch.getSheets();
-        if (sheets.isEmpty()) {
+    /**
+     * Reads the sheets listed in the workbook part, with the relations to their parts.
+     */
+    static WorkBookContentHandler readWorkbook(InputStream workbookData, PoijiOptions options)
+        throws IOException, ParserConfigurationException, SAXException
+    {
+        WorkBookContentHandler wbch = new WorkBookContentHandler(options);
+        try (InputStream stream = workbookData) {
+            XMLReader reader = XMLHelper.newXMLReader();
+            reader.setContentHandler(wbch);
+            reader.parse(new InputSource(stream));
+        }
+        if (wbch.getSheets().isEmpty()) {
             throw new PoijiException("no excel sheets found");
         }
+        return wbch;
+    }
+
+    static void overrideNumberFormats(StylesTable styles, PoijiOptions options) {
         PoijiNumberFormat poijiNumberFormat = options.getPoijiNumberFormat();
         if (poijiNumberFormat != null) {
             poijiNumberFormat.overrideExcelNumberFormats(styles);
         }
+    }
 
-        SheetIterator iter = (SheetIterator) workbookReader.getSheetsData();
-        int sheetCounter = 0;
-
+    /**
+     * @return sheet of the name of the type or the options, or of the index of the options, null if there is none
+     */
+    private WorkBookSheet requestedSheet(WorkBookContentHandler wbch, Class<?> type) {
         Optional<String> maybeSheetName = SheetNameExtractor.getSheetName(type, options);
-
-        if (!maybeSheetName.isPresent()) {
-            int requestedIndex = options.sheetIndex();
-            int nonHiddenSheetIndex = 0;
-            while (iter.hasNext()) {
-                InputStream stream = iter.next();
-                WorkBookSheet wbs = sheets.get(sheetCounter);
-                if (wbs.getState().equals("visible")) {
-                    if (nonHiddenSheetIndex == requestedIndex) {
-                        return streamSheet(styles, reader, readOnlySharedStringsTable, type, stream, open);
-                    }
-                    nonHiddenSheetIndex++;
+        int requestedIndex = options.sheetIndex();
+        int nonHiddenSheetIndex = 0;
+        for (WorkBookSheet sheet : wbch.getSheets()) {
+            if (isReadable(sheet)) {
+                if (maybeSheetName.isPresent()
+                    ? sheet.getName().equalsIgnoreCase(maybeSheetName.get())
+                    : nonHiddenSheetIndex == requestedIndex) {
+                    return sheet;
                 }
-                sheetCounter++;
-            }
-        } else {
-            String sheetName = maybeSheetName.get();
-            while (iter.hasNext()) {
-                InputStream stream = iter.next();
-                WorkBookSheet wbs = sheets.get(sheetCounter);
-                if (wbs.getState().equals("visible")) {
-                    if (iter.getSheetName().equalsIgnoreCase(sheetName)) {
-                        return streamSheet(styles, reader, readOnlySharedStringsTable, type, stream, open);
-                    }
-                }
-                sheetCounter++;
+                nonHiddenSheetIndex++;
             }
         }
-        return Stream.empty();
+        return null;
+    }
+
+    /**
+     * @return whether the sheet may be read, so whether it is visible or the hidden sheets are not ignored
+     */
+    private boolean isReadable(WorkBookSheet sheet) {
+        return !options.ignoreHiddenSheets() || "visible".equals(sheet.getState());
+    }
+
+    static PackagePart workbookPart(OPCPackage open) throws InvalidFormatException {
+        PackageRelationshipCollection documents = open.getRelationshipsByType(PackageRelationshipTypes.CORE_DOCUMENT);
+        if (documents.size() == 0) {
+            documents = open.getRelationshipsByType(PackageRelationshipTypes.STRICT_CORE_DOCUMENT);
+        }
+        if (documents.size() == 0) {
+            throw new PoijiException("no excel workbook found");
+        }
+        return open.getPart(documents.getRelationship(0));
+    }
+
+    static PackagePart sheetPart(PackagePart workbookPart, WorkBookSheet sheet) throws InvalidFormatException {
+        PackageRelationship relationship = workbookPart.getRelationship(sheet.getRelationId());
+        PackagePart sheetPart = relationship == null ? null : workbookPart.getRelatedPart(relationship);
+        if (sheetPart == null) {
+            throw new PoijiException("no part found for excel sheet " + sheet.getName());
+        }
+        return sheetPart;
+    }
+
+    /**
+     * @return count of the instances the sheet has room for by its dimension, 0 if the sheet does not state it
+     */
+    private int estimateSize(PackagePart sheetPart) throws IOException {
+        final XSSFSheetDimension dimension;
+        try (InputStream stream = sheetPart.getInputStream()) {
+            dimension = XSSFSheetDimension.read(stream, false);
+        }
+        return UnmarshallerHelper.estimateSize(
+            options, options.getTransposed() ? dimension.lastColumn() : dimension.lastRow()
+        );
     }
 
     private <T> void processSheet(StylesTable styles,
-                                  XMLReader reader,
-                                  ReadOnlySharedStringsTable readOnlySharedStringsTable,
+                                  SharedStrings sharedStrings,
                                   Class<T> type,
                                   InputStream sheetInputStream,
-                                  Consumer<? super T> consumer
+                                  Consumer<? super T> consumer,
+                                  boolean date1904
     ) {
         final Locale oldLocale = LocaleUtil.getUserLocale();
         try {
-            DataFormatter formatter = new DataFormatter();
-            InputSource sheetSource = new InputSource(sheetInputStream);
             LocaleUtil.setUserLocale(options.getLocale());
-            final ReadMappedFields mappedFields = new ReadMappedFields(type, options).parseEntity();
+            final ReadMappedFields mappedFields = new ReadMappedFields(type, options, context).parseEntity();
             final XSSFPoijiHandler<T> poijiHandler = new XSSFPoijiHandler<>(options, consumer, mappedFields);
-            ContentHandler contentHandler = new XSSFSheetXMLPoijiHandler(
-                styles,
-                null,
-                readOnlySharedStringsTable,
-                poijiHandler,
-                formatter,
-                false,
-                options
-            );
-            reader.setContentHandler(contentHandler);
-            reader.parse(sheetSource);
-		} catch (SAXException | IOException e) {
+            try (XSSFSheetReader sheetReader =
+                     sheetReader(styles, sharedStrings, poijiHandler, sheetInputStream, date1904)) {
+                sheetReader.readAll();
+            }
+        } catch (SAXException | IOException e) {
             IOUtils.closeQuietly(sheetInputStream);
             throw new PoijiException("Problem occurred while reading data", e);
         } finally {
@@ -231,44 +447,121 @@ abstract class XSSFUnmarshaller implements Unmarshaller {
     }
 
     private <T> Stream<T> streamSheet(
-        StylesTable styles, XMLReader reader, ReadOnlySharedStringsTable readOnlySharedStringsTable, Class<T> type,
-        InputStream sheetInputStream, final OPCPackage open
+        StylesTable styles, SharedStrings sharedStrings, Class<T> type,
+        InputStream sheetInputStream, final OPCPackage open, final boolean date1904, final boolean deferred
     ) {
+        final ReadMappedFields mappedFields = new ReadMappedFields(type, options, context).parseEntity();
+        if (deferred) {
+            final Stream<RowCells> rows = streamSheet(
+                styles, sharedStrings, mappedFields.deferBinding(), sheetInputStream, open, date1904
+            );
+            return mappedFields.bind(rows);
+        }
+        return streamSheet(styles, sharedStrings, mappedFields, sheetInputStream, open, date1904);
+    }
 
-        final ReadMappedFields mappedFields = new ReadMappedFields(type, options).parseEntity();
-        final XSSFStreamIterator<T> poijiHandler = new XSSFStreamIterator<>(options, mappedFields);
+    /**
+     * @param <T> type of the objects created by the mapped fields
+     */
+    private <T> Stream<T> streamSheet(
+        StylesTable styles, SharedStrings sharedStrings, ReadMappedFields mappedFields,
+        InputStream sheetInputStream, final OPCPackage open, final boolean date1904
+    ) {
+        if (options.getExecutor() != null) {
+            return streamSheetInBackground(styles, sharedStrings, mappedFields, sheetInputStream, open, date1904);
+        }
+        final Queue<T> buffer = XSSFSheetSpliterator.buffer();
+        final XSSFPoijiHandler<T> poijiHandler = new XSSFPoijiHandler<>(options, buffer::add, mappedFields);
+        final XSSFSheetReader sheetReader;
+        try {
+            sheetReader = sheetReader(styles, sharedStrings, poijiHandler, sheetInputStream, date1904);
+        } catch (SAXException e) {
+            IOUtils.closeQuietly(sheetInputStream);
+            throw new PoijiException("Problem occurred while reading data", e);
+        }
+        final Spliterator<T> spliterator = new XSSFSheetSpliterator<>(buffer, sheetReader, options.getLocale());
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            IOUtils.closeQuietly(sheetReader);
+            releasePackage(open);
+        });
+    }
 
-        new Thread(() -> {
-            LocaleUtil.setUserLocale(options.getLocale());
-            DataFormatter formatter = new DataFormatter();
-            ContentHandler contentHandler = new XSSFSheetXMLPoijiHandler(
-                styles,
-                null,
-                readOnlySharedStringsTable,
-                poijiHandler,
-                formatter,
-                false,
-                options
-            );
+    private <T> Stream<T> streamSheetInBackground(
+        StylesTable styles, SharedStrings sharedStrings, ReadMappedFields mappedFields,
+        InputStream sheetInputStream, final OPCPackage open, final boolean date1904
+    ) {
+        final XSSFStreamIterator<T> iterator = new XSSFStreamIterator<>(options);
+        final Runnable producer = iterator.<T>producer(mappedFields, item -> item, poijiHandler -> {
             try {
-                reader.setContentHandler(contentHandler);
-                reader.parse(new InputSource(sheetInputStream));
-            } catch (SAXException | IOException e) {
+                sheetReader(styles, sharedStrings, poijiHandler, sheetInputStream, date1904).readAll();
+            } finally {
                 IOUtils.closeQuietly(sheetInputStream);
-                throw new PoijiException("Problem occurred while reading data", e);
             }
-        }).start();
+        });
+        options.getExecutor().execute(producer);
 
         final Spliterator<T> spliterator =
-            Spliterators.spliteratorUnknownSize(poijiHandler, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.IMMUTABLE);
         return StreamSupport.stream(spliterator, false).onClose(() -> {
-            try {
-                open.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+            iterator.close();
+            releasePackage(open);
         });
+    }
+
+    /**
+     * @return the byte scanner if it is enabled in the options, the StAX reader otherwise, behind the reader of the
+     * columns as rows if the sheet is transposed, and ended as soon as the limit is reached
+     */
+    private XSSFSheetReader sheetReader(
+        StylesTable styles, SharedStrings sharedStrings, XSSFPoijiHandler<?> poijiHandler,
+        InputStream sheetInputStream, boolean date1904
+    ) throws SAXException {
+        final PoijiLogCellFormat cellFormat = poijiHandler.cellFormat();
+        if (options.getTransposed()) {
+            final TransposedCells cells = new TransposedCells(options.getTransposedBufferSize());
+            final XSSFSheetReader source = sheetReader0(
+                styles, sharedStrings, XSSFTransposedReader.collector(options, cells), sheetInputStream, cellFormat,
+                date1904
+            );
+            return new XSSFLimitedSheetReader(new XSSFTransposedReader(source, cells, poijiHandler), poijiHandler);
+        }
+        return new XSSFLimitedSheetReader(
+            sheetReader0(styles, sharedStrings, poijiHandler, sheetInputStream, cellFormat, date1904), poijiHandler
+        );
+    }
+
+    private XSSFSheetReader sheetReader0(
+        StylesTable styles, SharedStrings sharedStrings, XSSFPoijiHandler<?> poijiHandler,
+        InputStream sheetInputStream, PoijiLogCellFormat cellFormat, boolean date1904
+    ) throws SAXException {
+        DataFormatter formatter = new DataFormatter();
+        if (options.isSheetScanner()) {
+            return new XSSFSheetScanner(
+                sheetInputStream, styles, sharedStrings, formatter, poijiHandler, options, cellFormat, date1904
+            );
+        }
+        ContentHandler contentHandler = new XSSFSheetXMLPoijiHandler(
+            styles,
+            null,
+            sharedStrings,
+            poijiHandler,
+            formatter,
+            false,
+            options,
+            cellFormat,
+            date1904
+        );
+        try {
+            return new XSSFSheetPullReader(sheetInputStream, contentHandler);
+        } catch (XMLStreamException e) {
+            throw new SAXException(e);
+        }
+    }
 
+    static void closeSharedStrings(SharedStrings sharedStrings) {
+        if (sharedStrings instanceof Closeable) {
+            IOUtils.closeQuietly((Closeable) sharedStrings);
+        }
     }
 
     protected final void applyInEncryptedOpcPackage(Consumer<OPCPackage> process, POIFSFileSystem fileSystem) {
@@ -281,13 +574,19 @@ abstract class XSSFUnmarshaller implements Unmarshaller {
         }
     }
 
-    protected final <T> Stream<T> streamOfEncryptedItems(Class<T> type, POIFSFileSystem fs) throws IOException {
+    protected final <T> Stream<T> streamOfEncryptedItems(PackageReader<Stream<T>> reader, POIFSFileSystem fs)
+        throws IOException
+    {
         InputStream stream = DocumentFactoryHelper.getDecryptedStream(fs, options.getPassword());
 
-        try (OPCPackage open = OPCPackage.open(stream)) {
-            return stream0(type, open);
+        OPCPackage open = null;
+        try {
+            // the package is closed with the stream, as the sheet is read while the stream is consumed
+            open = OPCPackage.open(stream);
+            return reader.read(open);
 
         } catch (ParserConfigurationException | SAXException | IOException | OpenXML4JException e) {
+            IOUtils.closeQuietly(open);
             IOUtils.closeQuietly(fs);
             throw new PoijiException("Problem occurred while reading data", e);
         }
@@ -295,18 +594,50 @@ abstract class XSSFUnmarshaller implements Unmarshaller {
 
     protected abstract void openFileAndExecute(Consumer<OPCPackage> process);
 
+    /**
+     * Opens the package and passes it to the reader. The package is closed with the returned stream.
+     */
+    protected abstract <T> Stream<T> streamPackage(PackageReader<Stream<T>> reader);
+
+    /**
+     * Reads the opened package.
+     */
+    @FunctionalInterface
+    protected interface PackageReader<R> {
+
+        R read(OPCPackage open) throws ParserConfigurationException, IOException, SAXException, OpenXML4JException;
+
+    }
+
     @Override
     public List<String> readSheetNames() {
         final List<String> result = new ArrayList<>();
-        openFileAndExecute(opcPackage -> readSheetNames(opcPackage, result));
+        readSheetInfos().forEach(sheet -> result.add(sheet.getSheetName()));
+        return result;
+    }
+
+    @Override
+    public List<SheetInfo> readSheetInfos() {
+        final List<SheetInfo> result = new ArrayList<>();
+        openFileAndExecute(opcPackage -> readSheetInfos(opcPackage, result));
         return result;
     }
 
-    private void readSheetNames(OPCPackage opcPackage, List<String> result) {
+    private void readSheetInfos(OPCPackage opcPackage, List<SheetInfo> result) {
         try {
-            final XSSFWorkbook workbook = new XSSFWorkbook(opcPackage);
-            workbook.forEach(sheet -> result.add(sheet.getSheetName()));
-        } catch (IOException e) {
+            final List<WorkBookSheet> sheets = workbook(opcPackage).getSheets();
+            for (final WorkBookSheet sheet : sheets) {
+                final PackagePart sheetPart = sheetPart(opcPackage, sheet);
+                final XSSFSheetDimension dimension;
+                try (InputStream stream = sheetPart.getInputStream()) {
+                    dimension = XSSFSheetDimension.read(stream, true);
+                }
+                result.add(new SheetInfo(
+                    sheet.getName(), result.size(), sheet.getState(), sheetPart.getPartName().getName(),
+                    dimension.ref(), dimension.rowCount(), dimension.columnCount()
+                ));
+            }
+        } catch (IOException | OpenXML4JException | ParserConfigurationException | SAXException e) {
             throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
         }
     }
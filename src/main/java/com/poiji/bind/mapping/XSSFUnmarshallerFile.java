@@ -5,7 +5,6 @@ import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
 import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
-import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.xml.sax.SAXException;
 
@@ -15,7 +14,6 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.apache.poi.openxml4j.opc.PackageAccess.READ;
-import static org.apache.poi.openxml4j.opc.PackageAccess.READ_WRITE;
 
 /**
  * Created by hakan on 22/10/2017
@@ -40,15 +38,14 @@ final class XSSFUnmarshallerFile extends XSSFUnmarshaller {
     }
 
     @Override
-    public <T> Stream<T> stream(final Class<T> type) {
+    protected <T> Stream<T> streamPackage(final PackageReader<Stream<T>> reader) {
         try {
             if (options.getPassword() != null) {
                 POIFSFileSystem fs = new POIFSFileSystem(poijiFile.file(), true);
-                return streamOfEncryptedItems(type, fs);
+                return streamOfEncryptedItems(reader, fs);
             } else {
-                final PackageAccess packageAccess = options.getTransposed() ? READ_WRITE : READ;
-                OPCPackage open = OPCPackage.open(poijiFile.file(), packageAccess);
-                return stream0(type, open);
+                OPCPackage open = OPCPackage.open(poijiFile.file(), READ);
+                return reader.read(open);
             }
         } catch (ParserConfigurationException | SAXException | IOException | OpenXML4JException e) {
             throw new PoijiException("Problem occurred while reading data", e);
@@ -56,8 +53,7 @@ final class XSSFUnmarshallerFile extends XSSFUnmarshaller {
     }
 
     private void applyInOpcPackage(Consumer<OPCPackage> process) {
-        final PackageAccess packageAccess = options.getTransposed() ? READ_WRITE : READ;
-        try (OPCPackage open = OPCPackage.open(poijiFile.file(), packageAccess)) {
+        try (OPCPackage open = OPCPackage.open(poijiFile.file(), READ)) {
             process.accept(open);
         } catch (IOException | OpenXML4JException e) {
             throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
@@ -0,0 +1,80 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.bind.SheetInfo;
+import com.poiji.exception.PoijiException;
+import com.poiji.option.PoijiOptions;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reader of the package of a {@link XSSFWorkbookSession}. The package and the parts read when the session was opened
+ * are shared by all reads, so they are neither read again nor closed by a read.
+ */
+final class XSSFUnmarshallerSession extends XSSFUnmarshaller {
+
+    private final XSSFWorkbookSession session;
+
+    XSSFUnmarshallerSession(XSSFWorkbookSession session, PoijiOptions options) {
+        super(options);
+        this.session = session;
+    }
+
+    @Override
+    protected void openFileAndExecute(Consumer<OPCPackage> process) {
+        process.accept(session.opcPackage());
+    }
+
+    @Override
+    protected <T> Stream<T> streamPackage(final PackageReader<Stream<T>> reader) {
+        try {
+            return reader.read(session.opcPackage());
+        } catch (ParserConfigurationException | SAXException | IOException | OpenXML4JException e) {
+            throw new PoijiException("Problem occurred while reading data", e);
+        }
+    }
+
+    @Override
+    protected SharedStrings sharedStrings(OPCPackage open) {
+        return session.sharedStrings();
+    }
+
+    @Override
+    protected void releaseSharedStrings(SharedStrings sharedStrings) {
+        // closed with the session
+    }
+
+    @Override
+    protected StylesTable styles(OPCPackage open) {
+        return session.styles();
+    }
+
+    @Override
+    protected WorkBookContentHandler workbook(OPCPackage open) {
+        return session.workbook();
+    }
+
+    @Override
+    protected PackagePart sheetPart(OPCPackage open, WorkBookSheet sheet) {
+        return session.sheetPart(sheet);
+    }
+
+    @Override
+    protected void releasePackage(OPCPackage open) {
+        // closed with the session
+    }
+
+    @Override
+    public List<SheetInfo> readSheetInfos() {
+        return session.sheetInfos(super::readSheetInfos);
+    }
+}
@@ -26,14 +26,14 @@ final class XSSFUnmarshallerStream extends XSSFUnmarshaller {
     }
 
     @Override
-    public <T> Stream<T> stream(final Class<T> type) {
+    protected <T> Stream<T> streamPackage(final PackageReader<Stream<T>> reader) {
         try {
             if (options.getPassword() != null) {
                 POIFSFileSystem fs = new POIFSFileSystem(poijiInputStream.stream());
-                return streamOfEncryptedItems(type, fs);
+                return streamOfEncryptedItems(reader, fs);
             } else {
                 OPCPackage open = OPCPackage.open(poijiInputStream.stream());
-                return stream0(type, open);
+                return reader.read(open);
             }
         } catch (ParserConfigurationException | SAXException | IOException | OpenXML4JException e) {
             throw new PoijiException("Problem occurred while reading data", e);
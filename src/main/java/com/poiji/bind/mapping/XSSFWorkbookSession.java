@@ -0,0 +1,185 @@
+package com.poiji.bind.mapping;
+
+import com.poiji.bind.PropertyUnmarshaller;
+import com.poiji.bind.SheetInfo;
+import com.poiji.bind.Unmarshaller;
+import com.poiji.exception.PoijiException;
+import com.poiji.option.PoijiOptions;
+import org.apache.poi.ooxml.POIXMLProperties;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.poifs.filesystem.DocumentFactoryHelper;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.xmlbeans.XmlException;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.apache.poi.openxml4j.opc.PackageAccess.READ;
+
+/**
+ * Package of an excel file ending with xlsx, opened and decrypted once for any count of reads.
+ * <p>
+ * The shared strings, the styles, the sheets of the workbook and the relations to their parts are read when the
+ * session is opened, and are only read afterwards, so the reads may run at once on several threads. Each read parses
+ * only the part of its sheet.
+ */
+public final class XSSFWorkbookSession implements Closeable {
+
+    private final OPCPackage open;
+    private final SharedStrings sharedStrings;
+    private final StylesTable styles;
+    private final WorkBookContentHandler workbook;
+    private final Map<String, PackagePart> sheetParts = new HashMap<>();
+    private List<SheetInfo> sheetInfos;
+    private POIXMLProperties properties;
+    private volatile boolean closed;
+
+    private XSSFWorkbookSession(OPCPackage open, PoijiOptions options)
+        throws IOException, OpenXML4JException, ParserConfigurationException, SAXException
+    {
+        this.open = open;
+        this.styles = new XSSFReader(open).getStylesTable();
+        XSSFUnmarshaller.overrideNumberFormats(styles, options);
+        final PackagePart workbookPart = XSSFUnmarshaller.workbookPart(open);
+        this.workbook = XSSFUnmarshaller.readWorkbook(workbookPart.getInputStream(), options);
+        // the relations are loaded on first use, so they are all loaded before any read may run
+        for (final WorkBookSheet sheet : workbook.getSheets()) {
+            sheetParts.put(sheet.getRelationId(), XSSFUnmarshaller.sheetPart(workbookPart, sheet));
+        }
+        this.sharedStrings = options.getSharedStrings().create(open);
+    }
+
+    static XSSFWorkbookSession open(File file, PoijiOptions options) {
+        if (options.getPassword() != null) {
+            try (POIFSFileSystem fs = new POIFSFileSystem(file, true);
+                 InputStream stream = DocumentFactoryHelper.getDecryptedStream(fs, options.getPassword())) {
+                return open(OPCPackage.open(stream), options);
+            } catch (IOException | OpenXML4JException e) {
+                throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
+            }
+        }
+        try {
+            return open(OPCPackage.open(file, READ), options);
+        } catch (OpenXML4JException e) {
+            throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
+        }
+    }
+
+    static XSSFWorkbookSession open(InputStream inputStream, PoijiOptions options) {
+        if (options.getPassword() != null) {
+            try (POIFSFileSystem fs = new POIFSFileSystem(inputStream);
+                 InputStream stream = DocumentFactoryHelper.getDecryptedStream(fs, options.getPassword())) {
+                return open(OPCPackage.open(stream), options);
+            } catch (IOException | OpenXML4JException e) {
+                throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
+            }
+        }
+        try {
+            return open(OPCPackage.open(inputStream), options);
+        } catch (IOException | OpenXML4JException e) {
+            throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
+        }
+    }
+
+    private static XSSFWorkbookSession open(OPCPackage open, PoijiOptions options) {
+        try {
+            return new XSSFWorkbookSession(open, options);
+        } catch (IOException | OpenXML4JException | ParserConfigurationException | SAXException | RuntimeException e) {
+            IOUtils.closeQuietly(open);
+            if (e instanceof PoijiException) {
+                throw (PoijiException) e;
+            }
+            throw new PoijiException("Problem occurred while reading data: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param options options of the read. The password, the shared strings and the number formats are those of the
+     * session.
+     */
+    public Unmarshaller unmarshaller(PoijiOptions options) {
+        return new XSSFUnmarshallerSession(this, options);
+    }
+
+    public PropertyUnmarshaller propertyUnmarshaller() {
+        return new PropertyUnmarshaller() {
+            @Override
+            public <T> T unmarshal(Class<T> type) {
+                return new PropertyHandler().unmarshal(type, properties());
+            }
+        };
+    }
+
+    OPCPackage opcPackage() {
+        if (closed) {
+            throw new PoijiException("Workbook is closed");
+        }
+        return open;
+    }
+
+    SharedStrings sharedStrings() {
+        return sharedStrings;
+    }
+
+    StylesTable styles() {
+        return styles;
+    }
+
+    WorkBookContentHandler workbook() {
+        return workbook;
+    }
+
+    PackagePart sheetPart(WorkBookSheet sheet) {
+        return sheetParts.get(sheet.getRelationId());
+    }
+
+    /**
+     * @param reader reader of the sheet infos, called only by the first read
+     */
+    synchronized List<SheetInfo> sheetInfos(Supplier<List<SheetInfo>> reader) {
+        if (sheetInfos == null) {
+            sheetInfos = Collections.unmodifiableList(reader.get());
+        }
+        return new ArrayList<>(sheetInfos);
+    }
+
+    private synchronized POIXMLProperties properties() {
+        if (properties == null) {
+            try {
+                properties = new POIXMLProperties(opcPackage());
+            } catch (IOException | OpenXML4JException | XmlException e) {
+                throw new PoijiException("Problem occurred while reading data", e);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Closes the package. The streams read from the session must be closed before.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        XSSFUnmarshaller.closeSharedStrings(sharedStrings);
+        IOUtils.closeQuietly(open);
+    }
+}
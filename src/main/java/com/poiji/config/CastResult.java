@@ -0,0 +1,66 @@
+package com.poiji.config;
+
+import java.util.Queue;
+import java.util.function.Supplier;
+
+/**
+ * Result of the values cast on one thread of a read: the exception of the last value and the error log of the read.
+ * It is not shared between threads.
+ *
+ * @see com.poiji.bind.mapping.ReadContext
+ */
+public final class CastResult {
+
+    private final Queue<DefaultCastingError> errors;
+    private Exception exception;
+    private Supplier<? extends Exception> failure;
+
+    /**
+     * Creates a result whose errors are logged by the casting itself.
+     */
+    public CastResult() {
+        this(null);
+    }
+
+    /**
+     * @param errors log of the errors of the read, or null to log them by the casting itself
+     */
+    public CastResult(Queue<DefaultCastingError> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * Creates a result whose errors are logged into the log of the casting, see {@link DefaultCasting#getErrors()}.
+     */
+    public static CastResult of(Casting casting) {
+        return new CastResult(casting instanceof DefaultCasting ? ((DefaultCasting) casting).errorLog() : null);
+    }
+
+    /**
+     * @return exception of the last value cast, or null if it was cast without errors
+     */
+    public Exception getException() {
+        if (failure != null) {
+            exception = failure.get();
+            failure = null;
+        }
+        return exception;
+    }
+
+    public void setException(Exception exception) {
+        this.exception = exception;
+        this.failure = null;
+    }
+
+    /**
+     * Sets the exception of the last value cast, which is created only if it is asked for.
+     */
+    void setFailure(Supplier<? extends Exception> failure) {
+        this.exception = null;
+        this.failure = failure;
+    }
+
+    Queue<DefaultCastingError> errors() {
+        return errors;
+    }
+}
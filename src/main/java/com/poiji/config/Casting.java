@@ -12,6 +12,28 @@ public interface Casting {
 
     Object castValue(Field field, String value, int row, int column, PoijiOptions options);
 
+    /**
+     * Creates a decoder of the field values. It is called once per mapped field of a read.
+     * By default every value is cast with {@link #castValue}, and its exception is taken from {@link #getException()}
+     * on the same thread.
+     */
+    default CellDecoder decoder(Field field, PoijiOptions options) {
+        return (value, row, column, result) -> {
+            final Object decoded = castValue(field, value, row, column, options);
+            result.setException(getException());
+            return decoded;
+        };
+    }
+
+    /**
+     * Creates a decoder of raw cell values of the field, it is used only if raw cell values are enabled in the options.
+     *
+     * @return decoder or null if the field values are always cast from formatted strings
+     */
+    default RawCellDecoder rawDecoder(Field field, PoijiOptions options) {
+        return null;
+    }
+
     default Exception getException(){
         return null;
     }
@@ -0,0 +1,40 @@
+package com.poiji.config;
+
+/**
+ * Converts a cell value to the type of one field.
+ * <p>
+ * Decoders are created by {@link Casting#decoder} once per mapped field of a read, so the field type is resolved
+ * only once and not for every cell. The decoders of primitive number fields may implement {@link OfLong} or
+ * {@link OfDouble}, then the values are put into the row buffer without boxing them.
+ */
+@FunctionalInterface
+public interface CellDecoder {
+
+    /**
+     * @param result result of the values cast on the current thread, which gets the exception of the value
+     */
+    Object decode(String value, int row, int column, CastResult result);
+
+    /**
+     * Decoder of a primitive integral field: int, long, short or byte.
+     */
+    interface OfLong extends CellDecoder {
+
+        /**
+         * @return the value of {@link #decode} unboxed
+         */
+        long decodeLong(String value, int row, int column, CastResult result);
+    }
+
+    /**
+     * Decoder of a primitive floating point field: double or float.
+     */
+    interface OfDouble extends CellDecoder {
+
+        /**
+         * @return the value of {@link #decode} unboxed
+         */
+        double decodeDouble(String value, int row, int column, CastResult result);
+    }
+
+}
@@ -3,25 +3,34 @@ package com.poiji.config;
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
 import com.poiji.parser.BooleanParser;
+import com.poiji.parser.DateParser;
+import com.poiji.parser.EnumParser;
+import com.poiji.parser.LocalDateParser;
+import com.poiji.parser.LocalDateTimeParser;
 import com.poiji.parser.Parsers;
+import org.apache.poi.ss.usermodel.DateUtil;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.DoubleFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
@@ -34,9 +43,18 @@ import static java.util.stream.Collectors.toSet;
  */
 public class DefaultCasting implements Casting {
     private final boolean errorLoggingEnabled;
-    private Exception exception;
+    private final boolean customized;
 
-    private final List<DefaultCastingError> errors = new ArrayList<>();
+    /**
+     * Exception of the last value cast on the thread by {@link #castValue}. Reads get the exceptions of their values
+     * from the {@link CastResult} passed to the decoders instead.
+     */
+    private final ThreadLocal<Exception> exception = new ThreadLocal<>();
+
+    /**
+     * Errors of the values cast by {@link #castValue} and by the reads without a log of their own.
+     */
+    private final Queue<DefaultCastingError> errors = new ConcurrentLinkedQueue<>();
 
     public DefaultCasting() {
         this(false);
@@ -44,165 +62,203 @@ public class DefaultCasting implements Casting {
 
     public DefaultCasting(boolean errorLoggingEnabled) {
         this.errorLoggingEnabled = errorLoggingEnabled;
+        this.customized = isCustomized(getClass());
+    }
+
+    private static boolean isCustomized(Class<?> type) {
+        for (Class<?> c = type; c != DefaultCasting.class; c = c.getSuperclass()) {
+            if (declares(c, "castValue", Field.class, String.class, int.class, int.class, PoijiOptions.class)
+                || declares(c, "getValueObject", Field.class, int.class, int.class, PoijiOptions.class, String.class, Class.class)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private <T> T onError(String value, String sheetName, int row, int col, Exception exception, T defaultValue) {
-        logError(value, defaultValue, sheetName, row, col, exception);
+    private static boolean declares(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private <T> T onError(String value, String sheetName, int row, int col, CastResult result, Exception exception, T defaultValue) {
+        logError(value, defaultValue, sheetName, row, col, result, exception);
         return defaultValue;
     }
 
-    private void logError(String value, Object defaultValue, String sheetName, int row, int col, Exception exception) {
-        this.exception = exception;
+    /**
+     * Reports an error whose exception is created only if the error is logged or the exception is asked for.
+     */
+    private <T> T onFailure(String value, String sheetName, int row, int col, CastResult result, Supplier<? extends Exception> failure, T defaultValue) {
         if (errorLoggingEnabled) {
-            errors.add(new DefaultCastingError(value, defaultValue, sheetName, row, col, exception));
+            return onError(value, sheetName, row, col, result, failure.get(), defaultValue);
         }
+        result.setFailure(failure);
+        return defaultValue;
     }
 
-    private boolean primitiveBooleanValue(String value, String sheetName, int row, int col) {
-        try {
-            return !value.isEmpty() && Parsers.booleans().parse(value);
-        } catch (BooleanParser.BooleanParseException bpe) {
-            return onError(value, sheetName, row, col, bpe, false);
+    private void logError(String value, Object defaultValue, String sheetName, int row, int col, CastResult result, Exception exception) {
+        result.setException(exception);
+        if (errorLoggingEnabled) {
+            final Queue<DefaultCastingError> log = result.errors() != null ? result.errors() : errors;
+            log.add(new DefaultCastingError(value, defaultValue, sheetName, row, col, exception));
         }
     }
 
-    private Boolean booleanValue(String value, String sheetName, int row, int col, PoijiOptions options) {
-        try {
-            if (value.isEmpty()) {
-                return options.preferNullOverDefault() ? null : false;
-            }
-            return Parsers.booleans().parse(value);
-        } catch (BooleanParser.BooleanParseException bpe) {
-            return onError(value, sheetName, row, col, bpe, options.preferNullOverDefault() ? null : false);
+    private boolean primitiveBooleanValue(String value, String sheetName, int row, int col, CastResult result) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        final Boolean parsed = Parsers.booleans().find(value);
+        if (parsed == null) {
+            return onFailure(value, sheetName, row, col, result, () -> new BooleanParser.BooleanParseException(value), false);
+        }
+        return parsed;
+    }
+
+    private Boolean booleanValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
+        if (value.isEmpty()) {
+            return options.preferNullOverDefault() ? null : false;
+        }
+        final Boolean parsed = Parsers.booleans().find(value);
+        if (parsed == null) {
+            return onFailure(value, sheetName, row, col, result, () -> new BooleanParser.BooleanParseException(value),
+                options.preferNullOverDefault() ? null : false);
         }
+        return parsed;
     }
 
-    private Byte byteValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private Byte byteValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             if (value.isEmpty()) {
                 return options.preferNullOverDefault() ? null : (byte) 0;
             }
             return Byte.valueOf(trimDecimal(value));
         } catch (Exception e) {
-            return onError(value, sheetName, row, col, e, options.preferNullOverDefault() ? null : (byte) 0);
+            return onError(value, sheetName, row, col, result, e, options.preferNullOverDefault() ? null : (byte) 0);
         }
     }
 
-    private byte primitiveByteValue(String value, String sheetName, int row, int col) {
+    private byte primitiveByteValue(String value, String sheetName, int row, int col, CastResult result) {
         try {
             return value.isEmpty() ? (byte) 0 : Byte.parseByte(trimDecimal(value));
         } catch (Exception e) {
-            return onError(value, sheetName, row, col, e, (byte)0);
+            return onError(value, sheetName, row, col, result, e, (byte)0);
         }
     }
 
-    private Short shortValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private Short shortValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             if (value.isEmpty()) {
                 return options.preferNullOverDefault() ? null : (short) 0;
             }
             return Short.valueOf(trimDecimal(value));
         } catch (Exception e) {
-            return onError(value, sheetName, row, col, e, options.preferNullOverDefault() ? null : (short) 0);
+            return onError(value, sheetName, row, col, result, e, options.preferNullOverDefault() ? null : (short) 0);
         }
     }
 
-    private short primitiveShortValue(String value, String sheetName, int row, int col) {
+    private short primitiveShortValue(String value, String sheetName, int row, int col, CastResult result) {
         try {
             return value.isEmpty() ? (short) 0 : Short.parseShort(trimDecimal(value));
         } catch (Exception e) {
-            return onError(value, sheetName, row, col, e, (short)0);
+            return onError(value, sheetName, row, col, result, e, (short)0);
         }
     }
 
-    private int primitiveIntegerValue(String value, String sheetName, int row, int col) {
+    private int primitiveIntegerValue(String value, String sheetName, int row, int col, CastResult result) {
         try {
             return value.isEmpty() ? 0 : Parsers.integers().parse(value).intValue();
         } catch (NumberFormatException nfe) {
-            return onError(value, sheetName, row, col, nfe, 0);
+            return onError(value, sheetName, row, col, result, nfe, 0);
         }
     }
 
-    private Integer integerValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private Integer integerValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             if (value.isEmpty()) {
                 return options.preferNullOverDefault() ? null : 0;
             }
             return Parsers.integers().parse(value).intValue();
         } catch (NumberFormatException nfe) {
-            return onError(value, sheetName, row, col, nfe, options.preferNullOverDefault() ? null : 0);
+            return onError(value, sheetName, row, col, result, nfe, options.preferNullOverDefault() ? null : 0);
         }
     }
 
-    private long primitiveLongValue(String value, String sheetName, int row, int col) {
+    private long primitiveLongValue(String value, String sheetName, int row, int col, CastResult result) {
         try {
             return value.isEmpty() ? 0 : Parsers.longs().parse(value).longValue();
         } catch (NumberFormatException nfe) {
-            return onError(value, sheetName, row, col, nfe, 0L);
+            return onError(value, sheetName, row, col, result, nfe, 0L);
         }
     }
 
-    private Long longValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private Long longValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             if (value.isEmpty()) {
                 return options.preferNullOverDefault() ? null : 0L;
             }
             return Parsers.longs().parse(value).longValue();
         } catch (NumberFormatException nfe) {
-            return onError(value, sheetName, row, col, nfe, options.preferNullOverDefault() ? null : 0L);
+            return onError(value, sheetName, row, col, result, nfe, options.preferNullOverDefault() ? null : 0L);
         }
     }
 
-    private double primitiveDoubleValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private double primitiveDoubleValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             return value.isEmpty() ? 0d : Parsers.numbers(options.getLocale()).parse(value).doubleValue();
         } catch (NumberFormatException nfe) {
-            return onError(value, sheetName, row, col, nfe, 0d);
+            return onError(value, sheetName, row, col, result, nfe, 0d);
         }
     }
 
-    private Double doubleValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private Double doubleValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             if (value.isEmpty()) {
                 return options.preferNullOverDefault() ? null : 0d;
             }
             return Parsers.numbers(options.getLocale()).parse(value).doubleValue();
         } catch (NumberFormatException nfe) {
-            return onError(value, sheetName, row, col, nfe, options.preferNullOverDefault() ? null : 0d);
+            return onError(value, sheetName, row, col, result, nfe, options.preferNullOverDefault() ? null : 0d);
         }
     }
 
-    private float primitiveFloatValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private float primitiveFloatValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             return value.isEmpty() ? 0f : Parsers.numbers(options.getLocale()).parse(value).floatValue();
         } catch (NumberFormatException nfe) {
-            return onError(value, sheetName, row, col, nfe, 0f);
+            return onError(value, sheetName, row, col, result, nfe, 0f);
         }
     }
 
-    private Float floatValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private Float floatValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             if (value.isEmpty()) {
                 return options.preferNullOverDefault() ? null : 0f;
             }
             return Parsers.numbers(options.getLocale()).parse(value).floatValue();
         } catch (NumberFormatException nfe) {
-            return onError(value, sheetName, row, col, nfe, options.preferNullOverDefault() ? null : 0f);
+            return onError(value, sheetName, row, col, result, nfe, options.preferNullOverDefault() ? null : 0f);
         }
     }
 
-    private BigDecimal bigDecimalValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private BigDecimal bigDecimalValue(String value, String sheetName, int row, int col, CastResult result, PoijiOptions options) {
         try {
             if (value.isEmpty()) {
                 return options.preferNullOverDefault() ? null : BigDecimal.ZERO;
             }
             return Parsers.bigDecimals().parse(value);
         } catch (NumberFormatException | IllegalStateException e) {
-            return onError(value, sheetName, row, col, e, options.preferNullOverDefault() ? null : BigDecimal.ZERO);
+            return onError(value, sheetName, row, col, result, e, options.preferNullOverDefault() ? null : BigDecimal.ZERO);
         }
     }
 
-    private Date dateValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private Date dateValue(
+        String value, String sheetName, int row, int col, CastResult result, PoijiOptions options, Pattern dateRegex, DateParser parser
+    ) {
 
         //ISSUE #57
         //if a date regex has been specified then it wont be null
@@ -212,20 +268,20 @@ public class DefaultCasting implements Casting {
 
         //the reason for this is sometime Java will manage to parse a string to a date object
         //without any exceptions but since the string was not an exact match you get a very strange date
-        if (options.getDateRegex() != null && !value.matches(options.getDateRegex())) {
-            return options.preferNullOverDefault() ? null : Calendar.getInstance().getTime();
+        if (dateRegex != null && !dateRegex.matcher(value).matches()) {
+            return options.preferNullOverDefault() ? null : new Date();
         } else {
             try {
-                final SimpleDateFormat sdf = new SimpleDateFormat(options.datePattern());
-                sdf.setLenient(options.getDateLenient());
-                return sdf.parse(value);
+                return parser.parse(value);
             } catch (ParseException e) {
-                return onError(value, sheetName, row, col, e, options.preferNullOverDefault() ? null : Calendar.getInstance().getTime());
+                return onError(value, sheetName, row, col, result, e, options.preferNullOverDefault() ? null : new Date());
             }
         }
     }
 
-    private LocalDate localDateValue(String value, String sheetName, int row, int col, PoijiOptions options) {
+    private LocalDate localDateValue(
+        String value, String sheetName, int row, int col, CastResult result, PoijiOptions options, Pattern dateRegex, LocalDateParser parser
+    ) {
 
         //ISSUE #57
         //if a date regex has been specified then it wont be null
@@ -235,38 +291,39 @@ public class DefaultCasting implements Casting {
 
         //the reason for this is sometime java will manage to parse a string to a date object
         //without any exceptions but since the string was not an exact match you get a very strange date
-        if (options.getDateRegex() != null && !value.matches(options.getDateRegex())) {
+        if (dateRegex != null && !dateRegex.matcher(value).matches()) {
             return options.preferNullOverDefault() ? null : LocalDate.now();
         } else {
             try {
-                return LocalDate.parse(value, options.dateFormatter());
+                return parser.parse(value);
             } catch (DateTimeParseException e) {
-                return onError(value, sheetName, row, col, e, options.preferNullOverDefault() ? null : LocalDate.now());
+                return onError(value, sheetName, row, col, result, e, options.preferNullOverDefault() ? null : LocalDate.now());
             }
         }
     }
 
-    private LocalDateTime localDateTimeValue(String value, String sheetName, int row, int col, PoijiOptions options) {
-        if (options.getDateTimeRegex() != null && !value.matches(options.getDateTimeRegex())) {
+    private LocalDateTime localDateTimeValue(
+        String value, String sheetName, int row, int col, CastResult result, PoijiOptions options, Pattern dateTimeRegex,
+        LocalDateTimeParser parser
+    ) {
+        if (dateTimeRegex != null && !dateTimeRegex.matcher(value).matches()) {
             return options.preferNullOverDefault() ? null : LocalDateTime.now();
         } else {
             try {
-                return LocalDateTime.parse(value, options.dateTimeFormatter());
+                return parser.parse(value);
             } catch (DateTimeParseException e) {
-                return onError(value, sheetName, row, col, e, options.preferNullOverDefault() ? null : LocalDateTime.now());
+                return onError(value, sheetName, row, col, result, e, options.preferNullOverDefault() ? null : LocalDateTime.now());
             }
         }
     }
 
 
-    private Object enumValue(String value, String sheetName, int row, int col, Class type) {
-        return Arrays.stream(type.getEnumConstants())
-                .filter(o -> ((Enum<?>) o).name().equals(value))
-                .findFirst()
-                .orElseGet(() -> {
-                    IllegalArgumentException e = new IllegalArgumentException("No enumeration " + type.getSimpleName() + "." + value);
-                    return onError(value, sheetName, row, col, e, null);
-                });
+    private Object enumValue(String value, String sheetName, int row, int col, CastResult result, EnumParser<?> parser) {
+        final Object constant = parser.find(value);
+        if (constant == null) {
+            return onFailure(value, sheetName, row, col, result, () -> parser.unknown(value), null);
+        }
+        return constant;
     }
 
     @Override
@@ -275,87 +332,402 @@ public class DefaultCasting implements Casting {
         return getValueObject(field, row, col, options, rawValue, fieldType);
     }
 
-    protected Object getValueObject(Field field, int row, int col, PoijiOptions options, String rawValue, Class<?> fieldType) {
-        this.exception = null;
-        String sheetName = options.getSheetName();
+    /**
+     * Resolves the field type once. Subclasses which customize the casting of values are called for every cell.
+     */
+    @Override
+    public CellDecoder decoder(Field field, PoijiOptions options) {
+        if (customized) {
+            return Casting.super.decoder(field, options);
+        }
+        final CellDecoder decoder = valueDecoder(field, field.getType(), options);
+        final boolean trimCellValue = options.trimCellValue();
+        if (decoder instanceof LongDecoder) {
+            final LongDecoder longDecoder = (LongDecoder) decoder;
+            return new LongDecoder((rawValue, row, col, result) -> {
+                result.setException(null);
+                return longDecoder.decodeLong(trimCellValue ? rawValue.trim() : rawValue, row, col, result);
+            }, longDecoder.box);
+        } else if (decoder instanceof DoubleDecoder) {
+            final DoubleDecoder doubleDecoder = (DoubleDecoder) decoder;
+            return new DoubleDecoder((rawValue, row, col, result) -> {
+                result.setException(null);
+                return doubleDecoder.decodeDouble(trimCellValue ? rawValue.trim() : rawValue, row, col, result);
+            }, doubleDecoder.box);
+        }
+        return (rawValue, row, col, result) -> {
+            result.setException(null);
+            return decoder.decode(trimCellValue ? rawValue.trim() : rawValue, row, col, result);
+        };
+    }
+
+    /**
+     * Converts raw values of numeric and boolean cells to numbers, booleans and dates without parsing formatted values.
+     * Values which are not numbers are cast as formatted strings. Fractional values of integral types and values out of
+     * the range of the type are errors, the default value is set then.
+     */
+    @Override
+    public RawCellDecoder rawDecoder(Field field, PoijiOptions options) {
+        if (customized) {
+            return null;
+        }
+        final Class<?> fieldType = field.getType();
+        final CellDecoder decoder = decoder(field, options);
+        final String sheetName = options.getSheetName();
+        final boolean preferNull = !fieldType.isPrimitive() && options.preferNullOverDefault();
+        if (fieldType == int.class || fieldType == Integer.class) {
+            return rawIntegral(decoder, sheetName, Integer.MIN_VALUE, Integer.MAX_VALUE + 1d,
+                value -> (int) value, preferNull ? null : 0);
+        } else if (fieldType == long.class || fieldType == Long.class) {
+            return rawIntegral(decoder, sheetName, Long.MIN_VALUE, -(double) Long.MIN_VALUE,
+                value -> value, preferNull ? null : 0L);
+        } else if (fieldType == double.class || fieldType == Double.class) {
+            return rawFloating(decoder, sheetName, Double.POSITIVE_INFINITY, value -> value, preferNull ? null : 0d);
+        } else if (fieldType == float.class || fieldType == Float.class) {
+            return rawFloating(decoder, sheetName, Float.MAX_VALUE, value -> (float) value, preferNull ? null : 0f);
+        } else if (fieldType == short.class || fieldType == Short.class) {
+            return rawIntegral(decoder, sheetName, Short.MIN_VALUE, Short.MAX_VALUE + 1d,
+                value -> (short) value, preferNull ? null : (short) 0);
+        } else if (fieldType == byte.class || fieldType == Byte.class) {
+            return rawIntegral(decoder, sheetName, Byte.MIN_VALUE, Byte.MAX_VALUE + 1d,
+                value -> (byte) value, preferNull ? null : (byte) 0);
+        } else if (fieldType == boolean.class || fieldType == Boolean.class) {
+            return rawNumber(decoder, (value, date1904) -> value != 0);
+        } else if (fieldType == Date.class) {
+            return rawNumber(decoder, DateUtil::getJavaDate);
+        } else if (fieldType == LocalDateTime.class) {
+            return rawNumber(decoder, DateUtil::getLocalDateTime);
+        } else if (fieldType == LocalDate.class) {
+            return rawNumber(decoder, (value, date1904) -> DateUtil.getLocalDateTime(value, date1904).toLocalDate());
+        } else if (fieldType == BigDecimal.class) {
+            return (type, value, date1904, row, col, result) -> {
+                try {
+                    result.setException(null);
+                    return new BigDecimal(value);
+                } catch (NumberFormatException e) {
+                    return decoder.decode(value, row, col, result);
+                }
+            };
+        }
+        return null;
+    }
+
+    private RawCellDecoder rawNumber(CellDecoder decoder, RawNumberConverter converter) {
+        return (type, value, date1904, row, col, result) -> {
+            try {
+                result.setException(null);
+                return converter.convert(Double.parseDouble(value), date1904);
+            } catch (NumberFormatException e) {
+                return decoder.decode(value, row, col, result);
+            }
+        };
+    }
+
+    /**
+     * @param min least value of the type
+     * @param limit least value above the range of the type
+     */
+    private RawCellDecoder rawIntegral(
+        CellDecoder decoder, String sheetName, double min, double limit, LongFunction<Object> converter,
+        Object defaultValue
+    ) {
+        if (decoder instanceof CellDecoder.OfLong) {
+            final CellDecoder.OfLong longDecoder = (CellDecoder.OfLong) decoder;
+            return new RawLongDecoder((type, value, date1904, row, col, result) -> {
+                final double number;
+                try {
+                    result.setException(null);
+                    number = Double.parseDouble(value);
+                } catch (NumberFormatException e) {
+                    return longDecoder.decodeLong(value, row, col, result);
+                }
+                if (number < min || number >= limit || number != Math.rint(number)) {
+                    onError(value, sheetName, row, col, result, new NumberFormatException(value), defaultValue);
+                    return 0;
+                }
+                return (long) number;
+            }, converter);
+        }
+        return (type, value, date1904, row, col, result) -> {
+            final double number;
+            try {
+                result.setException(null);
+                number = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return decoder.decode(value, row, col, result);
+            }
+            if (number < min || number >= limit || number != Math.rint(number)) {
+                return onError(value, sheetName, row, col, result, new NumberFormatException(value), defaultValue);
+            }
+            return converter.apply((long) number);
+        };
+    }
+
+    /**
+     * @param max greatest magnitude of the type
+     */
+    private RawCellDecoder rawFloating(
+        CellDecoder decoder, String sheetName, double max, DoubleFunction<Object> converter, Object defaultValue
+    ) {
+        if (decoder instanceof CellDecoder.OfDouble) {
+            final CellDecoder.OfDouble doubleDecoder = (CellDecoder.OfDouble) decoder;
+            return new RawDoubleDecoder((type, value, date1904, row, col, result) -> {
+                final double number;
+                try {
+                    result.setException(null);
+                    number = Double.parseDouble(value);
+                } catch (NumberFormatException e) {
+                    return doubleDecoder.decodeDouble(value, row, col, result);
+                }
+                if (Math.abs(number) > max) {
+                    onError(value, sheetName, row, col, result, new NumberFormatException(value), defaultValue);
+                    return 0;
+                }
+                return number;
+            }, converter);
+        }
+        return (type, value, date1904, row, col, result) -> {
+            final double number;
+            try {
+                result.setException(null);
+                number = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return decoder.decode(value, row, col, result);
+            }
+            if (Math.abs(number) > max) {
+                return onError(value, sheetName, row, col, result, new NumberFormatException(value), defaultValue);
+            }
+            return converter.apply(number);
+        };
+    }
+
+    @FunctionalInterface
+    private interface RawNumberConverter {
+        Object convert(double value, boolean date1904);
+    }
+
+    @FunctionalInterface
+    private interface LongDecoding {
+        long decode(String value, int row, int col, CastResult result);
+    }
 
+    @FunctionalInterface
+    private interface DoubleDecoding {
+        double decode(String value, int row, int col, CastResult result);
+    }
+
+    @FunctionalInterface
+    private interface RawLongDecoding {
+        long decode(char type, String value, boolean date1904, int row, int col, CastResult result);
+    }
+
+    @FunctionalInterface
+    private interface RawDoubleDecoding {
+        double decode(char type, String value, boolean date1904, int row, int col, CastResult result);
+    }
+
+    /**
+     * Decoder of a primitive integral field, which boxes the value only for {@link #decode}.
+     */
+    private static final class LongDecoder implements CellDecoder.OfLong {
+
+        private final LongDecoding decoding;
+        private final LongFunction<Object> box;
+
+        private LongDecoder(LongDecoding decoding, LongFunction<Object> box) {
+            this.decoding = decoding;
+            this.box = box;
+        }
+
+        @Override
+        public long decodeLong(String value, int row, int column, CastResult result) {
+            return decoding.decode(value, row, column, result);
+        }
+
+        @Override
+        public Object decode(String value, int row, int column, CastResult result) {
+            return box.apply(decodeLong(value, row, column, result));
+        }
+    }
+
+    /**
+     * Decoder of a primitive floating point field, which boxes the value only for {@link #decode}.
+     */
+    private static final class DoubleDecoder implements CellDecoder.OfDouble {
+
+        private final DoubleDecoding decoding;
+        private final DoubleFunction<Object> box;
+
+        private DoubleDecoder(DoubleDecoding decoding, DoubleFunction<Object> box) {
+            this.decoding = decoding;
+            this.box = box;
+        }
+
+        @Override
+        public double decodeDouble(String value, int row, int column, CastResult result) {
+            return decoding.decode(value, row, column, result);
+        }
+
+        @Override
+        public Object decode(String value, int row, int column, CastResult result) {
+            return box.apply(decodeDouble(value, row, column, result));
+        }
+    }
+
+    private static final class RawLongDecoder implements RawCellDecoder.OfLong {
+
+        private final RawLongDecoding decoding;
+        private final LongFunction<Object> box;
+
+        private RawLongDecoder(RawLongDecoding decoding, LongFunction<Object> box) {
+            this.decoding = decoding;
+            this.box = box;
+        }
+
+        @Override
+        public long decodeLong(char type, String value, boolean date1904, int row, int column, CastResult result) {
+            return decoding.decode(type, value, date1904, row, column, result);
+        }
+
+        @Override
+        public Object decode(char type, String value, boolean date1904, int row, int column, CastResult result) {
+            return box.apply(decodeLong(type, value, date1904, row, column, result));
+        }
+    }
+
+    private static final class RawDoubleDecoder implements RawCellDecoder.OfDouble {
+
+        private final RawDoubleDecoding decoding;
+        private final DoubleFunction<Object> box;
+
+        private RawDoubleDecoder(RawDoubleDecoding decoding, DoubleFunction<Object> box) {
+            this.decoding = decoding;
+            this.box = box;
+        }
+
+        @Override
+        public double decodeDouble(char type, String value, boolean date1904, int row, int column, CastResult result) {
+            return decoding.decode(type, value, date1904, row, column, result);
+        }
+
+        @Override
+        public Object decode(char type, String value, boolean date1904, int row, int column, CastResult result) {
+            return box.apply(decodeDouble(type, value, date1904, row, column, result));
+        }
+    }
+
+    protected Object getValueObject(Field field, int row, int col, PoijiOptions options, String rawValue, Class<?> fieldType) {
+        final CastResult result = new CastResult();
         String value = options.trimCellValue() ? rawValue.trim() : rawValue;
+        final Object decoded = valueDecoder(field, fieldType, options).decode(value, row, col, result);
+        this.exception.set(result.getException());
+        return decoded;
+    }
+
+    private CellDecoder valueDecoder(Field field, Class<?> fieldType, PoijiOptions options) {
+        String sheetName = options.getSheetName();
 
         if (fieldType == int.class) {
-            return primitiveIntegerValue(value, sheetName, row, col);
+            return new LongDecoder(
+                (value, row, col, result) -> primitiveIntegerValue(value, sheetName, row, col, result),
+                value -> (int) value
+            );
 
         } else if (fieldType == Integer.class) {
-            return integerValue(trimDecimal(value), sheetName, row, col, options);
+            return (value, row, col, result) -> integerValue(trimDecimal(value), sheetName, row, col, result, options);
 
         } else if (fieldType == BigDecimal.class) {
-            return bigDecimalValue(value, sheetName, row, col, options);
+            return (value, row, col, result) -> bigDecimalValue(value, sheetName, row, col, result, options);
 
         } else if (fieldType == long.class) {
-            return primitiveLongValue(trimDecimal(value), sheetName, row, col);
+            return new LongDecoder(
+                (value, row, col, result) -> primitiveLongValue(trimDecimal(value), sheetName, row, col, result),
+                value -> value
+            );
 
         } else if (fieldType == Long.class) {
-            return longValue(trimDecimal(value), sheetName, row, col, options);
+            return (value, row, col, result) -> longValue(trimDecimal(value), sheetName, row, col, result, options);
 
         } else if (fieldType == double.class) {
-            return primitiveDoubleValue(value, sheetName, row, col, options);
+            return new DoubleDecoder(
+                (value, row, col, result) -> primitiveDoubleValue(value, sheetName, row, col, result, options),
+                value -> value
+            );
 
         } else if (fieldType == Double.class) {
-            return doubleValue(value, sheetName, row, col, options);
+            return (value, row, col, result) -> doubleValue(value, sheetName, row, col, result, options);
 
         } else if (fieldType == float.class) {
-            return primitiveFloatValue(value, sheetName, row, col, options);
+            return new DoubleDecoder(
+                (value, row, col, result) -> primitiveFloatValue(value, sheetName, row, col, result, options),
+                value -> (float) value
+            );
 
         } else if (fieldType == Float.class) {
-            return floatValue(value, sheetName, row, col, options);
+            return (value, row, col, result) -> floatValue(value, sheetName, row, col, result, options);
 
         } else if (fieldType == boolean.class) {
-            return primitiveBooleanValue(value, sheetName, row, col);
+            return (value, row, col, result) -> primitiveBooleanValue(value, sheetName, row, col, result);
 
         } else if (fieldType == Boolean.class) {
-            return booleanValue(value, sheetName, row, col, options);
+            return (value, row, col, result) -> booleanValue(value, sheetName, row, col, result, options);
 
         } else if (fieldType == byte.class) {
-            return primitiveByteValue(value, sheetName, row, col);
+            return new LongDecoder(
+                (value, row, col, result) -> primitiveByteValue(value, sheetName, row, col, result),
+                value -> (byte) value
+            );
 
         } else if (fieldType == Byte.class) {
-            return byteValue(value, sheetName, row, col, options);
+            return (value, row, col, result) -> byteValue(value, sheetName, row, col, result, options);
 
         } else if (fieldType == short.class) {
-            return primitiveShortValue(value, sheetName, row, col);
+            return new LongDecoder(
+                (value, row, col, result) -> primitiveShortValue(value, sheetName, row, col, result),
+                value -> (short) value
+            );
 
         } else if (fieldType == Short.class) {
-            return shortValue(value, sheetName, row, col, options);
+            return (value, row, col, result) -> shortValue(value, sheetName, row, col, result, options);
 
         } else if (fieldType == Date.class) {
-            return dateValue(value, sheetName, row, col, options);
+            final Pattern dateRegex = compile(options.getDateRegex());
+            final DateParser parser = Parsers.dates(options.datePattern(), options.getDateLenient());
+            return (value, row, col, result) -> dateValue(value, sheetName, row, col, result, options, dateRegex, parser);
 
         } else if (fieldType == LocalDate.class) {
-            return localDateValue(value, sheetName, row, col, options);
+            final Pattern dateRegex = compile(options.getDateRegex());
+            final LocalDateParser parser = Parsers.localDates(options.dateFormatter());
+            return (value, row, col, result) -> localDateValue(value, sheetName, row, col, result, options, dateRegex, parser);
 
         } else if (fieldType == LocalDateTime.class) {
-            return localDateTimeValue(value, sheetName, row, col, options);
+            final Pattern dateTimeRegex = compile(options.getDateTimeRegex());
+            final LocalDateTimeParser parser = Parsers.localDateTimes(options.dateTimeFormatter());
+            return (value, row, col, result) -> localDateTimeValue(value, sheetName, row, col, result, options, dateTimeRegex, parser);
 
         } else if (fieldType.isEnum()) {
-            return enumValue(value, sheetName, row, col, fieldType);
+            final EnumParser<?> parser = enumParser(fieldType);
+            return (value, row, col, result) -> enumValue(value, sheetName, row, col, result, parser);
 
         } else if (fieldType == List.class || fieldType == Collection.class) {
-            return castListValue(value, sheetName, row, col, field, options);
+            final Type elementType = elementType(field);
+            final Pattern delimiter = Pattern.compile(options.getListDelimiter());
+            return (value, row, col, result) -> castListValue(value, sheetName, row, col, result, elementType, delimiter, options);
 
         } else if (fieldType == Set.class) {
-            return castSetValue(value, sheetName, row, col, field, options);
-
-        } else if (value.isEmpty()) {
-            return options.preferNullOverDefault() ? null : value;
+            final Type elementType = elementType(field);
+            final Pattern delimiter = Pattern.compile(options.getListDelimiter());
+            return (value, row, col, result) -> castSetValue(value, sheetName, row, col, result, elementType, delimiter, options);
 
         } else {
-            return value;
+            return (value, row, col, result) -> value.isEmpty() && options.preferNullOverDefault() ? null : value;
 
         }
     }
 
     @Override
     public Exception getException() {
-        return this.exception;
+        return this.exception.get();
     }
 
     private String trimDecimal(final String string){
@@ -370,63 +742,88 @@ public class DefaultCasting implements Casting {
         }
     }
 
+    Queue<DefaultCastingError> errorLog() {
+        return errors;
+    }
+
     public boolean isErrorLoggingEnabled() {
         return errorLoggingEnabled;
     }
 
+    /**
+     * Returns an unmodifiable snapshot of the log. Unlike before, the list is not a live view: errors logged after
+     * the call, e.g. by a read still in progress on another thread, are not visible in it, so call again to see them.
+     *
+     * @return errors logged so far by {@link #castValue} and by all reads with this casting which have no
+     * {@link com.poiji.bind.mapping.ReadContext} of their own, in the order they were logged
+     */
     public List<DefaultCastingError> getErrors() {
         if (errorLoggingEnabled) {
-            return Collections.unmodifiableList(errors);
+            return Collections.unmodifiableList(new ArrayList<>(errors));
         } else {
             throw new PoijiException("logging not enabled");
         }
     }
 
-    private Object castListValue(String value, String sheetName, int row, int col, Field field, PoijiOptions options) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumParser<?> enumParser(Class<?> type) {
+        return Parsers.enums((Class) type);
+    }
+
+    private static Pattern compile(String regex) {
+        return regex == null ? null : Pattern.compile(regex);
+    }
+
+    private static Type elementType(Field field) {
+        final ParameterizedType genericType = (ParameterizedType) field.getGenericType();
+        return genericType.getActualTypeArguments()[0];
+    }
+
+    private Object castListValue(
+        String value, String sheetName, int row, int col, CastResult result, Type fieldType, Pattern delimiter, PoijiOptions options
+    ) {
         if (value.isEmpty()) {
             return options.preferNullOverDefault() ? null : emptyList();
         }
-        final ParameterizedType genericType = (ParameterizedType) field.getGenericType();
-        final Type fieldType = genericType.getActualTypeArguments()[0];
-        final String[] valueList = value.split(options.getListDelimiter());
+        final String[] valueList = delimiter.split(value);
 
         if (fieldType == Integer.class) {
-            return Stream.of(valueList).map(rv -> primitiveIntegerValue(rv, sheetName, row, col)).collect(toList());
+            return Stream.of(valueList).map(rv -> primitiveIntegerValue(rv, sheetName, row, col, result)).collect(toList());
         } else if (fieldType == BigDecimal.class) {
-            return Stream.of(valueList).map(rv -> bigDecimalValue(rv, sheetName, row, col, options)).collect(toList());
+            return Stream.of(valueList).map(rv -> bigDecimalValue(rv, sheetName, row, col, result, options)).collect(toList());
         } else if (fieldType == Long.class) {
-            return Stream.of(valueList).map(rv -> longValue(rv, sheetName, row, col, options)).collect(toList());
+            return Stream.of(valueList).map(rv -> longValue(rv, sheetName, row, col, result, options)).collect(toList());
         } else if (fieldType == Double.class) {
-            return Stream.of(valueList).map(rv -> doubleValue(rv, sheetName, row, col, options)).collect(toList());
+            return Stream.of(valueList).map(rv -> doubleValue(rv, sheetName, row, col, result, options)).collect(toList());
         } else if (fieldType == Boolean.class) {
-            return Stream.of(valueList).map(rv -> booleanValue(rv, sheetName, row, col, options)).collect(toList());
+            return Stream.of(valueList).map(rv -> booleanValue(rv, sheetName, row, col, result, options)).collect(toList());
         } else if (fieldType == Float.class) {
-            return Stream.of(valueList).map(rv -> floatValue(rv, sheetName, row, col, options)).collect(toList());
+            return Stream.of(valueList).map(rv -> floatValue(rv, sheetName, row, col, result, options)).collect(toList());
         } else {
             return Arrays.asList(valueList);
         }
     }
 
-    private Object castSetValue(String value, String sheetName, int row, int col, Field field, PoijiOptions options) {
+    private Object castSetValue(
+        String value, String sheetName, int row, int col, CastResult result, Type fieldType, Pattern delimiter, PoijiOptions options
+    ) {
         if (value.isEmpty()) {
             return options.preferNullOverDefault() ? null : emptySet();
         }
-        final ParameterizedType genericType = (ParameterizedType) field.getGenericType();
-        final Type fieldType = genericType.getActualTypeArguments()[0];
-        final String[] valueList = value.split(options.getListDelimiter());
+        final String[] valueList = delimiter.split(value);
 
         if (fieldType == Integer.class) {
-            return Stream.of(valueList).map(rv -> primitiveIntegerValue(rv, sheetName, row, col)).collect(toSet());
+            return Stream.of(valueList).map(rv -> primitiveIntegerValue(rv, sheetName, row, col, result)).collect(toSet());
         } else if (fieldType == BigDecimal.class) {
-            return Stream.of(valueList).map(rv -> bigDecimalValue(rv, sheetName, row, col, options)).collect(toSet());
+            return Stream.of(valueList).map(rv -> bigDecimalValue(rv, sheetName, row, col, result, options)).collect(toSet());
         } else if (fieldType == Long.class) {
-            return Stream.of(valueList).map(rv -> longValue(rv, sheetName, row, col, options)).collect(toSet());
+            return Stream.of(valueList).map(rv -> longValue(rv, sheetName, row, col, result, options)).collect(toSet());
         } else if (fieldType == Double.class) {
-            return Stream.of(valueList).map(rv -> doubleValue(rv, sheetName, row, col, options)).collect(toSet());
+            return Stream.of(valueList).map(rv -> doubleValue(rv, sheetName, row, col, result, options)).collect(toSet());
         } else if (fieldType == Boolean.class) {
-            return Stream.of(valueList).map(rv -> booleanValue(rv, sheetName, row, col, options)).collect(toSet());
+            return Stream.of(valueList).map(rv -> booleanValue(rv, sheetName, row, col, result, options)).collect(toSet());
         } else if (fieldType == Float.class) {
-            return Stream.of(valueList).map(rv -> floatValue(rv, sheetName, row, col, options)).collect(toSet());
+            return Stream.of(valueList).map(rv -> floatValue(rv, sheetName, row, col, result, options)).collect(toSet());
         } else {
             return new HashSet<>(Arrays.asList(valueList));
         }
@@ -0,0 +1,42 @@
+package com.poiji.config;
+
+/**
+ * Converts a raw value of a numeric or boolean xlsx cell to the type of one field. The decoders of primitive number
+ * fields may implement {@link OfLong} or {@link OfDouble}, same as {@link CellDecoder}.
+ *
+ * @see com.poiji.option.PoijiOptions.PoijiOptionsBuilder#rawCellValues(boolean)
+ */
+@FunctionalInterface
+public interface RawCellDecoder {
+
+    /**
+     * @param type     'n' for numeric cells and 'b' for boolean cells
+     * @param value    content of the v element of the cell, not empty
+     * @param date1904 true if the workbook uses the 1904 date system
+     * @param result   result of the values cast on the current thread, which gets the exception of the value
+     */
+    Object decode(char type, String value, boolean date1904, int row, int column, CastResult result);
+
+    /**
+     * Decoder of a primitive integral field: int, long, short or byte.
+     */
+    interface OfLong extends RawCellDecoder {
+
+        /**
+         * @return the value of {@link #decode} unboxed
+         */
+        long decodeLong(char type, String value, boolean date1904, int row, int column, CastResult result);
+    }
+
+    /**
+     * Decoder of a primitive floating point field: double or float.
+     */
+    interface OfDouble extends RawCellDecoder {
+
+        /**
+         * @return the value of {@link #decode} unboxed
+         */
+        double decodeDouble(char type, String value, boolean date1904, int row, int column, CastResult result);
+    }
+
+}
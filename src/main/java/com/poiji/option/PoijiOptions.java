@@ -3,6 +3,7 @@ package com.poiji.option;
 import com.poiji.annotation.ExcelCellName;
 import com.poiji.bind.mapping.PoijiLogCellFormat;
 import com.poiji.bind.mapping.PoijiNumberFormat;
+import com.poiji.bind.mapping.PoijiSharedStrings;
 import com.poiji.config.Casting;
 import com.poiji.config.DefaultCasting;
 import com.poiji.config.DefaultFormatting;
@@ -12,6 +13,7 @@ import com.poiji.save.ToCellCasting;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import org.apache.poi.util.LocaleUtil;
 
 import static com.poiji.util.PoijiConstants.DEFAULT_DATE_FORMATTER;
@@ -50,8 +52,14 @@ public final class PoijiOptions {
     private PoijiLogCellFormat poijiLogCellFormat;
     private PoijiNumberFormat numberFormat = StylesFormat.loadDefaultStyles();
     private boolean disableXLSXNumberCellFormat;
+    private boolean rawCellValues;
+    private boolean sheetScanner;
+    private boolean xlsEventReader;
+    private PoijiSharedStrings sharedStrings;
+    private Executor executor;
     private char csvDelimiter;
     private boolean transposed;
+    private int transposedBufferSize;
     private String charset;
     private String listDelimiter;
     private Formatting formatting;
@@ -102,6 +110,15 @@ public final class PoijiOptions {
         return this;
     }
 
+    public int getTransposedBufferSize() {
+        return transposedBufferSize;
+    }
+
+    private PoijiOptions setTransposedBufferSize(final int transposedBufferSize) {
+        this.transposedBufferSize = transposedBufferSize;
+        return this;
+    }
+
     public char getCsvDelimiter() {
         return csvDelimiter;
     }
@@ -120,6 +137,55 @@ public final class PoijiOptions {
         return disableXLSXNumberCellFormat;
     }
 
+    private PoijiOptions setRawCellValues(boolean rawCellValues) {
+        this.rawCellValues = rawCellValues;
+        return this;
+    }
+
+    public boolean isRawCellValues() {
+        return rawCellValues;
+    }
+
+    private PoijiOptions setSheetScanner(boolean sheetScanner) {
+        this.sheetScanner = sheetScanner;
+        return this;
+    }
+
+    public boolean isSheetScanner() {
+        return sheetScanner;
+    }
+
+    private PoijiOptions setXlsEventReader(boolean xlsEventReader) {
+        this.xlsEventReader = xlsEventReader;
+        return this;
+    }
+
+    public boolean isXlsEventReader() {
+        return xlsEventReader;
+    }
+
+    private PoijiOptions setSharedStrings(PoijiSharedStrings sharedStrings) {
+        this.sharedStrings = sharedStrings;
+        return this;
+    }
+
+    public PoijiSharedStrings getSharedStrings() {
+        return sharedStrings;
+    }
+
+    private PoijiOptions setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @return executor of the parse behind a stream of an excel file ending with xlsx, null if the sheet is read
+     * by the thread consuming the stream
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
     public PoijiNumberFormat getPoijiNumberFormat() {
         return numberFormat;
     }
@@ -374,6 +440,11 @@ public final class PoijiOptions {
         private PoijiLogCellFormat cellFormat;
         private PoijiNumberFormat numberFormat;
         private boolean disabledXLSXNumberCellFormat;
+        private boolean rawCellValues;
+        private boolean sheetScanner;
+        private boolean xlsEventReader;
+        private PoijiSharedStrings sharedStrings = PoijiSharedStrings.inMemory();
+        private Executor executor;
         private int headerStart = 0;
         private int headerCount = 1;
         private int skip = 0;
@@ -383,6 +454,7 @@ public final class PoijiOptions {
         private boolean ignoreWhitespaces;
         private boolean namedHeaderMandatory;
         private boolean transposed;
+        private int transposedBufferSize = 1 << 25;
         private String charset = "UTF-8";
         private char csvDelimiter = ',';
         private String listDelimiter = ",";
@@ -433,6 +505,21 @@ public final class PoijiOptions {
             return this;
         }
 
+        /**
+         * Bytes of cell values kept on heap while a transposed sheet of an excel file ending with xlsx is read, or
+         * while a transposed sheet of an excel file is written, the rest is spilled to a temp file. Default - 32 MB.
+         *
+         * @param transposedBufferSize number of bytes
+         * @return this
+         */
+        public PoijiOptionsBuilder transposedBufferSize(final int transposedBufferSize) {
+            if (transposedBufferSize < 1) {
+                throw new PoijiException("Transposed buffer size must be greater than 0");
+            }
+            this.transposedBufferSize = transposedBufferSize;
+            return this;
+        }
+
         /**
          * Disable the cell format of all the number cells of an excel file ending with xlsx
          *
@@ -443,6 +530,78 @@ public final class PoijiOptions {
             return this;
         }
 
+        /**
+         * Pass raw values of numeric and boolean cells of an excel file ending with xlsx straight to the number,
+         * boolean and date fields, without formatting them to strings and parsing them back.
+         * Dates are converted from the excel serial number with the date system of the workbook.
+         * Default - false.
+         *
+         * @param rawCellValues true or false
+         * @return this
+         */
+        public PoijiOptionsBuilder rawCellValues(boolean rawCellValues) {
+            this.rawCellValues = rawCellValues;
+            return this;
+        }
+
+        /**
+         * Read the sheets of an excel file ending with xlsx with a scanner working on the bytes of the sheet,
+         * instead of an XML parser. Only the cells are read, so it is much faster on huge sheets.
+         * Default - false.
+         *
+         * @param sheetScanner true or false
+         * @return this
+         */
+        public PoijiOptionsBuilder sheetScanner(boolean sheetScanner) {
+            this.sheetScanner = sheetScanner;
+            return this;
+        }
+
+        /**
+         * Read the sheet of an excel file ending with xls from the record stream of the workbook, instead of
+         * loading the whole workbook. The rows are read only as far as they are consumed, and formula cells give
+         * the results cached in the file. Transposed sheets are still read from the loaded workbook.
+         * Default - false.
+         *
+         * @param xlsEventReader true or false
+         * @return this
+         */
+        public PoijiOptionsBuilder xlsEventReader(boolean xlsEventReader) {
+            this.xlsEventReader = xlsEventReader;
+            return this;
+        }
+
+        /**
+         * Use a custom store of the shared strings of an excel file ending with xlsx.
+         * Default - {@link PoijiSharedStrings#inMemory()}, {@link PoijiSharedStrings#tempFile(int)} keeps huge
+         * tables off the heap.
+         *
+         * @param sharedStrings shared strings store
+         * @return this
+         */
+        public PoijiOptionsBuilder withSharedStrings(PoijiSharedStrings sharedStrings) {
+            Objects.requireNonNull(sharedStrings);
+
+            this.sharedStrings = sharedStrings;
+            return this;
+        }
+
+        /**
+         * Parse the sheet behind a stream of an excel file ending with xlsx on the given executor, ahead of the
+         * thread consuming the stream. Default - the sheet is read row by row by the thread consuming the stream.
+         * The sheets of {@link com.poiji.bind.Unmarshaller#streamSheets} are read at once on it too, otherwise they are
+         * read one after another by the thread consuming the stream.
+         *
+         * @param executor executor of the parse
+         * @return this
+         */
+        public PoijiOptionsBuilder withExecutor(Executor executor) {
+            Objects.requireNonNull(executor);
+
+            this.executor = executor;
+            return this;
+        }
+
         /**
          * Skip a number of rows after the header row. The header row is not counted.
          *
@@ -573,7 +732,13 @@ public final class PoijiOptions {
                 .setCsvDelimiter(csvDelimiter)
                 .setListDelimiter(listDelimiter)
                 .disableXLSXNumberCellFormat(disabledXLSXNumberCellFormat)
+                .setRawCellValues(rawCellValues)
+                .setSheetScanner(sheetScanner)
+                .setXlsEventReader(xlsEventReader)
+                .setSharedStrings(sharedStrings)
+                .setExecutor(executor)
                 .setTransposed(transposed)
+                .setTransposedBufferSize(transposedBufferSize)
                 .setCharset(charset)
                 .setFormatting(formatting)
                 .setLocale(locale)
@@ -1,31 +1,50 @@
 package com.poiji.parser;
 
+/**
+ * Parses {@code true} and {@code false} of any case, and {@code 1} and {@code 0}, around white space.
+ */
 public class BooleanParser implements Parser<Boolean> {
 
     @Override
     public Boolean parse(String value) {
-        if ("true".equalsIgnoreCase(value.trim())) {
-            return true;
+        final Boolean parsed = find(value);
+        if (parsed == null) {
+            throw new BooleanParseException(value);
         }
+        return parsed;
+    }
 
-        if ("false".equalsIgnoreCase(value.trim())) {
-            return false;
+    /**
+     * Looks the value up by its length without trimming or copying it.
+     *
+     * @return the boolean of the value, or null if the value is not a boolean
+     */
+    public Boolean find(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
         }
-
-        /* LibreOffice compatibility:
-         *
-         * LibreOffice booleans are stored as formula =TRUE() or =FALSE() which is parsed by POI to 1 or 0.
-         */
-        if ("1".equals(value.trim())) {
-            return true;
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
         }
-
-        if ("0".equals(value.trim())) {
-            return false;
+        switch (end - start) {
+            case 1:
+                /* LibreOffice compatibility:
+                 *
+                 * LibreOffice booleans are stored as formula =TRUE() or =FALSE() which is parsed by POI to 1 or 0.
+                 */
+                final char digit = value.charAt(start);
+                return digit == '1' ? Boolean.TRUE : digit == '0' ? Boolean.FALSE : null;
+            case 4:
+                return value.regionMatches(true, start, "true", 0, 4) ? Boolean.TRUE : null;
+            case 5:
+                return value.regionMatches(true, start, "false", 0, 5) ? Boolean.FALSE : null;
+            default:
+                return null;
         }
-
-        throw new BooleanParseException(value);
     }
+
     @SuppressWarnings("serial")
     public static class BooleanParseException extends RuntimeException {
         public BooleanParseException(String value) {
@@ -0,0 +1,67 @@
+package com.poiji.parser;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Parser of dates by a pattern of {@link SimpleDateFormat}. The pattern is compiled once, and every thread parses with
+ * its own copy of the format, so the parser may be shared by threads.
+ */
+public final class DateParser {
+
+    private static final int FIRST_YEAR_OF_ZONE_RULES = 1900;
+
+    private final ThreadLocal<SimpleDateFormat> formats;
+    private final DateShape shape;
+    private final TimeZone timeZone;
+    private final ZoneId zone;
+
+    DateParser(final String pattern, final boolean lenient) {
+        final SimpleDateFormat format = new SimpleDateFormat(pattern);
+        format.setLenient(lenient);
+        this.formats = ThreadLocal.withInitial(() -> (SimpleDateFormat) format.clone());
+        this.timeZone = format.getTimeZone();
+        ZoneId zoneId;
+        try {
+            zoneId = timeZone.toZoneId();
+        } catch (DateTimeException e) {
+            zoneId = null;
+        }
+        this.zone = zoneId;
+        this.shape = zone == null ? null : DateShape.of(format);
+    }
+
+    public Date parse(final String value) throws ParseException {
+        if (shape != null) {
+            final LocalDateTime dateTime = shape.parse(value);
+            if (dateTime != null && dateTime.getYear() >= FIRST_YEAR_OF_ZONE_RULES) {
+                final Date date = toDate(dateTime);
+                if (date != null) {
+                    return date;
+                }
+            }
+        }
+        return formats.get().parse(value);
+    }
+
+    /**
+     * @return date of the local date and time in the time zone of the format, or null if the time is in a gap or an
+     * overlap of the zone, or the zone has another offset than the time zone
+     */
+    private Date toDate(final LocalDateTime dateTime) {
+        final List<ZoneOffset> offsets = zone.getRules().getValidOffsets(dateTime);
+        if (offsets.size() != 1) {
+            return null;
+        }
+        final ZoneOffset offset = offsets.get(0);
+        final long millis = dateTime.toInstant(offset).toEpochMilli();
+        return timeZone.getOffset(millis) == offset.getTotalSeconds() * 1000 ? new Date(millis) : null;
+    }
+}
@@ -0,0 +1,182 @@
+package com.poiji.parser;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.time.format.ResolverStyle;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Common shape of dates, like 31/12/2020 or 2020-12-31, optionally followed by a time like 23:59:59, which is parsed
+ * without a formatter.
+ * <p>
+ * Only valid dates of exactly the shape are parsed, as the formatter of the shape would parse them. Any other value is
+ * left to the formatter, so it is parsed or rejected the same way as without the shape.
+ */
+final class DateShape {
+
+    private static final int ONE_OR_TWO = 0;
+    private static final int TWO = 2;
+    private static final char NO_TIME = 0;
+
+    private static final Map<String, DateShape> FORMATS = new HashMap<>();
+    private static final Map<String, DateShape> FORMATTERS = new HashMap<>();
+    private static final Map<String, DateShape> ISO_FORMATTERS = new HashMap<>();
+
+    static {
+        for (final String day : new String[]{"d", "dd"}) {
+            for (final String month : new String[]{"M", "MM"}) {
+                final String pattern = day + '/' + month + "/yyyy";
+                final int dayDigits = day.length() == 2 ? TWO : ONE_OR_TWO;
+                final int monthDigits = month.length() == 2 ? TWO : ONE_OR_TWO;
+                // a simple date format parses any count of digits of a number between separators
+                FORMATS.put(pattern, new DateShape(false, '/', ONE_OR_TWO, ONE_OR_TWO, NO_TIME));
+                FORMATS.put(pattern + " HH:mm:ss", new DateShape(false, '/', ONE_OR_TWO, ONE_OR_TWO, ' '));
+                FORMATTERS.put(formatter(pattern), new DateShape(false, '/', dayDigits, monthDigits, NO_TIME));
+                FORMATTERS.put(formatter(pattern + " HH:mm:ss"), new DateShape(false, '/', dayDigits, monthDigits, ' '));
+            }
+        }
+        FORMATS.put("yyyy-MM-dd", new DateShape(true, '-', ONE_OR_TWO, ONE_OR_TWO, NO_TIME));
+        FORMATS.put("yyyy-MM-dd HH:mm:ss", new DateShape(true, '-', ONE_OR_TWO, ONE_OR_TWO, ' '));
+        FORMATS.put("yyyy-MM-dd'T'HH:mm:ss", new DateShape(true, '-', ONE_OR_TWO, ONE_OR_TWO, 'T'));
+        FORMATTERS.put(formatter("yyyy-MM-dd"), new DateShape(true, '-', TWO, TWO, NO_TIME));
+        FORMATTERS.put(formatter("yyyy-MM-dd HH:mm:ss"), new DateShape(true, '-', TWO, TWO, ' '));
+        ISO_FORMATTERS.put(DateTimeFormatter.ISO_LOCAL_DATE.toString(), new DateShape(true, '-', TWO, TWO, NO_TIME));
+        ISO_FORMATTERS.put(DateTimeFormatter.ISO_LOCAL_DATE_TIME.toString(), new DateShape(true, '-', TWO, TWO, 'T'));
+    }
+
+    private final boolean yearFirst;
+    private final char dateSeparator;
+    private final int dayDigits;
+    private final int monthDigits;
+    private final char timeSeparator;
+
+    private DateShape(
+        final boolean yearFirst, final char dateSeparator, final int dayDigits, final int monthDigits,
+        final char timeSeparator
+    ) {
+        this.yearFirst = yearFirst;
+        this.dateSeparator = dateSeparator;
+        this.dayDigits = dayDigits;
+        this.monthDigits = monthDigits;
+        this.timeSeparator = timeSeparator;
+    }
+
+    private static String formatter(final String pattern) {
+        return DateTimeFormatter.ofPattern(pattern).toString();
+    }
+
+    /**
+     * @return shape of the pattern of the format, or null if it has none
+     */
+    static DateShape of(final SimpleDateFormat format) {
+        if (!"gregory".equals(format.getCalendar().getCalendarType())) {
+            return null;
+        }
+        return FORMATS.get(format.toPattern());
+    }
+
+    /**
+     * @return shape of the formatter, or null if it has none
+     */
+    static DateShape of(final DateTimeFormatter formatter) {
+        if (formatter.getZone() != null
+            || formatter.getResolverFields() != null
+            || !DecimalStyle.STANDARD.equals(formatter.getDecimalStyle())
+            || formatter.getChronology() != null && formatter.getChronology() != IsoChronology.INSTANCE) {
+            return null;
+        }
+        final String description = formatter.toString();
+        final DateShape iso = ISO_FORMATTERS.get(description);
+        if (iso != null) {
+            return iso;
+        }
+        // the year of era of the patterns is not resolved strictly without an era
+        return formatter.getResolverStyle() == ResolverStyle.STRICT ? null : FORMATTERS.get(description);
+    }
+
+    boolean hasTime() {
+        return timeSeparator != NO_TIME;
+    }
+
+    /**
+     * @return date and time of the value, at midnight if the shape has no time, or null if the value is not a valid
+     * date of the shape
+     */
+    LocalDateTime parse(final String value) {
+        final int length = value.length();
+        final int timeStart = hasTime() ? value.indexOf(timeSeparator) : length;
+        if (timeStart < 0) {
+            return null;
+        }
+        final int firstSeparator = value.indexOf(dateSeparator);
+        if (firstSeparator < 0 || firstSeparator >= timeStart) {
+            return null;
+        }
+        final int secondSeparator = value.indexOf(dateSeparator, firstSeparator + 1);
+        if (secondSeparator < 0 || secondSeparator >= timeStart) {
+            return null;
+        }
+        final int year;
+        final int month = number(value, firstSeparator + 1, secondSeparator);
+        final int day;
+        final int yearLength;
+        final int dayLength;
+        if (yearFirst) {
+            year = number(value, 0, firstSeparator);
+            yearLength = firstSeparator;
+            day = number(value, secondSeparator + 1, timeStart);
+            dayLength = timeStart - secondSeparator - 1;
+        } else {
+            day = number(value, 0, firstSeparator);
+            dayLength = firstSeparator;
+            year = number(value, secondSeparator + 1, timeStart);
+            yearLength = timeStart - secondSeparator - 1;
+        }
+        if (yearLength != 4 || year < 1
+            || !hasDigits(secondSeparator - firstSeparator - 1, monthDigits) || month < 1 || month > 12
+            || !hasDigits(dayLength, dayDigits) || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        if (!hasTime()) {
+            return LocalDateTime.of(year, month, day, 0, 0);
+        }
+        if (length != timeStart + 9 || value.charAt(timeStart + 3) != ':' || value.charAt(timeStart + 6) != ':') {
+            return null;
+        }
+        final int hour = number(value, timeStart + 1, timeStart + 3);
+        final int minute = number(value, timeStart + 4, timeStart + 6);
+        final int seconds = number(value, timeStart + 7, length);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || seconds < 0 || seconds > 59) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, seconds);
+    }
+
+    private static boolean hasDigits(final int length, final int digits) {
+        return digits == TWO ? length == 2 : length == 1 || length == 2;
+    }
+
+    /**
+     * @return number of the ascii digits between the indexes, or -1 if there are none or there is another character
+     */
+    private static int number(final String value, final int from, final int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+}
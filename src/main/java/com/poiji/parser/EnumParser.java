@@ -0,0 +1,97 @@
+package com.poiji.parser;
+
+import com.poiji.annotation.ExcelEnum;
+import com.poiji.annotation.ExcelEnumAlias;
+import com.poiji.exception.PoijiException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses names and aliases of the constants of an enum with lookup tables built once.
+ * <p>
+ * Values are looked up as they are first. Only values of other case are looked up again when the enum ignores case,
+ * by their case folded form.
+ *
+ * @see ExcelEnum
+ * @see ExcelEnumAlias
+ */
+public class EnumParser<E extends Enum<E>> implements Parser<E> {
+
+    private final Class<E> type;
+    private final Map<String, E> constants = new HashMap<>();
+    private final Map<String, E> ignoringCase;
+
+    EnumParser(Class<E> type) {
+        this.type = type;
+        final ExcelEnum excelEnum = type.getAnnotation(ExcelEnum.class);
+        this.ignoringCase = excelEnum != null && excelEnum.ignoreCase() ? new HashMap<>() : null;
+        for (final E constant : type.getEnumConstants()) {
+            put(constants, constant.name(), constant);
+            final ExcelEnumAlias aliases = alias(constant);
+            if (aliases != null) {
+                for (final String alias : aliases.value()) {
+                    put(constants, alias, constant);
+                }
+            }
+        }
+        if (ignoringCase != null) {
+            constants.forEach((value, constant) -> put(ignoringCase, fold(value), constant));
+        }
+    }
+
+    private ExcelEnumAlias alias(E constant) {
+        try {
+            return type.getField(constant.name()).getAnnotation(ExcelEnumAlias.class);
+        } catch (NoSuchFieldException e) {
+            throw new PoijiException("Problem occurred while reading constant " + constant.name(), e);
+        }
+    }
+
+    private void put(Map<String, E> map, String value, E constant) {
+        final E previous = map.put(value, constant);
+        if (previous != null && previous != constant) {
+            throw new PoijiException(
+                "Value '" + value + "' is ambiguous between " + previous.name() + " and " + constant.name()
+                    + " of enumeration " + type.getSimpleName());
+        }
+    }
+
+    /**
+     * Folds the case of the value the same way as {@link String#CASE_INSENSITIVE_ORDER} compares it.
+     */
+    private static String fold(String value) {
+        final char[] chars = new char[value.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public E parse(String value) {
+        final E constant = find(value);
+        if (constant == null) {
+            throw unknown(value);
+        }
+        return constant;
+    }
+
+    /**
+     * @return the constant of the value, or null if the value is not a name or an alias of a constant
+     */
+    public E find(String value) {
+        final E constant = constants.get(value);
+        if (constant != null || ignoringCase == null) {
+            return constant;
+        }
+        return ignoringCase.get(fold(value));
+    }
+
+    /**
+     * @return exception of a value which is not a name or an alias of a constant
+     */
+    public IllegalArgumentException unknown(String value) {
+        return new IllegalArgumentException("No enumeration " + type.getSimpleName() + "." + value);
+    }
+}
@@ -0,0 +1,30 @@
+package com.poiji.parser;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Parser of local dates by a formatter, which parses the common shapes of dates without the formatter.
+ */
+public final class LocalDateParser implements Parser<LocalDate> {
+
+    private final DateTimeFormatter formatter;
+    private final DateShape shape;
+
+    LocalDateParser(final DateTimeFormatter formatter) {
+        this.formatter = formatter;
+        this.shape = DateShape.of(formatter);
+    }
+
+    @Override
+    public LocalDate parse(final String value) {
+        if (shape != null) {
+            final LocalDateTime dateTime = shape.parse(value);
+            if (dateTime != null) {
+                return dateTime.toLocalDate();
+            }
+        }
+        return LocalDate.parse(value, formatter);
+    }
+}
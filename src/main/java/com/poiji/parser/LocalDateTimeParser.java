@@ -0,0 +1,30 @@
+package com.poiji.parser;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Parser of local date times by a formatter, which parses the common shapes of date times without the formatter.
+ */
+public final class LocalDateTimeParser implements Parser<LocalDateTime> {
+
+    private final DateTimeFormatter formatter;
+    private final DateShape shape;
+
+    LocalDateTimeParser(final DateTimeFormatter formatter) {
+        this.formatter = formatter;
+        final DateShape dateShape = DateShape.of(formatter);
+        this.shape = dateShape != null && dateShape.hasTime() ? dateShape : null;
+    }
+
+    @Override
+    public LocalDateTime parse(final String value) {
+        if (shape != null) {
+            final LocalDateTime dateTime = shape.parse(value);
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        return LocalDateTime.parse(value, formatter);
+    }
+}
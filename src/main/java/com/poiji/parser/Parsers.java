@@ -1,6 +1,7 @@
 package com.poiji.parser;
 
 import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
 /**
@@ -8,6 +9,16 @@ import java.util.Locale;
  */
 public class Parsers {
 
+    private static final BooleanParser BOOLEANS = new BooleanParser();
+
+    private static final ClassValue<EnumParser<?>> ENUMS = new ClassValue<EnumParser<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumParser<?> computeValue(Class<?> type) {
+            return new EnumParser(type);
+        }
+    };
+
     private Parsers() {
         // static factory
     }
@@ -31,6 +42,26 @@ public class Parsers {
     }
 
     public static BooleanParser booleans() {
-        return new BooleanParser();
+        return BOOLEANS;
+    }
+
+    /**
+     * @return parser of the enum, built once for each enum
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumParser<E> enums(Class<E> type) {
+        return (EnumParser<E>) ENUMS.get(type);
+    }
+
+    public static DateParser dates(String pattern, boolean lenient) {
+        return new DateParser(pattern, lenient);
+    }
+
+    public static LocalDateParser localDates(DateTimeFormatter formatter) {
+        return new LocalDateParser(formatter);
+    }
+
+    public static LocalDateTimeParser localDateTimes(DateTimeFormatter formatter) {
+        return new LocalDateTimeParser(formatter);
     }
 }
@@ -6,7 +6,9 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
@@ -26,6 +28,10 @@ public abstract class AbstractWorkbookSaver {
     }
 
     protected <T> void save(final Stream<T> data, final Workbook workbook, final OutputStream outputStream) {
+        if (options.getTransposed()) {
+            saveTransposed(data.sequential().iterator(), false, workbook, outputStream);
+            return;
+        }
         try {
             final Sheet sheet = prepareSheet(workbook);
 
@@ -45,6 +51,11 @@ public abstract class AbstractWorkbookSaver {
     }
 
     protected <T> void save(final Collection<T> data, final Workbook workbook, final OutputStream outputStream) {
+        if (options.getTransposed()) {
+            mappedFields.addUnknownColumnNamesFromData(data);
+            saveTransposed(data.iterator(), true, workbook, outputStream);
+            return;
+        }
         try {
             mappedFields.addUnknownColumnNamesFromData(data);
             final Sheet sheet = prepareSheet(workbook);
@@ -61,23 +72,49 @@ public abstract class AbstractWorkbookSaver {
         }
     }
 
-    private void write(final Workbook workbook, final OutputStream outputStream) throws IOException {
-        if (options.getTransposed()){
-            TransposeUtil.transpose(workbook);
+    /**
+     * Saves the instances as columns. The values are kept by the row they belong to, so the sheet is written row by
+     * row and is never transposed as a whole.
+     */
+    private <T> void saveTransposed(
+        final Iterator<T> data, final boolean unknownCells, final Workbook workbook, final OutputStream outputStream
+    ) {
+        final Sheet sheet = createSheet(workbook);
+        try (TransposedSheetWriter writer =
+                 new TransposedSheetWriter(workbook, sheet, options.getTransposedBufferSize())) {
+            while (data.hasNext()) {
+                final T instance = data.next();
+                setValuesFromKnownFields(writer.row(), instance);
+                if (unknownCells) {
+                    setValuesFromUnknownCellsMap(writer.row(), instance);
+                }
+                writer.endRow();
+            }
+            writer.write(columnNames());
+            write(workbook, outputStream);
+        } catch (IllegalAccessException | IOException e) {
+            throw new PoijiException(e.getMessage(), e);
         }
+    }
+
+    private void write(final Workbook workbook, final OutputStream outputStream) throws IOException {
         workbook.write(outputStream);
         outputStream.flush();
         outputStream.close();
     }
 
     private Sheet prepareSheet(final Workbook workbook) {
-        final Sheet sheet = mappedFields.getSheetName() == null
-            ? workbook.createSheet()
-            : workbook.createSheet(mappedFields.getSheetName());
+        final Sheet sheet = createSheet(workbook);
         createColumnNames(sheet);
         return sheet;
     }
 
+    private Sheet createSheet(final Workbook workbook) {
+        return mappedFields.getSheetName() == null
+            ? workbook.createSheet()
+            : workbook.createSheet(mappedFields.getSheetName());
+    }
+
     private <T> void setValuesFromKnownFields(final Row row, final T instance) throws IllegalAccessException {
         final ToCellCasting toCellCasting = options.getToCellCasting();
         for (Map.Entry<Field, Integer> orders : mappedFields.getOrders().entrySet()) {
@@ -105,6 +142,17 @@ public abstract class AbstractWorkbookSaver {
         }
     }
 
+    private Map<Integer, String> columnNames() {
+        final Map<Integer, String> columnNames = new TreeMap<>();
+        for (final Map.Entry<Field, Integer> entry : mappedFields.getOrders().entrySet()) {
+            columnNames.put(entry.getValue(), mappedFields.getNames().get(entry.getKey()));
+        }
+        for (final Map.Entry<String, Integer> entry : mappedFields.getUnknownOrders().entrySet()) {
+            columnNames.put(entry.getValue(), entry.getKey());
+        }
+        return columnNames;
+    }
+
     private void createColumnNames(final Sheet sheet) {
         final Row row = sheet.createRow(0);
         for (final Map.Entry<Field, Integer> entry : mappedFields.getOrders().entrySet()) {
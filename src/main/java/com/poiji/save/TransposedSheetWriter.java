@@ -0,0 +1,155 @@
+package com.poiji.save;
+
+import com.poiji.util.TransposedCells;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+
+/**
+ * Writer of a transposed sheet without a sheet to transpose.
+ * <p>
+ * The cells of every instance are set in a scratch row, so they get the same values and styles as the cells of a
+ * sheet which is not transposed, then they are kept in {@link TransposedCells} by the row of the transposed sheet
+ * they belong to, and removed from the scratch row. Once all instances are added, the rows of the transposed sheet
+ * are created one by one, and a streamed sheet flushes every row as soon as it is created.
+ */
+final class TransposedSheetWriter implements Closeable {
+
+    private static final char NUMERIC = 'n';
+    private static final char STRING = 's';
+    private static final char BOOLEAN = 'b';
+    private static final char FORMULA = 'f';
+    private static final char ERROR = 'e';
+    private static final char BLANK = 'k';
+
+    private final Workbook workbook;
+    private final Sheet sheet;
+    private final Sheet scratch;
+    private final Row scratchRow;
+    private final TransposedCells cells;
+    private final List<Cell> scratchCells = new ArrayList<>();
+    private int column = 1;
+
+    TransposedSheetWriter(final Workbook workbook, final Sheet sheet, final int bufferSize) {
+        this.workbook = workbook;
+        this.sheet = sheet;
+        this.scratch = workbook.createSheet();
+        this.scratchRow = scratch.createRow(0);
+        this.cells = new TransposedCells(bufferSize);
+    }
+
+    /**
+     * @return row to set the cells of the next instance in
+     */
+    Row row() {
+        return scratchRow;
+    }
+
+    /**
+     * Moves the cells set in the row to the column of the instance.
+     */
+    void endRow() throws IOException {
+        scratchRow.forEach(scratchCells::add);
+        for (final Cell cell : scratchCells) {
+            cells.add(column, cell.getColumnIndex(), encode(cell));
+            scratchRow.removeCell(cell);
+        }
+        scratchCells.clear();
+        column++;
+    }
+
+    /**
+     * Writes the transposed sheet, one row for each column name.
+     *
+     * @param names column names by their order
+     */
+    void write(final Map<Integer, String> names) throws IOException {
+        workbook.removeSheetAt(workbook.getSheetIndex(scratch));
+        for (final Map.Entry<Integer, String> name : names.entrySet()) {
+            final Row row = sheet.createRow(name.getKey());
+            row.createCell(0).setCellValue(name.getValue());
+            cells.visit(name.getKey(), (cellColumn, value) -> decode(row.createCell(cellColumn), value));
+            if (sheet instanceof SXSSFSheet) {
+                ((SXSSFSheet) sheet).flushRows();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        cells.close();
+    }
+
+    /**
+     * @return type, style index and value of the cell, as {@code <type><style>:<value>}
+     */
+    private static String encode(final Cell cell) {
+        final StringBuilder encoded = new StringBuilder();
+        switch (cell.getCellType()) {
+            case NUMERIC:
+                encoded.append(NUMERIC);
+                break;
+            case STRING:
+                encoded.append(STRING);
+                break;
+            case BOOLEAN:
+                encoded.append(BOOLEAN);
+                break;
+            case FORMULA:
+                encoded.append(FORMULA);
+                break;
+            case ERROR:
+                encoded.append(ERROR);
+                break;
+            default:
+                encoded.append(BLANK);
+        }
+        encoded.append(cell.getCellStyle().getIndex()).append(':');
+        switch (cell.getCellType()) {
+            case NUMERIC:
+                return encoded.append(cell.getNumericCellValue()).toString();
+            case STRING:
+                return encoded.append(cell.getStringCellValue()).toString();
+            case BOOLEAN:
+                return encoded.append(cell.getBooleanCellValue()).toString();
+            case FORMULA:
+                return encoded.append(cell.getCellFormula()).toString();
+            case ERROR:
+                return encoded.append(cell.getErrorCellValue()).toString();
+            default:
+                return encoded.toString();
+        }
+    }
+
+    private void decode(final Cell cell, final String encoded) {
+        final int separator = encoded.indexOf(':');
+        final String value = encoded.substring(separator + 1);
+        cell.setCellStyle(workbook.getCellStyleAt(Integer.parseInt(encoded.substring(1, separator))));
+        switch (encoded.charAt(0)) {
+            case NUMERIC:
+                cell.setCellValue(Double.parseDouble(value));
+                break;
+            case STRING:
+                cell.setCellValue(value);
+                break;
+            case BOOLEAN:
+                cell.setCellValue(Boolean.parseBoolean(value));
+                break;
+            case FORMULA:
+                cell.setCellFormula(value);
+                break;
+            case ERROR:
+                cell.setCellErrorValue(Byte.parseByte(value));
+                break;
+            default:
+                cell.setBlank();
+        }
+    }
+}
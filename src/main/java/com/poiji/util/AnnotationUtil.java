@@ -26,23 +26,28 @@ public class AnnotationUtil {
     public static <T> void validateMandatoryNameColumns(PoijiOptions options,
                                                         Class<T> modelType,
                                                         Collection<String> headerNames) {
-        final Collection<String> mandatoryColumnNames = ReflectUtil
-            .findRecursivePoijiAnnotations(modelType, ExcelCellName.class)
-            .stream()
-            .filter(excelCellName -> options.getNamedHeaderMandatory() || excelCellName.mandatory())
-            .flatMap(AnnotationUtil::getNames)
-            .collect(toList());
+        validateMandatoryNameColumns(options, mandatoryColumnNames(options, modelType), headerNames);
+    }
 
+    /**
+     * Validate that all precompiled mandatory headers are present in the list of header names.
+     *
+     * @param mandatoryColumnNames already transformed names, see {@link #mandatoryColumnNames(PoijiOptions, Class)}
+     * @throws HeaderMissingException if one or more headers are missing
+     */
+    public static void validateMandatoryNameColumns(PoijiOptions options,
+                                                    Collection<String> mandatoryColumnNames,
+                                                    Collection<String> headerNames) {
+        if (mandatoryColumnNames.isEmpty()) {
+            return;
+        }
         final BiPredicate<String, String> comparator = options.getCaseInsensitive()
             ? String::equalsIgnoreCase
             : String::equals;
 
         final Set<String> missingHeaders = mandatoryColumnNames
             .stream()
-            .filter(mandatoryColumnName -> {
-                final String transformed = options.getFormatting().transform(options, mandatoryColumnName);
-                return headerNames.stream().noneMatch(title -> comparator.test(transformed, title));
-            })
+            .filter(mandatoryColumnName -> headerNames.stream().noneMatch(title -> comparator.test(mandatoryColumnName, title)))
             .collect(toSet());
 
         if (!missingHeaders.isEmpty()) {
@@ -50,6 +55,20 @@ public class AnnotationUtil {
         }
     }
 
+    /**
+     * Collects names of the headers specified via @ExcelCellName annotations which must be present in the sheet,
+     * transformed with the {@link PoijiOptions#getFormatting()}.
+     */
+    public static <T> Collection<String> mandatoryColumnNames(PoijiOptions options, Class<T> modelType) {
+        return ReflectUtil
+            .findRecursivePoijiAnnotations(modelType, ExcelCellName.class)
+            .stream()
+            .filter(excelCellName -> options.getNamedHeaderMandatory() || excelCellName.mandatory())
+            .flatMap(AnnotationUtil::getNames)
+            .map(name -> options.getFormatting().transform(options, name))
+            .collect(toList());
+    }
+
     private static Stream<String> getNames(final ExcelCellName excelCellName) {
         if (excelCellName.columnNameDelimiter().isEmpty()){
             return Stream.of(excelCellName.value());
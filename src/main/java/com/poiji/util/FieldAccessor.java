@@ -0,0 +1,284 @@
+package com.poiji.util;
+
+import com.poiji.exception.IllegalCastException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Writes and reads a field of an entity.
+ * <p>
+ * Method handles are created once per field, primitive fields get setters typed with the primitive, so values are
+ * not boxed. When a handle can't be created (for example for a final field), reflection is used.
+ * Primitive setters must be called only for a field of the same primitive type.
+ */
+public abstract class FieldAccessor {
+
+    /**
+     * Kept with the declaring class, so they don't keep its class loader.
+     */
+    private static final ClassValue<Map<Field, FieldAccessor>> accessors = new ClassValue<Map<Field, FieldAccessor>>() {
+        @Override
+        protected Map<Field, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public static FieldAccessor of(Field field) {
+        return accessors.get(field.getDeclaringClass()).computeIfAbsent(field, FieldAccessor::create);
+    }
+
+    private static FieldAccessor create(Field field) {
+        ReflectUtil.setAccessible(field);
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            return new HandleAccessor(field, lookup.unreflectSetter(field), lookup.unreflectGetter(field));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectionAccessor(field);
+        }
+    }
+
+    protected final Field field;
+
+    FieldAccessor(Field field) {
+        this.field = field;
+    }
+
+    public abstract void set(Object instance, Object value);
+
+    public abstract Object get(Object instance);
+
+    public abstract void setInt(Object instance, int value);
+
+    public abstract void setLong(Object instance, long value);
+
+    public abstract void setDouble(Object instance, double value);
+
+    public abstract void setFloat(Object instance, float value);
+
+    public abstract void setBoolean(Object instance, boolean value);
+
+    public abstract void setShort(Object instance, short value);
+
+    public abstract void setByte(Object instance, byte value);
+
+    public abstract void setChar(Object instance, char value);
+
+    RuntimeException unexpected(Throwable e, Object value) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalCastException("Unexpected cast type {" + value + "} of field" + field.getName());
+    }
+
+    private static final class HandleAccessor extends FieldAccessor {
+
+        private final MethodHandle setter;
+        private final MethodHandle getter;
+
+        private HandleAccessor(Field field, MethodHandle setter, MethodHandle getter) {
+            super(field);
+            final Class<?> type = field.getType();
+            this.setter = setter.asType(methodType(void.class, Object.class, type.isPrimitive() ? type : Object.class));
+            this.getter = getter.asType(methodType(Object.class, Object.class));
+        }
+
+        @Override
+        public void set(Object instance, Object value) {
+            try {
+                if (field.getType().isPrimitive()) {
+                    field.set(instance, value);
+                } else {
+                    setter.invokeExact(instance, value);
+                }
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public Object get(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw unexpected(e, null);
+            }
+        }
+
+        @Override
+        public void setInt(Object instance, int value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setLong(Object instance, long value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setDouble(Object instance, double value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setFloat(Object instance, float value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setBoolean(Object instance, boolean value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setShort(Object instance, short value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setByte(Object instance, byte value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setChar(Object instance, char value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw unexpected(e, value);
+            }
+        }
+    }
+
+    private static final class ReflectionAccessor extends FieldAccessor {
+
+        private ReflectionAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public void set(Object instance, Object value) {
+            try {
+                field.set(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public Object get(Object instance) {
+            try {
+                return field.get(instance);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, null);
+            }
+        }
+
+        @Override
+        public void setInt(Object instance, int value) {
+            try {
+                field.setInt(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setLong(Object instance, long value) {
+            try {
+                field.setLong(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setDouble(Object instance, double value) {
+            try {
+                field.setDouble(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setFloat(Object instance, float value) {
+            try {
+                field.setFloat(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setBoolean(Object instance, boolean value) {
+            try {
+                field.setBoolean(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setShort(Object instance, short value) {
+            try {
+                field.setShort(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setByte(Object instance, byte value) {
+            try {
+                field.setByte(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+
+        @Override
+        public void setChar(Object instance, char value) {
+            try {
+                field.setChar(instance, value);
+            } catch (IllegalAccessException e) {
+                throw unexpected(e, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.poiji.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Creates instances with a constructor.
+ * <p>
+ * A public no-arg constructor of a public class is called through a generated {@link Supplier}, other constructors
+ * through a method handle. When neither can be created, reflection is used.
+ */
+public abstract class Instantiator {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+    /**
+     * Kept with the declaring class, so they don't keep its class loader.
+     */
+    private static final ClassValue<Map<Constructor<?>, Instantiator>> instantiators =
+        new ClassValue<Map<Constructor<?>, Instantiator>>() {
+            @Override
+            protected Map<Constructor<?>, Instantiator> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    public static Instantiator of(Constructor<?> constructor) {
+        return instantiators.get(constructor.getDeclaringClass()).computeIfAbsent(constructor, Instantiator::create);
+    }
+
+    private static Instantiator create(Constructor<?> constructor) {
+        if (!constructor.isAccessible()) {
+            constructor.setAccessible(true);
+        }
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle handle;
+        try {
+            handle = lookup.unreflectConstructor(constructor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectionInstantiator(constructor);
+        }
+        if (constructor.getParameterCount() == 0 && isPublic(constructor)) {
+            try {
+                final CallSite site = LambdaMetafactory.metafactory(lookup, "get", methodType(Supplier.class),
+                    methodType(Object.class), handle, methodType(constructor.getDeclaringClass()));
+                return new SupplierInstantiator(constructor, (Supplier<?>) site.getTarget().invoke());
+            } catch (Throwable e) {
+                // the method handle is used then
+            }
+        }
+        return new HandleInstantiator(constructor, handle);
+    }
+
+    /**
+     * Generated class can call only public constructors of public classes which are visible for its class loader.
+     */
+    private static boolean isPublic(Constructor<?> constructor) {
+        final Class<?> type = constructor.getDeclaringClass();
+        if (!Modifier.isPublic(constructor.getModifiers())) {
+            return false;
+        }
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(type.getName(), false, Instantiator.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    protected final Constructor<?> constructor;
+
+    Instantiator(Constructor<?> constructor) {
+        this.constructor = constructor;
+    }
+
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    public Object newInstance() throws Exception {
+        return newInstance(NO_PARAMETERS);
+    }
+
+    /**
+     * Exceptions thrown by the constructor are propagated as is, or wrapped into an InvocationTargetException
+     * by the reflection fallback.
+     */
+    public abstract Object newInstance(Object[] parameters) throws Exception;
+
+    static Exception rethrow(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return (Exception) e;
+    }
+
+    private static final class SupplierInstantiator extends Instantiator {
+
+        private final Supplier<?> supplier;
+
+        private SupplierInstantiator(Constructor<?> constructor, Supplier<?> supplier) {
+            super(constructor);
+            this.supplier = supplier;
+        }
+
+        @Override
+        public Object newInstance() {
+            return supplier.get();
+        }
+
+        @Override
+        public Object newInstance(Object[] parameters) {
+            return supplier.get();
+        }
+    }
+
+    private static final class HandleInstantiator extends Instantiator {
+
+        private final MethodHandle handle;
+
+        private HandleInstantiator(Constructor<?> constructor, MethodHandle handle) {
+            super(constructor);
+            final int count = constructor.getParameterCount();
+            this.handle = handle.asSpreader(Object[].class, count).asType(methodType(Object.class, Object[].class));
+        }
+
+        @Override
+        public Object newInstance(Object[] parameters) throws Exception {
+            try {
+                return (Object) handle.invokeExact(parameters);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class ReflectionInstantiator extends Instantiator {
+
+        private ReflectionInstantiator(Constructor<?> constructor) {
+            super(constructor);
+        }
+
+        @Override
+        public Object newInstance(Object[] parameters) throws Exception {
+            return constructor.newInstance(parameters);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.poiji.util;
+
+import org.apache.poi.util.TempFile;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Cell values of a sheet grouped by column, so a sheet read row by row can be replayed column by column.
+ * <p>
+ * Every column keeps its cells as a compact byte buffer of the row number and the UTF-8 value of each cell. Once the
+ * buffers take more bytes than the limit, all of them are appended to a temp file as segments, and the column is
+ * replayed from its segments first and from its buffer then.
+ */
+public final class TransposedCells implements Closeable {
+
+    private final int memoryLimit;
+    private Column[] columns = new Column[16];
+    private int columnCount;
+    private long bufferedBytes;
+    private File file;
+    private RandomAccessFile spill;
+
+    public TransposedCells(final int memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Visitor of the cells of a column, in the order they are added.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+
+        void cell(int row, String value);
+
+    }
+
+    public void add(final int row, final int column, final String value) throws IOException {
+        if (column >= columns.length) {
+            columns = Arrays.copyOf(columns, Math.max(column + 1, columns.length * 2));
+        }
+        if (columns[column] == null) {
+            columns[column] = new Column();
+        }
+        columnCount = Math.max(columnCount, column + 1);
+        bufferedBytes += columns[column].add(row, value.getBytes(StandardCharsets.UTF_8));
+        if (bufferedBytes > memoryLimit) {
+            spill();
+        }
+    }
+
+    /**
+     * @return count of the columns up to the last one with a cell
+     */
+    public int columnCount() {
+        return columnCount;
+    }
+
+    /**
+     * @return false if the column has no cells
+     */
+    public boolean visit(final int column, final CellVisitor visitor) throws IOException {
+        final Column cells = column < columns.length ? columns[column] : null;
+        if (cells == null) {
+            return false;
+        }
+        for (int i = 0; i < cells.segmentCount; i++) {
+            final byte[] segment = new byte[cells.segmentLengths[i]];
+            spill.seek(cells.segmentOffsets[i]);
+            spill.readFully(segment);
+            decode(segment, segment.length, visitor);
+        }
+        decode(cells.bytes, cells.length, visitor);
+        return true;
+    }
+
+    private static void decode(final byte[] bytes, final int length, final CellVisitor visitor) {
+        int position = 0;
+        while (position < length) {
+            int row = 0;
+            for (int shift = 0; ; shift += 7) {
+                final byte b = bytes[position++];
+                row |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            int valueLength = 0;
+            for (int shift = 0; ; shift += 7) {
+                final byte b = bytes[position++];
+                valueLength |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            visitor.cell(row, new String(bytes, position, valueLength, StandardCharsets.UTF_8));
+            position += valueLength;
+        }
+    }
+
+    private void spill() throws IOException {
+        if (spill == null) {
+            file = TempFile.createTempFile("poiji-transposed", ".tmp");
+            spill = new RandomAccessFile(file, "rw");
+        }
+        for (int i = 0; i < columnCount; i++) {
+            final Column column = columns[i];
+            if (column != null && column.length > 0) {
+                column.addSegment(spill.length(), column.length);
+                spill.seek(spill.length());
+                spill.write(column.bytes, 0, column.length);
+                column.bytes = new byte[16];
+                column.length = 0;
+            }
+        }
+        bufferedBytes = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        columns = new Column[0];
+        if (spill != null) {
+            try {
+                spill.close();
+            } finally {
+                if (!file.delete()) {
+                    file.deleteOnExit();
+                }
+            }
+        }
+    }
+
+    private static final class Column {
+
+        private byte[] bytes = new byte[16];
+        private int length;
+        private long[] segmentOffsets = new long[0];
+        private int[] segmentLengths = new int[0];
+        private int segmentCount;
+
+        /**
+         * @return count of the added bytes
+         */
+        int add(final int row, final byte[] value) {
+            final int start = length;
+            ensureCapacity(length + 10 + value.length);
+            writeVarInt(row);
+            writeVarInt(value.length);
+            System.arraycopy(value, 0, bytes, length, value.length);
+            length += value.length;
+            return length - start;
+        }
+
+        void addSegment(final long offset, final int segmentLength) {
+            if (segmentCount == segmentOffsets.length) {
+                segmentOffsets = Arrays.copyOf(segmentOffsets, Math.max(4, segmentCount * 2));
+                segmentLengths = Arrays.copyOf(segmentLengths, Math.max(4, segmentCount * 2));
+            }
+            segmentOffsets[segmentCount] = offset;
+            segmentLengths[segmentCount] = segmentLength;
+            segmentCount++;
+        }
+
+        private void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        private void ensureCapacity(final int capacity) {
+            if (bytes.length < capacity) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+    }
+}
@@ -54,4 +54,23 @@ public class CalculationExcelTest {
             assertThat(calculation.getFromDate().toString(), is("2018-01-01"));
         }
     }
+
+    @Test
+    public void shouldMapCalculationsFromRawValues() {
+
+        PoijiOptions options = PoijiOptions.PoijiOptionsBuilder.settings().sheetIndex(1).rawCellValues(true).build();
+        PoijiOptions formattedOptions = PoijiOptions.PoijiOptionsBuilder.settings().sheetIndex(1).build();
+
+        List<Calculation> calculations = Poiji.fromExcel(new File(path), Calculation.class, options);
+        List<Calculation> formatted = Poiji.fromExcel(new File(path), Calculation.class, formattedOptions);
+
+        assertThat(calculations.size(), is(formatted.size()));
+        for (int i = 0; i < calculations.size(); i++) {
+            Calculation calculation = calculations.get(i);
+            assertThat(calculation.getToDate().toString(), is("2018-06-30"));
+            assertThat(calculation.getFromDate().toString(), is("2018-01-01"));
+            assertThat(calculation.getIs(), is(formatted.get(i).getIs()));
+            assertThat(calculation.getTotal(), is(formatted.get(i).getTotal()));
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.deserialize.model.byid.Employee;
+import com.poiji.deserialize.model.byid.EmployeeName;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ColumnProjectionTest {
+
+    private String path;
+
+    public ColumnProjectionTest(String path) {
+        super();
+        this.path = path;
+    }
+
+    @Parameters
+    public static Object[] excel() {
+        return new Object[]{"src/test/resources/employees.xlsx", "src/test/resources/synonyms-test.xlsx"};
+    }
+
+    @Test
+    public void shouldReadOnlyMappedColumns() {
+
+        List<Employee> employees = Poiji.fromExcel(new File(path), Employee.class);
+        List<EmployeeName> names = Poiji.fromExcel(new File(path), EmployeeName.class);
+
+        assertThat(names.size(), is(employees.size()));
+        for (int i = 0; i < names.size(); i++) {
+            assertThat(names.get(i).getName(), is(employees.get(i).getName()));
+            assertThat(names.get(i).getRow(), is(i + 1));
+        }
+    }
+}
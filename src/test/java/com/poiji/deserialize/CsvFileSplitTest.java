@@ -0,0 +1,226 @@
+package com.poiji.deserialize;
+
+import com.poiji.annotation.ExcelCell;
+import com.poiji.bind.Poiji;
+import com.poiji.deserialize.model.byid.Person;
+import com.poiji.exception.PoijiExcelType;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class CsvFileSplitTest {
+
+    private final String lineBreak;
+    private final String bom;
+    private File file;
+    private byte[] content;
+
+    public CsvFileSplitTest(String name, String lineBreak, String bom) {
+        this.lineBreak = lineBreak;
+        this.bom = bom;
+    }
+
+    @Parameters(name = "{0}")
+    public static Object[][] lineBreaks() {
+        return new Object[][]{
+            {"LF", "\n", ""},
+            {"CRLF", "\r\n", ""},
+            {"CR", "\r", ""},
+            {"CRLF with BOM", "\r\n", "\uFEFF"},
+        };
+    }
+
+    @Before
+    public void createFile() throws Exception {
+        StringBuilder csv = new StringBuilder(bom).append("Name,Address,Mobile,Email").append(lineBreak);
+        for (int i = 0; i < 20000; i++) {
+            if (i % 1000 == 999) {
+                csv.append(lineBreak);
+            } else {
+                csv.append("name").append(i).append(",\"street ").append(i).append("\",").append(i)
+                    .append(",mail").append(i).append("@abc.com").append(lineBreak);
+            }
+        }
+        content = csv.toString().getBytes(StandardCharsets.UTF_8);
+        file = File.createTempFile("poiji", ".csv");
+        Files.write(file.toPath(), content);
+    }
+
+    @After
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void shouldReadSplitsLikeStream() {
+        assertSameRead(PoijiOptionsBuilder.settings().build());
+    }
+
+    @Test
+    public void shouldCountSkippedRows() {
+        assertSameRead(PoijiOptionsBuilder.settings().skip(5).build());
+    }
+
+    @Test
+    public void shouldSplitFile() {
+        try (Stream<Person> stream = Poiji.fromExcelToStream(file, Person.class)) {
+            Spliterator<Person> rest = stream.spliterator();
+            Spliterator<Person> prefix = rest.trySplit();
+            assertThat(prefix, notNullValue());
+
+            int[] count = new int[1];
+            prefix.forEachRemaining(person -> count[0]++);
+            rest.forEachRemaining(person -> count[0]++);
+            assertThat(count[0], is(19980));
+        }
+    }
+
+    @Test
+    public void shouldSplitFileWithoutQuotes() throws Exception {
+        StringBuilder csv = new StringBuilder(bom).append("Name,Address,Mobile,Email").append(lineBreak);
+        for (int i = 0; i < 40000; i++) {
+            csv.append("name").append(i).append(",street ").append(i).append(',').append(i).append(",mail")
+                .append(i).append("@abc.com").append(lineBreak);
+        }
+        content = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+
+        try (Stream<Person> stream = Poiji.fromExcelToStream(file, Person.class)) {
+            Spliterator<Person> rest = stream.spliterator();
+            Spliterator<Person> prefix = rest.trySplit();
+            assertThat(prefix, notNullValue());
+            assertThat(prefix.trySplit(), notNullValue());
+            assertThat(rest.trySplit(), notNullValue());
+        }
+        assertSameRead(PoijiOptionsBuilder.settings().build());
+    }
+
+    @Test
+    public void shouldTokenizeBytesLikeLines() throws Exception {
+        String csv = bom + "Name,Address,Mobile,Email" + lineBreak
+            + "\"Doe, John\",\"street \"\"5\"\"\",,last" + lineBreak
+            + "a\"b,\"\",x\"y\"z,\"unclosed, quote" + lineBreak
+            + "Jörg,Ünterstraße,€,\"😀\"" + lineBreak
+            + ",,," + lineBreak
+            + "trailing,,," + lineBreak
+            + "\"\"\"quoted\"\"\",a\"\"b,\"\"\"\"\"\",end";
+        content = csv.getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+
+        assertSameRead(PoijiOptionsBuilder.settings().build());
+    }
+
+    @Test
+    public void shouldReadLineBreaksInQuotedValues() throws Exception {
+        StringBuilder csv = new StringBuilder(bom).append("Name,Address,Mobile,Email").append(lineBreak);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            csv.append("name").append(i).append(",\"street ").append(i).append(lineBreak)
+                .append("floor \"\"").append(i % 10).append("\"\", flat").append(lineBreak).append("\",").append(i)
+                .append(",mail").append(i).append("@abc.com").append(lineBreak);
+            expected.append(i + 1).append(" street ").append(i).append(lineBreak)
+                .append("floor \"").append(i % 10).append("\", flat").append(lineBreak).append('|');
+        }
+        content = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+
+        StringBuilder actual = new StringBuilder();
+        try (Stream<Person> stream = Poiji.fromExcelToStream(file, Person.class)) {
+            stream.parallel().forEachOrdered(person -> actual.append(person.getRow()).append(' ')
+                .append(person.getAddress()).append('|'));
+        }
+
+        assertThat(actual.toString(), is(expected.toString()));
+        assertSameRead(PoijiOptionsBuilder.settings().build());
+    }
+
+    @Test
+    public void shouldSkipUnmappedColumns() throws Exception {
+        StringBuilder csv = new StringBuilder(bom).append("Name,Address,Mobile,Email,Note,Extra").append(lineBreak);
+        for (int i = 0; i < 20000; i++) {
+            if (i % 1000 == 999) {
+                csv.append(",,,,note only,").append(lineBreak);
+            } else {
+                csv.append("name").append(i).append(",street,").append(i).append(",mail,note ").append(i)
+                    .append(",\"extra, ").append(i).append('"').append(lineBreak);
+            }
+        }
+        content = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+
+        List<Person> actual;
+        try (Stream<Person> stream = Poiji.fromExcelToStream(file, Person.class)) {
+            actual = stream.parallel().collect(Collectors.toList());
+        }
+
+        assertThat(actual.size(), is(20000));
+        assertThat(actual.get(1).getName(), is("name1"));
+        assertThat(actual.get(999).getName(), is(""));
+        assertThat(actual.get(999).getRow(), is(1000));
+        assertSameRead(PoijiOptionsBuilder.settings().build());
+    }
+
+    @Test
+    public void shouldReadSplitsWithoutRowNumbers() throws Exception {
+        StringBuilder csv = new StringBuilder(bom).append("Name,Address").append(lineBreak);
+        for (int i = 0; i < 20000; i++) {
+            csv.append("name").append(i).append(",\"street ").append(i).append(lineBreak).append("floor\"")
+                .append(lineBreak);
+        }
+        content = csv.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content);
+
+        try (Stream<Contact> stream = Poiji.fromExcelToStream(file, Contact.class)) {
+            Spliterator<Contact> rest = stream.spliterator();
+            assertThat(rest.trySplit(), notNullValue());
+        }
+        assertSameRead(Contact.class, PoijiOptionsBuilder.settings().build());
+    }
+
+    private void assertSameRead(PoijiOptions options) {
+        assertSameRead(Person.class, options);
+    }
+
+    private <T> void assertSameRead(Class<T> type, PoijiOptions options) {
+        List<T> expected = Poiji.fromExcel(new ByteArrayInputStream(content), PoijiExcelType.CSV, type, options);
+        List<T> actual;
+        try (Stream<T> stream = Poiji.fromExcelToStream(file, type, options)) {
+            actual = stream.parallel().collect(Collectors.toList());
+        }
+
+        assertThat(actual.toString(), is(expected.toString()));
+    }
+
+    public static class Contact {
+
+        @ExcelCell(0)
+        private String name;
+
+        @ExcelCell(1)
+        private String address;
+
+        @Override
+        public String toString() {
+            return name + " " + address;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.poiji.deserialize;
+
+import com.poiji.annotation.ExcelCell;
+import com.poiji.annotation.ExcelCellName;
+import com.poiji.annotation.ExcelCellRange;
+import com.poiji.annotation.ExcelList;
+import com.poiji.bind.Poiji;
+import com.poiji.exception.PoijiExcelType;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class EntityBindingTest {
+
+    @Test
+    public void shouldReadEntityWithDifferentOptions() {
+        byte[] csv = "NAME,Tags\nfirst,a;b\n".getBytes(StandardCharsets.UTF_8);
+        PoijiOptions insensitive = PoijiOptionsBuilder.settings().caseInsensitive(true).addListDelimiter(";").build();
+        PoijiOptions sensitive = PoijiOptionsBuilder.settings().build();
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(describe(read(csv, PoijiExcelType.CSV, Tagged.class, insensitive)), is(asList("first|[a, b]")));
+            assertThat(describe(read(csv, PoijiExcelType.CSV, Tagged.class, sensitive)), is(asList("null|[a;b]")));
+        }
+    }
+
+    @Test
+    public void shouldNotKeepValuesOfPreviousRow() throws IOException {
+        String[][] rows = {{"A", "B"}, {"first", "1"}, {"second"}, {"third", "3"}};
+        List<String> expected = asList(
+            "first|first:1|[first, 1]", "second|second:0|[second]", "third|third:3|[third, 3]"
+        );
+        PoijiOptions options = PoijiOptionsBuilder.settings().build();
+
+        assertThat(describe(read(csv(rows), PoijiExcelType.CSV, Combined.class, options)), is(expected));
+        assertThat(describe(read(xlsx(rows), PoijiExcelType.XLSX, Combined.class, options)), is(expected));
+    }
+
+    @Test
+    public void shouldFeedColumnToAllTargets() throws IOException {
+        String[][] rows = {{"A", "B"}, {"shared", "7"}};
+        PoijiOptions options = PoijiOptionsBuilder.settings().build();
+
+        List<Combined> combined = read(xlsx(rows), PoijiExcelType.XLSX, Combined.class, options);
+
+        assertThat(combined.size(), is(1));
+        assertThat(combined.get(0).name, is("shared"));
+        assertThat(combined.get(0).label.text, is("shared"));
+        assertThat(combined.get(0).parts.get(0).value, is("shared"));
+        assertThat(combined.get(0).label.size, is(7));
+        assertThat(combined.get(0).parts.get(1).value, is("7"));
+    }
+
+    private static <T> List<T> read(byte[] content, PoijiExcelType type, Class<T> entity, PoijiOptions options) {
+        return Poiji.fromExcel(new ByteArrayInputStream(content), type, entity, options);
+    }
+
+    private static List<String> describe(List<?> entities) {
+        return entities.stream().map(Object::toString).collect(Collectors.toList());
+    }
+
+    private static byte[] csv(String[][] rows) {
+        StringBuilder csv = new StringBuilder();
+        for (String[] row : rows) {
+            csv.append(String.join(",", row)).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] xlsx(String[][] rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            for (int i = 0; i < rows.length; i++) {
+                Row row = sheet.createRow(i);
+                for (int j = 0; j < rows[i].length; j++) {
+                    row.createCell(j).setCellValue(rows[i][j]);
+                }
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    public static class Tagged {
+
+        @ExcelCellName("name")
+        private String name;
+
+        @ExcelCellName("Tags")
+        private List<String> tags;
+
+        @Override
+        public String toString() {
+            return name + "|" + tags;
+        }
+    }
+
+    public static class Named {
+
+        @ExcelCell(0)
+        protected String name;
+    }
+
+    public static class Combined extends Named {
+
+        @ExcelCellRange
+        private Label label;
+
+        @ExcelList(elementSize = 1, listStart = 0, listEnd = 1)
+        private List<Part> parts;
+
+        @Override
+        public String toString() {
+            return name + "|" + label + "|" + parts;
+        }
+    }
+
+    public static class Label {
+
+        @ExcelCell(0)
+        private String text;
+
+        @ExcelCell(1)
+        private int size;
+
+        @Override
+        public String toString() {
+            return text + ":" + size;
+        }
+    }
+
+    public static class Part {
+
+        @ExcelCell(0)
+        private String value;
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+}
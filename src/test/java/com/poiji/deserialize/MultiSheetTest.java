@@ -0,0 +1,154 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.bind.SheetItem;
+import com.poiji.bind.mapping.PoijiLogCellFormat;
+import com.poiji.config.DefaultCasting;
+import com.poiji.deserialize.model.byid.Employee;
+import com.poiji.exception.PoijiException;
+import com.poiji.exception.PoijiExcelType;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MultiSheetTest {
+
+    private static final File FILE = new File("src/test/resources/employees_sheet2.xlsx");
+
+    @Test
+    public void shouldReadVisibleSheetsLikeSingleSheetReads() {
+        Map<String, List<Employee>> sheets = Poiji.<Employee>fromExcel()
+            .withSource(FILE)
+            .withJavaType(Employee.class)
+            .withAllSheets()
+            .withSheetThreads(2)
+            .toSheetLists();
+
+        // the first sheet has no rows to read
+        assertThat(sheets.keySet().toString(), is("[Sheet2]"));
+        PoijiOptions options = PoijiOptionsBuilder.settings().sheetName("Sheet2").build();
+        assertThat(sheets.get("Sheet2").toString(), is(Poiji.fromExcel(FILE, Employee.class, options).toString()));
+    }
+
+    @Test
+    public void shouldTagItemsWithTheirSheet() throws Exception {
+        List<SheetItem<Employee>> items;
+        try (InputStream inputStream = new FileInputStream(FILE);
+             Stream<SheetItem<Employee>> stream = Poiji.<Employee>fromExcel()
+                 .withSource(inputStream, PoijiExcelType.XLSX)
+                 .withJavaType(Employee.class)
+                 .withSheets(Pattern.compile("Sheet\\d"))
+                 .toSheetStream()) {
+            items = stream.collect(Collectors.toList());
+        }
+
+        PoijiOptions options = PoijiOptionsBuilder.settings().sheetIndex(1).build();
+        List<Employee> expected = Poiji.fromExcel(FILE, Employee.class, options);
+        assertThat(items.size(), is(expected.size()));
+        for (SheetItem<Employee> item : items) {
+            assertThat(item.getSheetName(), is("Sheet2"));
+            assertThat(item.getSheetIndex(), is(1));
+        }
+        assertThat(items.stream().map(SheetItem::getItem).collect(Collectors.toList()).toString(),
+            is(expected.toString()));
+    }
+
+    @Test
+    public void shouldParseSheetsOnExecutorOfOptions() {
+        AtomicInteger tasks = new AtomicInteger();
+        PoijiOptions options = PoijiOptionsBuilder.settings()
+            .withExecutor(task -> {
+                tasks.incrementAndGet();
+                new Thread(task).start();
+            })
+            .build();
+
+        Map<String, List<Employee>> sheets = Poiji.<Employee>fromExcel()
+            .withSource(FILE)
+            .withJavaType(Employee.class)
+            .withOptions(options)
+            .withAllSheets()
+            .withSheetThreads(1)
+            .toSheetLists();
+
+        assertThat(tasks.get(), is(1));
+        PoijiOptions sheet2 = PoijiOptionsBuilder.settings().sheetName("Sheet2").build();
+        assertThat(sheets.get("Sheet2").toString(), is(Poiji.fromExcel(FILE, Employee.class, sheet2).toString()));
+    }
+
+    @Test
+    public void shouldReadSheetsOnConsumingThreadWithoutExecutor() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        PoijiOptions options = PoijiOptionsBuilder.settings()
+            .withCasting(new DefaultCasting() {
+                @Override
+                public Object castValue(Field field, String value, int row, int col, PoijiOptions options) {
+                    threads.add(Thread.currentThread());
+                    return super.castValue(field, value, row, col, options);
+                }
+            })
+            .build();
+
+        Map<String, List<Employee>> sheets = Poiji.<Employee>fromExcel()
+            .withSource(FILE)
+            .withJavaType(Employee.class)
+            .withOptions(options)
+            .withAllSheets()
+            .toSheetLists();
+
+        assertThat(threads, is(Collections.singleton(Thread.currentThread())));
+        PoijiOptions sheet2 = PoijiOptionsBuilder.settings().sheetName("Sheet2").build();
+        assertThat(sheets.get("Sheet2").toString(), is(Poiji.fromExcel(FILE, Employee.class, sheet2).toString()));
+    }
+
+    @Test
+    public void shouldNotStartSheetsOfClosedStream() {
+        List<Runnable> tasks = new ArrayList<>();
+        PoijiLogCellFormat log = new PoijiLogCellFormat();
+        PoijiOptions options = PoijiOptionsBuilder.settings().withExecutor(tasks::add).poijiLogCellFormat(log).build();
+
+        Poiji.<Employee>fromExcel()
+            .withSource(FILE)
+            .withJavaType(Employee.class)
+            .withOptions(options)
+            .withAllSheets()
+            .toSheetStream()
+            .close();
+        tasks.forEach(Runnable::run);
+
+        assertThat(tasks.isEmpty(), is(false));
+        assertThat(log.formats().isEmpty(), is(true));
+    }
+
+    @Test(expected = PoijiException.class)
+    public void shouldRejectReadWithoutSheets() {
+        Poiji.<Employee>fromExcel().withSource(FILE).withJavaType(Employee.class).toSheetStream();
+    }
+
+    @Test(expected = PoijiException.class)
+    public void shouldRejectSeveralSheetsOfXls() {
+        Poiji.<Employee>fromExcel()
+            .withSource(new File("src/test/resources/hidden_sheet_index.xls"))
+            .withJavaType(Employee.class)
+            .withAllSheets()
+            .toSheetLists();
+    }
+}
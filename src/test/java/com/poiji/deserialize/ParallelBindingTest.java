@@ -0,0 +1,140 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.deserialize.model.ListEntity;
+import com.poiji.deserialize.model.byid.Employee;
+import com.poiji.deserialize.model.byid.OrgWithUnknownCells;
+import com.poiji.deserialize.model.byname.PersonByName;
+import com.poiji.exception.PoijiExcelType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static com.poiji.deserialize.SheetScannerTest.describe;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ParallelBindingTest {
+
+    private final String path;
+    private final Class<?> type;
+
+    public ParallelBindingTest(String path, Class<?> type) {
+        this.path = path;
+        this.type = type;
+    }
+
+    @Parameters(name = "{0} {1}")
+    public static Object[][] excel() {
+        return new Object[][]{
+            {"src/test/resources/employees.xlsx", Employee.class},
+            {"src/test/resources/employees.xls", Employee.class},
+            {"src/test/resources/person.csv", PersonByName.class},
+            {"src/test/resources/excel-list.xlsx", ListEntity.class},
+            {"src/test/resources/excel-list.xls", ListEntity.class},
+            {"src/test/resources/excel-list.csv", ListEntity.class},
+            {"src/test/resources/unknown-cells.xlsx", OrgWithUnknownCells.class},
+            {"src/test/resources/unknown-cells.xls", OrgWithUnknownCells.class},
+        };
+    }
+
+    @Test
+    public void shouldBindInOrder() throws Exception {
+        String expected = describe(Poiji.fromExcel(new File(path), type));
+
+        List<?> bound = Poiji.fromExcel()
+            .withSource(new File(path))
+            .withJavaType(cast(type))
+            .withParallelBinding()
+            .toList();
+
+        assertThat(describe(bound), is(expected));
+    }
+
+    @Test
+    public void shouldBindInAnyOrderOnGivenPool() throws Exception {
+        List<String> expected = describeEach(Poiji.fromExcel(new File(path), type));
+        ForkJoinPool pool = new ForkJoinPool(3);
+
+        List<?> bound = Poiji.fromExcel()
+            .withSource(new File(path))
+            .withJavaType(cast(type))
+            .withParallelBinding()
+            .withUnorderedBinding()
+            .withBindingPool(pool)
+            .toList();
+        pool.shutdown();
+
+        List<String> actual = describeEach(bound);
+        Collections.sort(expected);
+        Collections.sort(actual);
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void shouldSplitRowsInBatches() {
+        StringBuilder csv = new StringBuilder("id,name,surname,age,single,birthday\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(",name").append(i).append(",surname,").append(i % 90).append(",TRUE,1/1/2000\n");
+        }
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        try (Stream<Employee> stream = Poiji.<Employee>fromExcel()
+            .withSource(inputStream, PoijiExcelType.CSV)
+            .withJavaType(Employee.class)
+            .withParallelBinding()
+            .toStream()) {
+            assertTrue(stream.isParallel());
+            Spliterator<Employee> rest = stream.spliterator();
+            Spliterator<Employee> batch = rest.trySplit();
+
+            assertThat(batch, notNullValue());
+            List<Long> ids = new ArrayList<>();
+            batch.forEachRemaining(employee -> ids.add(employee.getEmployeeId()));
+            rest.forEachRemaining(employee -> ids.add(employee.getEmployeeId()));
+            assertThat(ids.size(), is(1000));
+            for (int i = 0; i < ids.size(); i++) {
+                assertThat(ids.get(i), is((long) i));
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotBindInParallelByOrderingOnly() {
+        try (Stream<?> stream = Poiji.fromExcel()
+            .withSource(new File(path))
+            .withJavaType(cast(type))
+            .withUnorderedBinding()
+            .toStream()) {
+            assertFalse(stream.isParallel());
+        }
+    }
+
+    private static List<String> describeEach(List<?> items) throws IllegalAccessException {
+        List<String> result = new ArrayList<>();
+        for (Object item : items) {
+            result.add(describe(item));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> cast(Class<?> type) {
+        return (Class<T>) type;
+    }
+}
@@ -0,0 +1,69 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.bind.SheetInfo;
+import com.poiji.exception.PoijiExcelType;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class ReadSheetInfosTest {
+
+    @Test
+    public void readSheetInfosFromXlsx() throws IOException {
+        final List<SheetInfo> expected = asList(
+            new SheetInfo("Explanatory note", 0, "visible", "/xl/worksheets/sheet1.xml", "A1:AK51", 51, 37),
+            new SheetInfo("SI calculations", 1, "visible", "/xl/worksheets/sheet2.xml", "A1:E10", 10, 5)
+        );
+
+        readFromExcelFormat(new File("src/test/resources/calculations.xlsx"), expected);
+    }
+
+    @Test
+    public void readSheetInfosFromXls() throws IOException {
+        final List<SheetInfo> expected = asList(
+            new SheetInfo("Explanatory note", 0, "visible", null, "A1:AK51", 51, 37),
+            new SheetInfo("SI calculations", 1, "visible", null, "A1:E10", 10, 5)
+        );
+
+        readFromExcelFormat(new File("src/test/resources/calculations.xls"), expected);
+    }
+
+    @Test
+    public void readHiddenSheetStates() {
+        final List<SheetInfo> expected = asList(
+            new SheetInfo("hidden 1", 0, "hidden", "/xl/worksheets/sheet1.xml", "A1", 1, 1),
+            new SheetInfo("Sheet1", 1, "visible", "/xl/worksheets/sheet2.xml", "A1:D6", 6, 4),
+            new SheetInfo("Sheet3", 2, "hidden", "/xl/worksheets/sheet3.xml", "A1", 1, 1)
+        );
+
+        assertEquals(expected, Poiji.fromExcel().withSource(new File("src/test/resources/hidden.xlsx")).readSheetInfos());
+    }
+
+    @Test
+    public void countRowsWithoutDimension() {
+        final List<SheetInfo> expected = asList(
+            new SheetInfo("Sheet1", 0, "visible", "/xl/worksheets/sheet1.xml", null, 4, SheetInfo.UNKNOWN)
+        );
+
+        assertEquals(
+            expected, Poiji.fromExcel().withSource(new File("src/test/resources/employees.xlsx")).readSheetInfos()
+        );
+    }
+
+    private void readFromExcelFormat(File file, List<SheetInfo> expected) throws IOException {
+        assertEquals(expected, Poiji.fromExcel().withSource(file).readSheetInfos());
+
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            final PoijiExcelType excelType = PoijiExcelType.fromFileName(file.getName());
+            assertEquals(expected, Poiji.fromExcel().withSource(inputStream, excelType).readSheetInfos());
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.poiji.deserialize;
 
 import com.poiji.bind.Poiji;
+import com.poiji.bind.mapping.PoijiLogCellFormat;
 import com.poiji.deserialize.model.byid.ConfigPerson;
 import com.poiji.deserialize.model.byid.Person;
+import com.poiji.exception.PoijiExcelType;
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
 import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -54,6 +61,46 @@ public class ReadUptoLimitTest {
 		assertEquals(2, personListFromHSSF.size());
 	}
 
+	@Test
+	public void limitStopsReadingSheet() {
+		for (boolean sheetScanner : new boolean[]{false, true}) {
+			PoijiLogCellFormat log = new PoijiLogCellFormat();
+			PoijiOptions options = PoijiOptionsBuilder.settings().limit(2).sheetScanner(sheetScanner)
+				.poijiLogCellFormat(log).build();
+
+			List<Person> persons = Poiji.fromExcel(new File("src/test/resources/person.xlsx"), Person.class, options);
+
+			assertEquals(2, persons.size());
+			int lastRow = log.formats().stream().mapToInt(format -> format.getCellAddress().getRow()).max().orElse(-1);
+			assertEquals(2, lastRow);
+		}
+	}
+
+	@Test
+	public void limitCountsContentRowsOfCsv() throws IOException {
+		File file = File.createTempFile("poiji-limit", ".csv");
+		try {
+			StringBuilder lines = new StringBuilder();
+			for (String line : Files.readAllLines(new File("src/test/resources/person.csv").toPath())) {
+				lines.append(line).append("\n\n");
+			}
+			Files.write(file.toPath(), lines.toString().getBytes(StandardCharsets.UTF_8));
+			PoijiOptions options = PoijiOptionsBuilder.settings().limit(3).build();
+
+			List<Person> fromFile = Poiji.fromExcel(file, Person.class, options);
+			List<Person> fromStream;
+			try (InputStream stream = new FileInputStream(file)) {
+				fromStream = Poiji.fromExcel(stream, PoijiExcelType.CSV, Person.class, options);
+			}
+
+			List<Person> expected = Poiji.fromExcel(file, Person.class).subList(0, 3);
+			assertEquals(expected.toString(), fromFile.toString());
+			assertEquals(expected.toString(), fromStream.toString());
+		} finally {
+			file.delete();
+		}
+	}
+
 	@Test(expected = PoijiException.class)
 	public void negativeLimitOptionThrowsException() {
 
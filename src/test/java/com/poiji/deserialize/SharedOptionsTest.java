@@ -0,0 +1,92 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.bind.mapping.PoijiLogCellFormat;
+import com.poiji.bind.mapping.ReadContext;
+import com.poiji.config.DefaultCasting;
+import com.poiji.deserialize.model.WriteEntity;
+import com.poiji.option.PoijiOptions;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SharedOptionsTest {
+
+    private static final File FILE = new File("src/test/resources/excelParseException.xlsx");
+    private static final int READS = 16;
+
+    @Test
+    public void readConcurrentlyWithSharedOptions() throws Exception {
+        final DefaultCasting singleCasting = new DefaultCasting(true);
+        final PoijiLogCellFormat singleLog = new PoijiLogCellFormat();
+        Poiji.fromExcel(FILE, WriteEntity.class, options(singleCasting, singleLog));
+
+        final DefaultCasting casting = new DefaultCasting(true);
+        final PoijiLogCellFormat log = new PoijiLogCellFormat();
+        final PoijiOptions options = options(casting, log);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<ReadContext>> reads = new ArrayList<>();
+            for (int i = 0; i < READS; i++) {
+                reads.add(pool.submit(() -> read(options)));
+            }
+            for (final Future<ReadContext> read : reads) {
+                final ReadContext context = read.get();
+                assertThat(context.getErrors().size(), equalTo(singleCasting.getErrors().size()));
+                assertThat(context.getCellFormats().size(), equalTo(singleLog.formats().size()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(casting.getErrors().isEmpty(), equalTo(true));
+        assertThat(log.formats().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void logErrorsIntoCastingOfEachRead() {
+        final DefaultCasting first = new DefaultCasting(true);
+        final DefaultCasting second = new DefaultCasting(true);
+        Poiji.fromExcel(FILE, WriteEntity.class, options(first, new PoijiLogCellFormat()));
+        final int errors = first.getErrors().size();
+        Poiji.fromExcel(FILE, WriteEntity.class, options(second, new PoijiLogCellFormat()));
+
+        assertThat(errors > 0, equalTo(true));
+        assertThat(first.getErrors().size(), equalTo(errors));
+        assertThat(second.getErrors().size(), equalTo(errors));
+    }
+
+    private static ReadContext read(final PoijiOptions options) {
+        final ReadContext context = new ReadContext();
+        final List<WriteEntity> entities = Poiji.<WriteEntity>fromExcel()
+            .withSource(FILE)
+            .withJavaType(WriteEntity.class)
+            .withOptions(options)
+            .withReadContext(context)
+            .toList();
+        final Map<String, Exception> exceptions = entities.get(0).getExceptions();
+        assertThat(exceptions.size(), equalTo(9));
+        assertThat(exceptions.get("Short").getMessage(), equalTo("For input string: \"-422s\""));
+        assertThat(exceptions.get("BigDecimal").getMessage(), equalTo("123.3456e2"));
+        return context;
+    }
+
+    private static PoijiOptions options(DefaultCasting casting, PoijiLogCellFormat log) {
+        return PoijiOptions.PoijiOptionsBuilder
+            .settings()
+            .datePattern("dd-MM-yyyy HH:mm:ss")
+            .preferNullOverDefault(true)
+            .withCasting(casting)
+            .poijiLogCellFormat(log)
+            .build();
+    }
+}
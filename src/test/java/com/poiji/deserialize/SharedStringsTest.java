@@ -0,0 +1,76 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.bind.mapping.PoijiSharedStrings;
+import com.poiji.deserialize.model.byid.Employee;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class SharedStringsTest {
+
+    private int cacheSize;
+
+    public SharedStringsTest(int cacheSize) {
+        super();
+        this.cacheSize = cacheSize;
+    }
+
+    @Parameters
+    public static Object[] cacheSizes() {
+        return new Object[]{0, 2, 1024};
+    }
+
+    @Test
+    public void shouldReadSharedStringsFromTempFile() {
+        File file = new File("src/test/resources/employees.xlsx");
+        PoijiOptions options = PoijiOptionsBuilder.settings()
+            .withSharedStrings(PoijiSharedStrings.tempFile(cacheSize))
+            .build();
+
+        List<Employee> expected = Poiji.fromExcel(file, Employee.class);
+        List<Employee> actual = Poiji.fromExcel(file, Employee.class, options);
+        List<Employee> streamed;
+        try (Stream<Employee> stream = Poiji.fromExcelToStream(file, Employee.class, options)) {
+            streamed = stream.collect(Collectors.toList());
+        }
+
+        assertThat(actual.toString(), is(expected.toString()));
+        assertThat(streamed.toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void shouldNotReadSharedStringsAfterClose() throws Exception {
+        try (OPCPackage open = OPCPackage.open(new File("src/test/resources/employees.xlsx"), PackageAccess.READ)) {
+            SharedStrings sharedStrings = PoijiSharedStrings.tempFile(cacheSize).create(open);
+            String first = sharedStrings.getItemAt(0).getString();
+            assertThat(sharedStrings.getItemAt(0).getString(), is(first));
+
+            ((Closeable) sharedStrings).close();
+            ((Closeable) sharedStrings).close();
+            try {
+                sharedStrings.getItemAt(0);
+                fail("closed shared strings are expected to be unreadable");
+            } catch (IllegalStateException expected) {
+                // the mapped segments are released on close
+            }
+        }
+    }
+}
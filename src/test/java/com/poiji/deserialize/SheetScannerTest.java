@@ -0,0 +1,128 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.bind.mapping.PoijiLogCellFormat;
+import com.poiji.deserialize.model.ListEntity;
+import com.poiji.deserialize.model.byid.Calculation;
+import com.poiji.deserialize.model.byid.Employee;
+import com.poiji.deserialize.model.byid.OrgWithUnknownCells;
+import com.poiji.deserialize.model.byid.Person;
+import com.poiji.deserialize.model.byname.CellFormatModel;
+import com.poiji.deserialize.model.byname.DateExcelColumn;
+import com.poiji.deserialize.model.byname.PersonByName;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class SheetScannerTest {
+
+    private String path;
+    private Class<?> type;
+
+    public SheetScannerTest(String path, Class<?> type) {
+        super();
+        this.path = path;
+        this.type = type;
+    }
+
+    @Parameters(name = "{0} {1}")
+    public static Object[][] excel() {
+        return new Object[][]{
+            {"src/test/resources/employees.xlsx", Employee.class},
+            {"src/test/resources/person.xlsx", Person.class},
+            {"src/test/resources/person.xlsx", PersonByName.class},
+            {"src/test/resources/calculations.xlsx", Calculation.class},
+            {"src/test/resources/employees_format.xlsx", CellFormatModel.class},
+            {"src/test/resources/dates-not-empty.xlsx", DateExcelColumn.class},
+            {"src/test/resources/unknown-cells.xlsx", OrgWithUnknownCells.class},
+            {"src/test/resources/excel-list.xlsx", ListEntity.class},
+        };
+    }
+
+    @Test
+    public void shouldReadLikeXmlParser() throws Exception {
+        assertSameRead(PoijiOptionsBuilder.settings());
+    }
+
+    @Test
+    public void shouldReadRawValuesLikeXmlParser() throws Exception {
+        assertSameRead(PoijiOptionsBuilder.settings().rawCellValues(true));
+    }
+
+    @Test
+    public void shouldLogCellFormatsLikeXmlParser() {
+        File file = new File(path);
+        PoijiLogCellFormat log = new PoijiLogCellFormat();
+        PoijiLogCellFormat scannerLog = new PoijiLogCellFormat();
+
+        Poiji.fromExcel(file, type, PoijiOptionsBuilder.settings().poijiLogCellFormat(log).build());
+        Poiji.fromExcel(file, type, PoijiOptionsBuilder.settings().poijiLogCellFormat(scannerLog).sheetScanner(true).build());
+
+        assertThat(scannerLog.formats().toString(), is(log.formats().toString()));
+    }
+
+    private void assertSameRead(PoijiOptionsBuilder builder) throws Exception {
+        File file = new File(path);
+        PoijiOptions options = builder.build();
+        PoijiOptions scannerOptions = builder.sheetScanner(true).build();
+
+        String expected = describe(Poiji.fromExcel(file, type, options));
+        String scanned = describe(Poiji.fromExcel(file, type, scannerOptions));
+        String streamed;
+        try (Stream<?> stream = Poiji.fromExcelToStream(file, type, scannerOptions)) {
+            streamed = describe(stream.collect(Collectors.toList()));
+        }
+
+        assertThat(scanned, is(expected));
+        assertThat(streamed, is(expected));
+    }
+
+    static String describe(Object value) throws IllegalAccessException {
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+            || value instanceof Enum || value.getClass().getName().startsWith("java.")
+            && !(value instanceof Collection) && !(value instanceof Map)) {
+            return String.valueOf(value);
+        }
+        if (value instanceof Collection) {
+            StringBuilder result = new StringBuilder("[");
+            for (Object element : (Collection<?>) value) {
+                result.append(describe(element)).append(", ");
+            }
+            return result.append(']').toString();
+        }
+        if (value instanceof Map) {
+            Map<String, String> entries = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                entries.put(String.valueOf(entry.getKey()), describe(entry.getValue()));
+            }
+            return entries.toString();
+        }
+        StringBuilder result = new StringBuilder(value.getClass().getSimpleName()).append('{');
+        for (Class<?> current = value.getClass(); current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                result.append(field.getName()).append('=').append(describe(field.get(value))).append(", ");
+            }
+        }
+        return result.append('}').toString();
+    }
+}
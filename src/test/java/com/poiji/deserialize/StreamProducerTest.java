@@ -0,0 +1,98 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.config.DefaultCasting;
+import com.poiji.deserialize.model.byid.Employee;
+import com.poiji.deserialize.model.byname.PersonByNameWithMissingColumn;
+import com.poiji.exception.HeaderMissingException;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class StreamProducerTest {
+
+    private static final File EMPLOYEES = new File("src/test/resources/employees.xlsx");
+
+    @Test
+    public void shouldReadRowsOnConsumingThread() {
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        PoijiOptions options = PoijiOptionsBuilder.settings()
+            .withCasting(new DefaultCasting() {
+                @Override
+                public Object castValue(Field field, String rawValue, int row, int col, PoijiOptions options) {
+                    threads.add(Thread.currentThread());
+                    return super.castValue(field, rawValue, row, col, options);
+                }
+            })
+            .build();
+
+        List<Employee> streamed;
+        try (Stream<Employee> stream = Poiji.fromExcelToStream(EMPLOYEES, Employee.class, options)) {
+            streamed = stream.collect(Collectors.toList());
+        }
+
+        assertThat(streamed.toString(), is(Poiji.fromExcel(EMPLOYEES, Employee.class).toString()));
+        assertThat(threads, is(Collections.singleton(Thread.currentThread())));
+    }
+
+    @Test
+    public void shouldParseOnGivenExecutor() throws Exception {
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        PoijiOptions options = PoijiOptionsBuilder.settings()
+            .withExecutor(task -> {
+                tasks.incrementAndGet();
+                pool.execute(task);
+            })
+            .build();
+
+        List<Employee> streamed;
+        try (Stream<Employee> stream = Poiji.fromExcelToStream(EMPLOYEES, Employee.class, options)) {
+            streamed = stream.collect(Collectors.toList());
+        }
+
+        assertThat(streamed.toString(), is(Poiji.fromExcel(EMPLOYEES, Employee.class).toString()));
+        assertThat(tasks.get(), is(1));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldStopParseOnClose() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        PoijiOptions options = PoijiOptionsBuilder.settings().withExecutor(pool).build();
+
+        try (Stream<Employee> stream = Poiji.fromExcelToStream(EMPLOYEES, Employee.class, options)) {
+            assertTrue(stream.findFirst().isPresent());
+        }
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = HeaderMissingException.class)
+    public void shouldThrowParseFailureToConsumer() {
+        PoijiOptions options = PoijiOptionsBuilder.settings().namedHeaderMandatory(true).build();
+
+        try (Stream<PersonByNameWithMissingColumn> stream = Poiji.fromExcelToStream(
+            new File("src/test/resources/person.xlsx"), PersonByNameWithMissingColumn.class, options)) {
+            stream.count();
+        }
+    }
+}
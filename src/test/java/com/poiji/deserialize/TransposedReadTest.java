@@ -0,0 +1,101 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.deserialize.model.WriteEntity;
+import com.poiji.exception.PoijiExcelType;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TransposedReadTest {
+
+    private File file;
+    private List<WriteEntity> expected;
+
+    @Before
+    public void writeFile() throws Exception {
+        file = File.createTempFile("poiji-transposed", ".xlsx");
+        expected = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            expected.add(new WriteEntity()
+                .setPrimitiveLong(i)
+                .setText("text " + i)
+                .setPrimitiveDouble(i / 4.0)
+                .setBigDecimal(new BigDecimal(i + ".25"))
+                .setLocalDate(LocalDate.of(2020, 1, 1).plusDays(i)));
+        }
+        Poiji.toExcel(file, WriteEntity.class, expected, settings().build());
+    }
+
+    @After
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void shouldReadColumnsAsRows() {
+        assertThat(describe(Poiji.fromExcel(file, WriteEntity.class, settings().build())), is(expected.toString()));
+    }
+
+    @Test
+    public void shouldReadStreamSource() throws Exception {
+        try (InputStream stream = new FileInputStream(file)) {
+            List<WriteEntity> read =
+                Poiji.fromExcel(stream, PoijiExcelType.XLSX, WriteEntity.class, settings().build());
+            assertThat(describe(read), is(expected.toString()));
+        }
+    }
+
+    @Test
+    public void shouldSpillColumnsToFile() {
+        PoijiOptions options = settings().transposedBufferSize(256).build();
+
+        List<WriteEntity> read;
+        try (Stream<WriteEntity> stream = Poiji.fromExcelToStream(file, WriteEntity.class, options)) {
+            read = stream.collect(Collectors.toList());
+        }
+
+        assertThat(describe(read), is(expected.toString()));
+    }
+
+    @Test
+    public void shouldWriteStreamWithSpilledColumns() {
+        Poiji.toExcel(file, WriteEntity.class, expected.stream(), settings().transposedBufferSize(256).build());
+
+        assertThat(describe(Poiji.fromExcel(file, WriteEntity.class, settings().build())), is(expected.toString()));
+    }
+
+    @Test
+    public void shouldScanTransposedSheet() {
+        PoijiOptions options = settings().sheetScanner(true).skip(10).limit(5).build();
+
+        assertThat(
+            describe(Poiji.fromExcel(file, WriteEntity.class, options)), is(expected.subList(10, 15).toString())
+        );
+    }
+
+    private static PoijiOptionsBuilder settings() {
+        return PoijiOptionsBuilder.settings().setTransposed(true).preferNullOverDefault(true);
+    }
+
+    private static String describe(List<WriteEntity> read) {
+        read.forEach(writeEntity -> writeEntity.setUnknown(new HashMap<>()));
+        return read.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.bind.PoijiWorkbook;
+import com.poiji.bind.SheetInfo;
+import com.poiji.deserialize.model.Student;
+import com.poiji.deserialize.model.byid.Employee;
+import com.poiji.deserialize.property.model.PropertyEntity;
+import com.poiji.exception.InvalidExcelFileExtension;
+import com.poiji.exception.PoijiExcelType;
+import com.poiji.exception.PoijiException;
+import com.poiji.option.PoijiOptions;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.poiji.util.Data.unmarshallingDeserialize;
+import static com.poiji.util.Data.unmarshallingStudents;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class WorkbookSessionTest {
+
+    @Test
+    public void readManyTimesFromOneWorkbook() {
+        try (PoijiWorkbook workbook = Poiji.openWorkbook(new File("src/test/resources/student.xlsx"))) {
+            final List<SheetInfo> sheetInfos = Poiji.fromExcel().withSource(workbook).readSheetInfos();
+            assertEquals(asNames(sheetInfos), Poiji.fromExcel().withSource(workbook).readSheetNames());
+
+            assertEquals(unmarshallingStudents(), readStudents(workbook));
+            try (Stream<Student> stream = Poiji.<Student>fromExcel().withSource(workbook).withJavaType(Student.class).toStream()) {
+                assertEquals(unmarshallingStudents(), stream.collect(Collectors.toList()));
+            }
+            assertEquals(unmarshallingStudents(), readStudents(workbook));
+            assertEquals(sheetInfos, Poiji.fromExcel().withSource(workbook).readSheetInfos());
+        }
+    }
+
+    @Test
+    public void readFromSeveralThreads() throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try (PoijiWorkbook workbook = Poiji.openWorkbook(new File("src/test/resources/student.xlsx"))) {
+            final List<Future<List<Student>>> reads = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                reads.add(pool.submit(() -> readStudents(workbook)));
+            }
+            for (final Future<List<Student>> read : reads) {
+                assertEquals(unmarshallingStudents(), read.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void readEncryptedWorkbook() throws IOException {
+        final PoijiOptions options = PoijiOptions.PoijiOptionsBuilder.settings().password("1234").build();
+        final File file = new File("src/test/resources/employees-password.xlsx");
+        try (PoijiWorkbook workbook = Poiji.openWorkbook(file, options)) {
+            assertEmployees(workbook);
+            assertEmployees(workbook);
+        }
+        try (InputStream inputStream = Files.newInputStream(file.toPath());
+             PoijiWorkbook workbook = Poiji.openWorkbook(inputStream, PoijiExcelType.XLSX, options)) {
+            assertEmployees(workbook);
+        }
+    }
+
+    @Test
+    public void readProperties() {
+        try (PoijiWorkbook workbook = Poiji.openWorkbook(new File("src/test/resources/core_properties_set.xlsx"))) {
+            for (int i = 0; i < 2; i++) {
+                final PropertyEntity properties = Poiji.<PropertyEntity>fromExcelProperties()
+                    .withSource(workbook)
+                    .withJavaType(PropertyEntity.class)
+                    .get();
+                assertThat(properties.getTitle(), is("TestTitle"));
+                assertThat(properties.getCustomProperty(), is("customValue"));
+            }
+        }
+    }
+
+    @Test(expected = PoijiException.class)
+    public void failToReadClosedWorkbook() {
+        final PoijiWorkbook workbook = Poiji.openWorkbook(new File("src/test/resources/student.xlsx"));
+        workbook.close();
+        readStudents(workbook);
+    }
+
+    @Test(expected = InvalidExcelFileExtension.class)
+    public void failToOpenXls() {
+        Poiji.openWorkbook(new File("src/test/resources/student.xls"));
+    }
+
+    private static List<Student> readStudents(PoijiWorkbook workbook) {
+        return Poiji.<Student>fromExcel().withSource(workbook).withJavaType(Student.class).toList();
+    }
+
+    private static void assertEmployees(PoijiWorkbook workbook) {
+        final List<Employee> actual = Poiji.<Employee>fromExcel().withSource(workbook).withJavaType(Employee.class).toList();
+        final List<Employee> expected = unmarshallingDeserialize();
+        assertThat(actual.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).toString(), is(expected.get(i).toString()));
+        }
+    }
+
+    private static List<String> asNames(List<SheetInfo> sheetInfos) {
+        return sheetInfos.stream().map(SheetInfo::getSheetName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,85 @@
+package com.poiji.deserialize;
+
+import com.poiji.bind.Poiji;
+import com.poiji.deserialize.model.ListEntity;
+import com.poiji.deserialize.model.byid.Calculation;
+import com.poiji.deserialize.model.byid.Employee;
+import com.poiji.deserialize.model.byid.OrgWithUnknownCells;
+import com.poiji.deserialize.model.byid.Person;
+import com.poiji.deserialize.model.byname.CellFormatModel;
+import com.poiji.deserialize.model.byname.PersonByName;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.poiji.deserialize.SheetScannerTest.describe;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class XlsEventReaderTest {
+
+    private final String path;
+    private final Class<?> type;
+    private final String password;
+
+    public XlsEventReaderTest(String path, Class<?> type, String password) {
+        this.path = path;
+        this.type = type;
+        this.password = password;
+    }
+
+    @Parameters(name = "{0} {1}")
+    public static Object[][] excel() {
+        return new Object[][]{
+            {"src/test/resources/employees.xls", Employee.class, null},
+            {"src/test/resources/employees-password.xls", Employee.class, "9876"},
+            {"src/test/resources/person.xls", Person.class, null},
+            {"src/test/resources/person.xls", PersonByName.class, null},
+            {"src/test/resources/hidden.xls", Person.class, null},
+            {"src/test/resources/calculations.xls", Calculation.class, null},
+            {"src/test/resources/employees_format.xls", CellFormatModel.class, null},
+            {"src/test/resources/unknown-cells.xls", OrgWithUnknownCells.class, null},
+            {"src/test/resources/excel-list.xls", ListEntity.class, null},
+        };
+    }
+
+    @Test
+    public void shouldReadLikeWorkbook() throws Exception {
+        assertSameRead(PoijiOptionsBuilder.settings());
+    }
+
+    @Test
+    public void shouldSkipAndLimitLikeWorkbook() throws Exception {
+        assertSameRead(PoijiOptionsBuilder.settings().skip(1).limit(2));
+    }
+
+    @Test
+    public void shouldSelectVisibleSheetLikeWorkbook() throws Exception {
+        assertSameRead(PoijiOptionsBuilder.settings().ignoreHiddenSheets(true));
+    }
+
+    private void assertSameRead(PoijiOptionsBuilder builder) throws Exception {
+        File file = new File(path);
+        PoijiOptions options = builder.password(password).build();
+        PoijiOptions eventOptions = builder.xlsEventReader(true).build();
+
+        String expected = describe(Poiji.fromExcel(file, type, options));
+        String read = describe(Poiji.fromExcel(file, type, eventOptions));
+        String streamed;
+        try (Stream<?> stream = Poiji.fromExcelToStream(file, type, eventOptions)) {
+            streamed = describe(stream.collect(Collectors.toList()));
+        }
+
+        assertThat(expected.equals("[]"), is(path.contains("hidden") && !options.ignoreHiddenSheets()));
+        assertThat(read, is(expected));
+        assertThat(streamed, is(expected));
+    }
+}
@@ -0,0 +1,132 @@
+package com.poiji.deserialize;
+
+import com.poiji.annotation.ExcelCell;
+import com.poiji.bind.Poiji;
+import com.poiji.exception.PoijiExcelType;
+import com.poiji.option.PoijiOptions;
+import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.util.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class XlsEventRecordsTest {
+
+    private static final int ROWS = 2000;
+    private static final PoijiOptions EVENT_OPTIONS = PoijiOptionsBuilder.settings().xlsEventReader(true).build();
+
+    private byte[] content;
+
+    @Before
+    public void createWorkbook() throws IOException {
+        try (HSSFWorkbook workbook = new HSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Label");
+            header.createCell(2).setCellValue("Amount");
+            FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+            for (int i = 1; i <= ROWS; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("name" + i);
+                Cell label = row.createCell(1);
+                label.setCellFormula("A" + (i + 1) + "&\"!\"");
+                evaluator.evaluateFormulaCell(label);
+                row.createCell(2).setCellValue(i);
+            }
+            workbook.write(out);
+            content = out.toByteArray();
+        }
+    }
+
+    @Test
+    public void shouldReadCachedFormulaStrings() {
+        List<Line> lines = Poiji.fromExcel(xls(content), PoijiExcelType.XLS, Line.class, EVENT_OPTIONS);
+
+        assertThat(lines.size(), is(ROWS));
+        assertThat(lines.get(0).toString(), is("name1|name1!|1"));
+        assertThat(lines.get(ROWS - 1).toString(), is("name2000|name2000!|2000"));
+    }
+
+    @Test
+    public void shouldStopBeforeRecordsAfterLimit() throws IOException {
+        byte[] truncated = truncateWorkbookStream();
+        try {
+            Poiji.fromExcel(xls(truncated), PoijiExcelType.XLS, Line.class, EVENT_OPTIONS);
+            fail("the records at the end of the sheet are expected to be missing");
+        } catch (RuntimeException expected) {
+            // the truncated record stream can't be read to the end
+        }
+
+        PoijiOptions options = PoijiOptionsBuilder.settings().xlsEventReader(true).limit(3).build();
+        List<Line> limited = Poiji.fromExcel(xls(truncated), PoijiExcelType.XLS, Line.class, options);
+        List<String> streamed;
+        try (Stream<Line> stream = Poiji.fromExcelToStream(xls(truncated), PoijiExcelType.XLS, Line.class,
+            EVENT_OPTIONS)) {
+            streamed = stream.limit(3).map(Line::toString).collect(Collectors.toList());
+        }
+
+        List<String> expected = Arrays.asList("name1|name1!|1", "name2|name2!|2", "name3|name3!|3");
+        assertThat(limited.stream().map(Line::toString).collect(Collectors.toList()), is(expected));
+        assertThat(streamed, is(expected));
+    }
+
+    /**
+     * @return the workbook with the last quarter of its record stream cut off, which holds the cells of the last rows
+     */
+    private byte[] truncateWorkbookStream() throws IOException {
+        byte[] records;
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(xls(content));
+             InputStream workbook = fileSystem.createDocumentInputStream(
+                 HSSFWorkbook.getWorkbookDirEntryName(fileSystem.getRoot()))) {
+            records = IOUtils.toByteArray(workbook);
+        }
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            fileSystem.createDocument(
+                new ByteArrayInputStream(Arrays.copyOf(records, records.length - records.length / 4)), "Workbook"
+            );
+            fileSystem.writeFilesystem(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static InputStream xls(byte[] bytes) {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    public static class Line {
+
+        @ExcelCell(0)
+        private String name;
+
+        @ExcelCell(1)
+        private String label;
+
+        @ExcelCell(2)
+        private int amount;
+
+        @Override
+        public String toString() {
+            return name + "|" + label + "|" + amount;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.poiji.deserialize.model.byid;
+
+import com.poiji.annotation.ExcelCell;
+import com.poiji.annotation.ExcelRow;
+
+public class EmployeeName {
+
+    @ExcelRow
+    private int row;
+
+    @ExcelCell(1)
+    private String name;
+
+    public int getRow() {
+        return row;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -39,6 +39,10 @@ public class Person {
         this.name = name;
     }
 
+    public String getAddress() {
+        return address;
+    }
+
     public void setAddress(String address) {
         this.address = address;
     }
@@ -0,0 +1,99 @@
+package com.poiji.util;
+
+import com.poiji.parser.DateParser;
+import com.poiji.parser.LocalDateParser;
+import com.poiji.parser.LocalDateTimeParser;
+import com.poiji.parser.Parsers;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+
+import static com.poiji.util.PoijiConstants.DEFAULT_DATE_FORMATTER;
+import static com.poiji.util.PoijiConstants.DEFAULT_DATE_TIME_FORMATTER;
+import static org.junit.Assert.assertEquals;
+
+public class DateParsersTest {
+
+    private static final List<String> INVALID = Arrays.asList(
+        "", "1/2/2020", "31/4/2020", "29/2/2021", "00/12/2020", "12/13/2020", "12/0/2020", "12/12/20", "12/12/02020",
+        "12/12/2020 ", "2020-02-30", "2020-1-05", "2020-01-05x", "0000-01-01", "12/12/2020 24:00:00",
+        "12/12/2020 23:60:00", "12/12/2020 23:59", "2020-12-12T23:59", "2020-12-12t23:59:59", "-2020-12-12"
+    );
+
+    @Test
+    public void parseDatesLikeSimpleDateFormat() throws Exception {
+        final TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            for (final String zone : Arrays.asList("UTC", "Europe/Amsterdam", "America/Sao_Paulo", "Asia/Tehran")) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                for (final String pattern : Arrays.asList("dd/M/yyyy", "yyyy-MM-dd", "dd/MM/yyyy HH:mm:ss")) {
+                    for (final boolean lenient : new boolean[]{false, true}) {
+                        final DateParser parser = Parsers.dates(pattern, lenient);
+                        final SimpleDateFormat format = new SimpleDateFormat(pattern);
+                        format.setLenient(lenient);
+                        for (final String value : values(DateTimeFormatter.ofPattern(pattern))) {
+                            assertEquals(
+                                zone + " " + pattern + " " + value,
+                                result(() -> format.parse(value)), result(() -> parser.parse(value))
+                            );
+                        }
+                    }
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void parseLocalDatesLikeFormatter() {
+        for (final DateTimeFormatter formatter : Arrays.asList(
+            DEFAULT_DATE_FORMATTER, DateTimeFormatter.ofPattern("dd/MM/yyyy"), DateTimeFormatter.ISO_LOCAL_DATE
+        )) {
+            final LocalDateParser parser = Parsers.localDates(formatter);
+            for (final String value : values(formatter)) {
+                assertEquals(value, result(() -> LocalDate.parse(value, formatter)), result(() -> parser.parse(value)));
+            }
+        }
+    }
+
+    @Test
+    public void parseLocalDateTimesLikeFormatter() {
+        for (final DateTimeFormatter formatter : Arrays.asList(
+            DEFAULT_DATE_TIME_FORMATTER, DateTimeFormatter.ISO_LOCAL_DATE_TIME, DEFAULT_DATE_FORMATTER
+        )) {
+            final LocalDateTimeParser parser = Parsers.localDateTimes(formatter);
+            for (final String value : values(formatter)) {
+                assertEquals(
+                    value, result(() -> LocalDateTime.parse(value, formatter)), result(() -> parser.parse(value))
+                );
+            }
+        }
+    }
+
+    private static List<String> values(final DateTimeFormatter formatter) {
+        final List<String> values = new ArrayList<>(INVALID);
+        for (LocalDateTime dateTime = LocalDateTime.of(1890, 1, 1, 0, 0);
+             dateTime.getYear() < 2060;
+             dateTime = dateTime.plusHours(47)) {
+            values.add(formatter.format(dateTime));
+        }
+        return values;
+    }
+
+    private static Object result(final Callable<?> parse) {
+        try {
+            return parse.call();
+        } catch (Exception e) {
+            return e.getClass();
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.poiji.util;
 
+import com.poiji.annotation.ExcelEnum;
+import com.poiji.annotation.ExcelEnumAlias;
+import com.poiji.config.CastResult;
+import com.poiji.config.CellDecoder;
 import com.poiji.config.DefaultCasting;
+import com.poiji.config.RawCellDecoder;
 import com.poiji.exception.PoijiException;
 import com.poiji.option.PoijiOptions;
 import com.poiji.option.PoijiOptions.PoijiOptionsBuilder;
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
@@ -209,6 +215,22 @@ public class DefaultCastingTest {
         assertEquals(TestEnum.ITEM1, testEnum);
     }
 
+    @Test
+    public void castEnumAlias() {
+
+        assertEquals(AliasEnum.ITEM2, casting.castValue(AliasEnum.class, "second", options));
+        assertEquals(AliasEnum.ITEM2, casting.castValue(AliasEnum.class, "Second", options));
+        assertEquals(AliasEnum.ITEM1, casting.castValue(AliasEnum.class, "item1", options));
+        assertNull(casting.castValue(TestEnum.class, "item1", options));
+        assertNotNull(casting.getException());
+    }
+
+    @Test(expected = PoijiException.class)
+    public void castAmbiguousEnum() {
+
+        casting.castValue(AmbiguousEnum.class, "ITEM1", options);
+    }
+
     @Test
     public void castBigDecimal() {
 
@@ -217,6 +239,118 @@ public class DefaultCastingTest {
         assertEquals(BigDecimal.valueOf(81.56891), testVal);
     }
 
+    @Test
+    public void decoderCastsLikeCastValue() throws Exception {
+        PoijiOptions options = PoijiOptionsBuilder.settings().trimCellValue(true).build();
+        DefaultCasting defaultCasting = new DefaultCasting();
+
+        CellDecoder decoder = defaultCasting.decoder(Decoded.class.getDeclaredField("amount"), options);
+
+        CastResult result = new CastResult();
+
+        assertEquals(12, decoder.decode(" 12 ", 1, 1, result));
+        assertNull(result.getException());
+        assertEquals(0, decoder.decode("a12", 1, 1, result));
+        assertNotNull(result.getException());
+        assertNull(defaultCasting.getException());
+    }
+
+    @Test
+    public void decoderOfCustomizedCastingUsesGetValueObject() throws Exception {
+        MyConfig config = new MyConfig() {
+            @Override
+            protected Object getValueObject(Field field, int row, int col, PoijiOptions options, String rawValue, Class<?> fieldType) {
+                return "custom";
+            }
+        };
+
+        CellDecoder decoder = config.decoder(Decoded.class.getDeclaredField("amount"), options);
+
+        assertEquals("custom", decoder.decode("12", 1, 1, new CastResult()));
+    }
+
+    @Test
+    public void rawDecoderRejectsFractionalAndOutOfRangeValues() throws Exception {
+        PoijiOptions options = PoijiOptionsBuilder.settings().preferNullOverDefault(true).build();
+        DefaultCasting defaultCasting = new DefaultCasting();
+        RawCellDecoder amount = defaultCasting.rawDecoder(Decoded.class.getDeclaredField("amount"), options);
+        RawCellDecoder count = defaultCasting.rawDecoder(Decoded.class.getDeclaredField("count"), options);
+        RawCellDecoder level = defaultCasting.rawDecoder(Decoded.class.getDeclaredField("level"), options);
+        RawCellDecoder ratio = defaultCasting.rawDecoder(Decoded.class.getDeclaredField("ratio"), options);
+        CastResult result = new CastResult();
+
+        assertEquals(12, amount.decode('n', "12", false, 1, 1, result));
+        assertNull(result.getException());
+        assertEquals(0, amount.decode('n', "12.5", false, 1, 1, result));
+        assertNotNull(result.getException());
+        assertEquals(0, amount.decode('n', "3000000000", false, 1, 1, result));
+        assertNotNull(result.getException());
+        assertNull(count.decode('n', "1e20", false, 1, 1, result));
+        assertNotNull(result.getException());
+        assertEquals((byte) -128, level.decode('n', "-128", false, 1, 1, result));
+        assertNull(result.getException());
+        assertEquals((byte) 0, level.decode('n', "200", false, 1, 1, result));
+        assertNotNull(result.getException());
+        assertNull(ratio.decode('n', "1e39", false, 1, 1, result));
+        assertNotNull(result.getException());
+    }
+
+    @Test
+    public void decodersOfPrimitiveNumbersDecodeUnboxed() throws Exception {
+        PoijiOptions options = PoijiOptionsBuilder.settings().rawCellValues(true).build();
+        DefaultCasting defaultCasting = new DefaultCasting();
+        CellDecoder.OfLong amount =
+            (CellDecoder.OfLong) defaultCasting.decoder(Decoded.class.getDeclaredField("amount"), options);
+        CellDecoder.OfDouble share =
+            (CellDecoder.OfDouble) defaultCasting.decoder(Decoded.class.getDeclaredField("share"), options);
+        RawCellDecoder.OfLong rawLevel =
+            (RawCellDecoder.OfLong) defaultCasting.rawDecoder(Decoded.class.getDeclaredField("level"), options);
+        RawCellDecoder.OfDouble rawShare =
+            (RawCellDecoder.OfDouble) defaultCasting.rawDecoder(Decoded.class.getDeclaredField("share"), options);
+        CastResult result = new CastResult();
+
+        assertEquals(12L, amount.decodeLong("12", 1, 1, result));
+        assertEquals(12, amount.decode("12", 1, 1, result));
+        assertEquals(0L, amount.decodeLong("a12", 1, 1, result));
+        assertNotNull(result.getException());
+        assertEquals(2.5f, share.decodeDouble("2.5", 1, 1, result), 0);
+        assertEquals(2.5f, share.decode("2.5", 1, 1, result));
+        assertEquals(-128L, rawLevel.decodeLong('n', "-128", false, 1, 1, result));
+        assertEquals((byte) -128, rawLevel.decode('n', "-128", false, 1, 1, result));
+        assertEquals(0L, rawLevel.decodeLong('n', "200", false, 1, 1, result));
+        assertNotNull(result.getException());
+        assertEquals(0.25, rawShare.decodeDouble('n', "0.25", false, 1, 1, result), 0);
+        assertEquals(0.25f, rawShare.decode('n', "0.25", false, 1, 1, result));
+    }
+
+    @Test
+    public void decoderLooksUpEnumsAndBooleans() throws Exception {
+        DefaultCasting defaultCasting = new DefaultCasting();
+        CellDecoder alias = defaultCasting.decoder(Decoded.class.getDeclaredField("alias"), options);
+        CellDecoder flag = defaultCasting.decoder(Decoded.class.getDeclaredField("flag"), options);
+        CastResult result = new CastResult();
+
+        assertEquals(AliasEnum.ITEM2, alias.decode("TwO", 1, 1, result));
+        assertNull(result.getException());
+        assertNull(alias.decode("three", 1, 1, result));
+        assertEquals(IllegalArgumentException.class, result.getException().getClass());
+        assertEquals("No enumeration AliasEnum.three", result.getException().getMessage());
+        assertEquals(true, flag.decode(" tRuE\t", 1, 1, result));
+        assertNull(result.getException());
+        assertEquals(false, flag.decode("yes", 1, 1, result));
+        assertEquals("Can't parse value to Boolean: yes", result.getException().getMessage());
+    }
+
+    static class Decoded {
+        private int amount;
+        private Long count;
+        private byte level;
+        private Float ratio;
+        private float share;
+        private AliasEnum alias;
+        private boolean flag;
+    }
+
     static class MyConfig extends DefaultCasting {
         Object castValue(Class<?> fieldType, String value, PoijiOptions options) {
             return getValueObject(null, -1, -1, options, value, fieldType);
@@ -227,6 +361,19 @@ public class DefaultCastingTest {
         ITEM1, ITEM2
     }
 
+    @ExcelEnum(ignoreCase = true)
+    private enum AliasEnum {
+        ITEM1,
+        @ExcelEnumAlias({"second", "two"})
+        ITEM2
+    }
+
+    private enum AmbiguousEnum {
+        ITEM1,
+        @ExcelEnumAlias("ITEM1")
+        ITEM2
+    }
+
     @Test
     //ISSUE #55 : additional functionality, trim string values
     public void trimStringDefault() {
@@ -0,0 +1,74 @@
+package com.poiji.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class FieldAccessorTest {
+
+    @Test
+    public void setPrimitiveFields() throws Exception {
+        Model model = new Model();
+        FieldAccessor.of(Model.class.getDeclaredField("count")).setInt(model, 7);
+        FieldAccessor.of(Model.class.getDeclaredField("amount")).setDouble(model, 1.5);
+        FieldAccessor.of(Model.class.getDeclaredField("active")).setBoolean(model, true);
+
+        assertEquals(7, model.count);
+        assertEquals(1.5, model.amount, 0);
+        assertTrue(model.active);
+    }
+
+    @Test
+    public void setObjectFields() throws Exception {
+        Model model = new Model();
+        FieldAccessor.of(Model.class.getDeclaredField("name")).set(model, "poiji");
+        FieldAccessor.of(Model.class.getDeclaredField("id")).set(model, 5);
+
+        assertEquals("poiji", model.name);
+        assertEquals(5L, model.id);
+        assertEquals("poiji", FieldAccessor.of(Model.class.getDeclaredField("name")).get(model));
+    }
+
+    @Test
+    public void accessFinalField() throws Exception {
+        Model model = new Model();
+        FieldAccessor.of(Model.class.getDeclaredField("code")).set(model, "new");
+
+        assertEquals("new", FieldAccessor.of(Model.class.getDeclaredField("code")).get(model));
+    }
+
+    @Test
+    public void createInstances() throws Exception {
+        assertNotNull(Instantiator.of(PublicModel.class.getConstructor()).newInstance());
+        assertNotNull(Instantiator.of(Model.class.getDeclaredConstructor()).newInstance());
+
+        PublicModel model = (PublicModel) Instantiator.of(PublicModel.class.getConstructor(String.class, int.class))
+            .newInstance(new Object[]{"poiji", 3});
+        assertEquals("poiji", model.name);
+        assertEquals(3, model.count);
+    }
+
+    private static class Model {
+        private int count;
+        private double amount;
+        private boolean active;
+        private long id;
+        private String name;
+        private final String code = String.valueOf("old");
+    }
+
+    public static class PublicModel {
+        private String name;
+        private int count;
+
+        public PublicModel() {
+        }
+
+        public PublicModel(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+}